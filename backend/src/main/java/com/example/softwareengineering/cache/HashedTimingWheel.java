@@ -0,0 +1,93 @@
+package com.example.softwareengineering.cache;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 해시 타이밍 휠. 만료 시각을 tick 단위 버킷에 나눠 담고,
+ * 매 tick마다 해당 버킷만 확인하므로 항목 수와 관계없이 만료 처리 비용이 일정하다.
+ * 휠 한 바퀴보다 긴 만료는 deadlineTick 비교로 다음 바퀴까지 버킷에 남는다.
+ */
+public class HashedTimingWheel<T> {
+    private final long tickMs;
+    private final int mask;
+    private final List<ConcurrentLinkedQueue<Slot<T>>> buckets;
+    private final Consumer<T> onExpire;
+    private final long startMillis;
+    private volatile long currentTick;
+    private ScheduledExecutorService ticker;
+
+    private record Slot<T>(T item, long deadlineTick) {}
+
+    public HashedTimingWheel(long tickMs, int wheelSize, Consumer<T> onExpire) {
+        if (tickMs <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMs와 wheelSize는 0보다 커야 합니다.");
+        }
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        if (size <= 0) {
+            size = 1;
+        }
+        this.tickMs = tickMs;
+        this.mask = size - 1;
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new ConcurrentLinkedQueue<>());
+        }
+        this.onExpire = onExpire;
+        this.startMillis = System.currentTimeMillis();
+    }
+
+    public void schedule(T item, long delayMs) {
+        long elapsed = System.currentTimeMillis() - startMillis;
+        long deadlineTick = Math.max((elapsed + delayMs + tickMs - 1) / tickMs, currentTick + 1);
+        buckets.get((int) (deadlineTick & mask)).add(new Slot<>(item, deadlineTick));
+    }
+
+    // nowMillis까지 지난 tick을 모두 처리 (tick 스레드가 밀렸을 때도 따라잡음)
+    public synchronized void advanceTo(long nowMillis) {
+        long targetTick = (nowMillis - startMillis) / tickMs;
+        while (currentTick < targetTick) {
+            long tick = currentTick + 1;
+            Iterator<Slot<T>> iterator = buckets.get((int) (tick & mask)).iterator();
+            while (iterator.hasNext()) {
+                Slot<T> slot = iterator.next();
+                if (slot.deadlineTick() <= tick) {
+                    iterator.remove();
+                    onExpire.accept(slot.item());
+                }
+            }
+            currentTick = tick;
+        }
+    }
+
+    public synchronized void start(String threadName) {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(() -> {
+            try {
+                advanceTo(System.currentTimeMillis());
+            } catch (RuntimeException e) {
+                // 예외로 tick 스케줄이 중단되지 않도록 삼킴
+            }
+        }, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+}
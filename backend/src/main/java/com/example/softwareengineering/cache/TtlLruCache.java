@@ -0,0 +1,149 @@
+package com.example.softwareengineering.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 최대 크기(LRU)와 유효 시간(TTL)이 모두 제한된 인메모리 캐시.
+ * 값 로딩은 잠금 밖에서 수행되므로 같은 키가 동시에 두 번 로딩될 수 있다.
+ * 로딩 중에 제거(remove/removeIf/clear)가 있었다면 로딩한 값은 이미 낡았을 수 있으므로 캐시에 넣지 않는다.
+ */
+public class TtlLruCache<K, V> {
+    private final int maxSize;
+    private final long ttlMs;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    // 제거할 때마다 증가 (entries 잠금 안에서만 접근)
+    private long invalidations;
+
+    private record Entry<V>(V value, long loadedAt) {}
+
+    public TtlLruCache(int maxSize, long ttlMs) {
+        this.maxSize = maxSize;
+        this.ttlMs = ttlMs;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > TtlLruCache.this.maxSize;
+            }
+        };
+    }
+
+    public V get(K key) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (ttlMs > 0 && now - entry.loadedAt() >= ttlMs) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    public V getOrLoad(K key, Function<K, V> loader) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        long generation;
+        synchronized (entries) {
+            generation = invalidations;
+        }
+        value = loader.apply(key);
+        if (value != null && maxSize > 0) {
+            synchronized (entries) {
+                if (invalidations == generation) {
+                    entries.put(key, new Entry<>(value, System.currentTimeMillis()));
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 여러 키를 한 번에 조회하고, 캐시에 없는 키만 모아 loader 한 번으로 읽는다.
+     * getOrLoad와 같이 로딩 중에 제거가 있었다면 읽은 값을 돌려주기만 하고 캐시에는 넣지 않는다.
+     */
+    public Map<K, V> getAllOrLoad(Collection<K> keys, Function<Set<K>, Map<K, V>> loader) {
+        Map<K, V> result = new HashMap<>();
+        Set<K> missing = new LinkedHashSet<>();
+        for (K key : keys) {
+            if (key == null || result.containsKey(key)) {
+                continue;
+            }
+            V value = get(key);
+            if (value != null) {
+                result.put(key, value);
+            } else {
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+        long generation;
+        synchronized (entries) {
+            generation = invalidations;
+        }
+        Map<K, V> loaded = loader.apply(missing);
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            boolean cacheable = invalidations == generation && maxSize > 0;
+            for (Map.Entry<K, V> entry : loaded.entrySet()) {
+                if (entry.getValue() == null) {
+                    continue;
+                }
+                result.put(entry.getKey(), entry.getValue());
+                if (cacheable) {
+                    entries.put(entry.getKey(), new Entry<>(entry.getValue(), now));
+                }
+            }
+        }
+        return result;
+    }
+
+    public void put(K key, V value) {
+        if (maxSize <= 0) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, System.currentTimeMillis()));
+        }
+    }
+
+    public void remove(K key) {
+        synchronized (entries) {
+            invalidations++;
+            entries.remove(key);
+        }
+    }
+
+    public void removeIf(Predicate<K> predicate) {
+        synchronized (entries) {
+            invalidations++;
+            entries.keySet().removeIf(predicate);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            invalidations++;
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
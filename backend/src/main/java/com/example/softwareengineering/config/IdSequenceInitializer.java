@@ -0,0 +1,59 @@
+package com.example.softwareengineering.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 풀링 시퀀스 ID를 쓰는 엔티티의 시퀀스 값을 기존 ID 위로 맞춘다.
+ * MySQL에는 시퀀스가 없어 Hibernate가 xxx_seq 테이블(next_val)로 대신하는데,
+ * ddl-auto로 새로 만들어지면 1부터 시작해 AUTO_INCREMENT로 쌓인 기존 ID와 겹치므로
+ * 애플리케이션이 요청을 받기 전에 next_val을 MAX(id) + 할당 크기 이상으로 올린다.
+ * (H2처럼 실제 시퀀스를 쓰는 DB에서는 테이블이 없으므로 건너뛴다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+    // 엔티티의 @SequenceGenerator allocationSize와 같아야 한다
+    public static final int ALLOCATION_SIZE = 50;
+
+    // 시퀀스 테이블 → 엔티티 테이블
+    private static final Map<String, String> SEQUENCES = Map.of(
+        "issues_seq", "issues",
+        "activity_logs_seq", "activity_logs",
+        "notifications_seq", "notifications",
+        "project_members_seq", "project_members");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SEQUENCES.forEach(this::align);
+    }
+
+    private void align(String sequenceTable, String table) {
+        try {
+            List<Long> values = jdbcTemplate.queryForList("SELECT next_val FROM " + sequenceTable, Long.class);
+            long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            // 풀링 최적화기는 next_val - 할당 크기 + 1 부터 ID를 나눠 준다
+            long required = max + ALLOCATION_SIZE;
+            if (values.isEmpty()) {
+                jdbcTemplate.update("INSERT INTO " + sequenceTable + " (next_val) VALUES (?)", required);
+            } else if (values.get(0) == null || values.get(0) < required) {
+                jdbcTemplate.update("UPDATE " + sequenceTable + " SET next_val = ?", required);
+            } else {
+                return;
+            }
+            log.info("ID 시퀀스 보정: {} next_val -> {} (max id={})", sequenceTable, required, max);
+        } catch (DataAccessException e) {
+            log.debug("ID 시퀀스 테이블 없음, 보정 생략: {}", sequenceTable);
+        }
+    }
+}
@@ -1,24 +1,37 @@
 package com.example.softwareengineering.config;
 
+import com.example.softwareengineering.service.MembershipVersionService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    // 컨트롤러에서 토큰을 다시 파싱하지 않도록 검증 결과를 요청 속성으로 전달
+    public static final String VERIFIED_TOKEN_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".VERIFIED_TOKEN";
+
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final MembershipVersionService membershipVersionService;
+    private final boolean claimsAuthEnabled;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService,
+                                   MembershipVersionService membershipVersionService, boolean claimsAuthEnabled) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.membershipVersionService = membershipVersionService;
+        this.claimsAuthEnabled = claimsAuthEnabled;
     }
 
     @Override
@@ -26,19 +39,43 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         String authHeader = request.getHeader("Authorization");
 
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+        // 개인 API 토큰은 PersonalAccessTokenFilter에서 이미 처리됨
+        if (authHeader != null && authHeader.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
             String token = authHeader.substring(7);
-            if (jwtUtil.validateToken(token)) {
-                String email = jwtUtil.getEmailFromToken(token);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-                
+            VerifiedToken verified = jwtUtil.verify(token);
+            if (verified != null) {
+                request.setAttribute(VERIFIED_TOKEN_ATTRIBUTE, verified);
+                UserDetails userDetails = fromClaims(verified);
+                if (userDetails == null) {
+                    // 역할 클레임이 없거나 멤버십이 바뀐 토큰은 DB에서 다시 조회
+                    userDetails = userDetailsService.loadUserByUsername(verified.getEmail());
+                }
+
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                     userDetails, null, userDetails.getAuthorities());
-                
+
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         }
 
         filterChain.doFilter(request, response);
     }
-} 
\ No newline at end of file
+
+    // 토큰의 역할 클레임이 최신 멤버십 버전과 일치하면 DB 조회 없이 UserDetails 생성
+    private UserDetails fromClaims(VerifiedToken verified) {
+        if (!claimsAuthEnabled || !verified.hasRoleClaims()) {
+            return null;
+        }
+        if (!membershipVersionService.isCurrent(verified.getUserId(), verified.getMembershipVersion())) {
+            return null;
+        }
+
+        List<SimpleGrantedAuthority> authorities = new ArrayList<>();
+        authorities.add(new SimpleGrantedAuthority("ROLE_MEMBER"));
+        verified.getSiteRoles().forEach((siteId, role) ->
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + role + "_SITE_" + siteId)));
+
+        return new User(verified.getLoginId(), "", authorities);
+    }
+}
@@ -2,26 +2,44 @@ package com.example.softwareengineering.config;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import com.example.softwareengineering.entity.MemberRole;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import jakarta.annotation.PostConstruct;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 
 @Component
 public class JwtUtil {
+    public static final String CLAIM_USER_ID = "userId";
+    public static final String CLAIM_LOGIN_ID = "loginId";
+    public static final String CLAIM_SITE_ROLES = "siteRoles";
+    public static final String CLAIM_MEMBERSHIP_VERSION = "mv";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
     @Value("${jwt.expiration}")
     private long expirationMs;
 
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private int verifiedCacheMaxSize;
+
     private Key key;
+    private JwtParser parser;
+    private VerifiedTokenCache verifiedTokenCache;
 
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        // JwtParser는 스레드 안전하므로 한 번만 생성
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokenCache = new VerifiedTokenCache(verifiedCacheMaxSize);
     }
 
     public String generateToken(String email, Long userId) {
@@ -30,40 +48,89 @@ public class JwtUtil {
 
         return Jwts.builder()
                 .setSubject(email)
-                .claim("userId", userId)
+                .claim(CLAIM_USER_ID, userId)
                 .setIssuedAt(now)
                 .setExpiration(expiration)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 사이트 역할과 멤버십 버전을 포함한 토큰 생성.
+     * 필터가 DB 조회 없이 인증 정보를 만들 수 있도록 한다.
+     */
+    public String generateToken(String email, Long userId, String loginId,
+                                Map<Long, MemberRole> siteRoles, long membershipVersion) {
+        Date now = new Date();
+        Date expiration = new Date(now.getTime() + expirationMs);
+
+        Map<String, String> roles = new HashMap<>();
+        siteRoles.forEach((siteId, role) -> roles.put(String.valueOf(siteId), role.name()));
+
+        return Jwts.builder()
+                .setSubject(email)
+                .claim(CLAIM_USER_ID, userId)
+                .claim(CLAIM_LOGIN_ID, loginId)
+                .claim(CLAIM_SITE_ROLES, roles)
+                .claim(CLAIM_MEMBERSHIP_VERSION, membershipVersion)
+                .setIssuedAt(now)
+                .setExpiration(expiration)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    /**
+     * 토큰을 한 번만 파싱/서명 검증하여 반환. 유효하지 않으면 null.
+     * 같은 토큰은 만료 전까지 캐시에서 바로 반환된다.
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        String tokenHash = VerifiedTokenCache.hash(token);
+        VerifiedToken cached = verifiedTokenCache.get(tokenHash, now);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
-            return true;
+            VerifiedToken verified = VerifiedToken.from(parser.parseClaimsJws(token).getBody());
+            verifiedTokenCache.put(tokenHash, verified, now);
+            return verified;
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
         }
     }
 
+    public boolean validateToken(String token) {
+        return verify(token) != null;
+    }
+
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+        return requireVerified(token).getEmail();
     }
 
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.get("userId", Long.class);
+        return requireVerified(token).getUserId();
+    }
+
+    public long getVerifiedCacheHits() {
+        return verifiedTokenCache.getHits();
+    }
+
+    public long getVerifiedCacheMisses() {
+        return verifiedTokenCache.getMisses();
+    }
+
+    public int getVerifiedCacheSize() {
+        return verifiedTokenCache.size();
+    }
+
+    private VerifiedToken requireVerified(String token) {
+        VerifiedToken verified = verify(token);
+        if (verified == null) {
+            throw new JwtException("유효하지 않은 토큰입니다.");
+        }
+        return verified;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,70 @@
+package com.example.softwareengineering.config;
+
+import com.example.softwareengineering.service.PersonalAccessTokenService;
+import com.example.softwareengineering.service.PersonalAccessTokenService.TokenPrincipal;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+// "Bearer pat_..." 헤더를 처리하는 개인 API 토큰 필터 (JWT 필터보다 먼저 실행)
+public class PersonalAccessTokenFilter extends OncePerRequestFilter {
+    public static final String TOKEN_PRINCIPAL_ATTRIBUTE = PersonalAccessTokenFilter.class.getName() + ".TOKEN_PRINCIPAL";
+
+    private static final String BEARER_PREFIX = "Bearer " + PersonalAccessTokenService.TOKEN_PREFIX;
+
+    private final PersonalAccessTokenService tokenService;
+
+    public PersonalAccessTokenFilter(PersonalAccessTokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String authHeader = request.getHeader("Authorization");
+        return authHeader == null || !authHeader.startsWith(BEARER_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = request.getHeader("Authorization").substring(7);
+        TokenPrincipal principal = tokenService.authenticate(token);
+        if (principal == null) {
+            reject(response, HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않은 API 토큰입니다.");
+            return;
+        }
+        if (!tokenService.permits(principal, request.getMethod(), request.getRequestURI())) {
+            reject(response, HttpServletResponse.SC_FORBIDDEN, "API 토큰의 권한 범위를 벗어난 요청입니다.");
+            return;
+        }
+
+        List<SimpleGrantedAuthority> authorities = List.of(
+            new SimpleGrantedAuthority("ROLE_BOT"),
+            new SimpleGrantedAuthority("SCOPE_" + principal.scope() + "_" + principal.scopeId() + "_" + principal.access()));
+        UserDetails userDetails = new User(principal.loginId(), "", authorities);
+
+        request.setAttribute(TOKEN_PRINCIPAL_ATTRIBUTE, principal);
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(userDetails, null, authorities));
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write("{\"success\":false,\"message\":\"" + message + "\"}");
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.softwareengineering.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업(만료 데이터 정리, 활동 집계 반영 등) 활성화
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,5 +1,8 @@
 package com.example.softwareengineering.config;
 
+import com.example.softwareengineering.service.MembershipVersionService;
+import com.example.softwareengineering.service.PersonalAccessTokenService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -22,14 +25,26 @@ public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final MembershipVersionService membershipVersionService;
+    private final PersonalAccessTokenService personalAccessTokenService;
 
-    public SecurityConfig(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    // true면 토큰의 역할 클레임으로 인증 (멤버십 변경 시에만 DB 조회)
+    @Value("${jwt.claims-auth.enabled:true}")
+    private boolean claimsAuthEnabled;
+
+    public SecurityConfig(JwtUtil jwtUtil, UserDetailsService userDetailsService,
+                          MembershipVersionService membershipVersionService,
+                          PersonalAccessTokenService personalAccessTokenService) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.membershipVersionService = membershipVersionService;
+        this.personalAccessTokenService = personalAccessTokenService;
     }
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtUtil, userDetailsService,
+                                                                              membershipVersionService, claimsAuthEnabled);
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
@@ -38,8 +53,8 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.GET, "/api/auth/**").permitAll()
                 .anyRequest().permitAll()
             )
-            .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, userDetailsService), 
-                           UsernamePasswordAuthenticationFilter.class)
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterBefore(new PersonalAccessTokenFilter(personalAccessTokenService), JwtAuthenticationFilter.class)
             .formLogin(form -> form.disable())
             .httpBasic(basic -> basic.disable());
         
@@ -67,7 +82,7 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
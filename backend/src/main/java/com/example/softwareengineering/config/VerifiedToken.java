@@ -0,0 +1,68 @@
+package com.example.softwareengineering.config;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 서명 검증을 마친 JWT의 클레임 값.
+ * 요청마다 한 번만 파싱하고, 같은 토큰의 재요청은 캐시된 값을 재사용한다.
+ */
+public final class VerifiedToken {
+    private final String email;
+    private final Long userId;
+    private final String loginId;
+    private final Map<String, String> siteRoles;
+    private final Long membershipVersion;
+    private final long expiresAtMillis;
+
+    private VerifiedToken(String email, Long userId, String loginId, Map<String, String> siteRoles,
+                          Long membershipVersion, long expiresAtMillis) {
+        this.email = email;
+        this.userId = userId;
+        this.loginId = loginId;
+        this.siteRoles = siteRoles;
+        this.membershipVersion = membershipVersion;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    static VerifiedToken from(Claims claims) {
+        Map<String, String> roles = null;
+        Map<?, ?> rawRoles = claims.get(JwtUtil.CLAIM_SITE_ROLES, Map.class);
+        if (rawRoles != null) {
+            roles = new HashMap<>();
+            for (Map.Entry<?, ?> entry : rawRoles.entrySet()) {
+                roles.put(String.valueOf(entry.getKey()), String.valueOf(entry.getValue()));
+            }
+            roles = Collections.unmodifiableMap(roles);
+        }
+        long expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+
+        return new VerifiedToken(
+            claims.getSubject(),
+            claims.get(JwtUtil.CLAIM_USER_ID, Long.class),
+            claims.get(JwtUtil.CLAIM_LOGIN_ID, String.class),
+            roles,
+            claims.get(JwtUtil.CLAIM_MEMBERSHIP_VERSION, Long.class),
+            expiresAt
+        );
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    // 역할 클레임 기반 인증에 필요한 값이 모두 있는지
+    public boolean hasRoleClaims() {
+        return loginId != null && siteRoles != null && membershipVersion != null;
+    }
+
+    public String getEmail() { return email; }
+    public Long getUserId() { return userId; }
+    public String getLoginId() { return loginId; }
+    public Map<String, String> getSiteRoles() { return siteRoles; }
+    public Long getMembershipVersion() { return membershipVersion; }
+    public long getExpiresAtMillis() { return expiresAtMillis; }
+}
@@ -0,0 +1,95 @@
+package com.example.softwareengineering.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검증된 토큰 캐시. 키는 토큰 원문이 아닌 SHA-256 해시이며,
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터, 만료된 토큰은 만료 시각에 맞춰 제거한다.
+ */
+class VerifiedTokenCache {
+    private final int maxSize;
+    private final LinkedHashMap<String, VerifiedToken> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > VerifiedTokenCache.this.maxSize;
+            }
+        };
+    }
+
+    VerifiedToken get(String tokenHash, long nowMillis) {
+        VerifiedToken cached;
+        synchronized (entries) {
+            cached = entries.get(tokenHash);
+            if (cached != null && cached.isExpired(nowMillis)) {
+                entries.remove(tokenHash);
+                cached = null;
+            }
+        }
+        if (cached != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return cached;
+    }
+
+    void put(String tokenHash, VerifiedToken token, long nowMillis) {
+        if (maxSize <= 0) {
+            return;
+        }
+        synchronized (entries) {
+            // 가득 찬 경우 살아있는 항목보다 만료된 항목을 먼저 제거
+            if (entries.size() >= maxSize) {
+                evictExpired(nowMillis);
+            }
+            entries.put(tokenHash, token);
+        }
+    }
+
+    // 만료된 토큰 일괄 제거
+    int evictExpired(long nowMillis) {
+        int removed = 0;
+        synchronized (entries) {
+            Iterator<VerifiedToken> it = entries.values().iterator();
+            while (it.hasNext()) {
+                if (it.next().isExpired(nowMillis)) {
+                    it.remove();
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    long getHits() { return hits.get(); }
+    long getMisses() { return misses.get(); }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -2,11 +2,11 @@ package com.example.softwareengineering.controller;
 
 import com.example.softwareengineering.dto.ActivityLogRequestDTO;
 import com.example.softwareengineering.dto.ActivityLogDTO;
+import com.example.softwareengineering.dto.ActivityFeedPage;
 import com.example.softwareengineering.service.ActivityLogService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -44,23 +44,20 @@ public class ActivityLogController {
     public ResponseEntity<Map<String, Object>> getSiteActivities(
             @PathVariable Long siteId,
             @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "30") int limit) {
         try {
-            List<ActivityLogDTO> activities;
+            ActivityFeedPage page;
             if (userId != null) {
                 // 특정 사용자의 사이트 내 활동
-                activities = activityLogService.getUserActivitiesInSite(userId, siteId, limit);
+                page = activityLogService.getUserActivitiesInSite(userId, siteId, cursor, limit);
             } else {
                 // 사이트 멤버들의 전체 활동
-                activities = activityLogService.getSiteMembersActivities(siteId, limit);
+                page = activityLogService.getSiteMembersActivities(siteId, cursor, limit);
             }
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("data", activities);
-            response.put("message", "활동 내역을 성공적으로 조회했습니다.");
-            
-            return ResponseEntity.ok(response);
+            return feedResponse(page, "활동 내역을 성공적으로 조회했습니다.");
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
         } catch (Exception e) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
@@ -69,19 +66,34 @@ public class ActivityLogController {
         }
     }
 
+    @GetMapping("/user/{userId}/recent")
+    public ResponseEntity<Map<String, Object>> getUserRecentActivities(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") int limit) {
+        try {
+            ActivityFeedPage page = activityLogService.getUserRecentActivities(userId, cursor, limit);
+            return feedResponse(page, "사용자 활동 내역을 성공적으로 조회했습니다.");
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "사용자 활동 내역 조회에 실패했습니다: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(errorResponse);
+        }
+    }
+
     @GetMapping("/project/{projectId}/recent")
     public ResponseEntity<Map<String, Object>> getProjectRecentActivities(
             @PathVariable Long projectId,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "30") int limit) {
         try {
-            List<ActivityLogDTO> activities = activityLogService.getActivityLogs(projectId);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("data", activities);
-            response.put("message", "프로젝트 활동 내역을 성공적으로 조회했습니다.");
-            
-            return ResponseEntity.ok(response);
+            ActivityFeedPage page = activityLogService.getProjectRecentActivities(projectId, cursor, limit);
+            return feedResponse(page, "프로젝트 활동 내역을 성공적으로 조회했습니다.");
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
         } catch (Exception e) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
@@ -107,4 +119,21 @@ public class ActivityLogController {
             return ResponseEntity.internalServerError().body(errorResponse);
         }
     }
-} 
\ No newline at end of file
+
+    // 다음 페이지는 nextCursor를 cursor로 넘겨 요청 (null이면 마지막 페이지)
+    private ResponseEntity<Map<String, Object>> feedResponse(ActivityFeedPage page, String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", page.items());
+        response.put("nextCursor", page.nextCursor());
+        response.put("message", message);
+        return ResponseEntity.ok(response);
+    }
+
+    private ResponseEntity<Map<String, Object>> badRequest(IllegalArgumentException e) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("message", e.getMessage());
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.softwareengineering.controller;
+
+import com.example.softwareengineering.service.ActivityRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// 대시보드 활동 통계 (activity_rollups 집계 기준, 최근 반영 주기 이후의 활동은 아직 포함되지 않을 수 있음)
+@RestController
+@RequestMapping("/api/activity-rollups")
+@RequiredArgsConstructor
+public class ActivityRollupController {
+    private final ActivityRollupService activityRollupService;
+
+    // 사이트의 프로젝트별 일일 활동 건수
+    @GetMapping("/site/{siteId}/daily")
+    public ResponseEntity<Map<String, Object>> getSiteDailyCounts(
+            @PathVariable Long siteId,
+            @RequestParam(defaultValue = "30") int days) {
+        return respond(() -> activityRollupService.getSiteDailyCounts(siteId, days));
+    }
+
+    @GetMapping("/site/{siteId}/top-contributors")
+    public ResponseEntity<Map<String, Object>> getSiteTopContributors(
+            @PathVariable Long siteId,
+            @RequestParam(defaultValue = "30") int days,
+            @RequestParam(defaultValue = "10") int limit) {
+        return respond(() -> activityRollupService.getSiteTopContributors(siteId, days, limit));
+    }
+
+    // 프로젝트의 활동 유형별 일일 건수
+    @GetMapping("/project/{projectId}/daily")
+    public ResponseEntity<Map<String, Object>> getProjectDailyCounts(
+            @PathVariable Long projectId,
+            @RequestParam(defaultValue = "30") int days) {
+        return respond(() -> activityRollupService.getProjectDailyCounts(projectId, days));
+    }
+
+    @GetMapping("/project/{projectId}/top-contributors")
+    public ResponseEntity<Map<String, Object>> getProjectTopContributors(
+            @PathVariable Long projectId,
+            @RequestParam(defaultValue = "30") int days,
+            @RequestParam(defaultValue = "10") int limit) {
+        return respond(() -> activityRollupService.getProjectTopContributors(projectId, days, limit));
+    }
+
+    private ResponseEntity<Map<String, Object>> respond(Supplier<Object> query) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            response.put("success", true);
+            response.put("data", query.get());
+            response.put("message", "활동 통계를 성공적으로 조회했습니다.");
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "활동 통계 조회에 실패했습니다: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+}
@@ -22,6 +22,8 @@ import com.example.softwareengineering.dto.IdFindResponse;
 import com.example.softwareengineering.service.EmailService;
 import com.example.softwareengineering.dto.PasswordResetRequest;
 import org.springframework.http.CacheControl;
+import com.example.softwareengineering.config.JwtUtil;
+import com.example.softwareengineering.exception.ServiceBusyException;
 
 import java.util.Map;
 import java.util.HashMap;
@@ -32,11 +34,13 @@ import java.util.HashMap;
 public class AuthController {
     private final AuthService authService;
     private final EmailService emailService;
+    private final JwtUtil jwtUtil;
     private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
 
-    public AuthController(AuthService authService, EmailService emailService) {
+    public AuthController(AuthService authService, EmailService emailService, JwtUtil jwtUtil) {
         this.authService = authService;
         this.emailService = emailService;
+        this.jwtUtil = jwtUtil;
     }
 
     @PostMapping("/signup")
@@ -49,6 +53,8 @@ public class AuthController {
         try {
             Map<String, Object> result = authService.signup(dto);
             return ResponseEntity.ok(result);
+        } catch (ServiceBusyException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of(
                 "success", false,
@@ -107,6 +113,23 @@ public class AuthController {
         ));
     }
 
+    @GetMapping("/token-cache/stats")
+    @Operation(summary = "토큰 검증 캐시 통계", description = "검증된 JWT 캐시의 적중/미스 횟수를 조회합니다")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    public ResponseEntity<Map<String, Object>> getTokenCacheStats() {
+        long hits = jwtUtil.getVerifiedCacheHits();
+        long misses = jwtUtil.getVerifiedCacheMisses();
+        long total = hits + misses;
+        return ResponseEntity.ok(Map.of(
+            "hits", hits,
+            "misses", misses,
+            "hitRatio", total == 0 ? 0.0 : (double) hits / total,
+            "size", jwtUtil.getVerifiedCacheSize()
+        ));
+    }
+
     @GetMapping("/verify/check")
     @Operation(summary = "이메일 인증 상태 확인", description = "이메일의 인증 상태를 확인합니다")
     @ApiResponses({
@@ -126,12 +149,15 @@ public class AuthController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "로그인 성공"),
         @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "503", description = "로그인 요청 폭주로 일시 거절"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     public ResponseEntity<?> login(@Valid @RequestBody LoginRequestDto dto) {
         try {
             LoginResponseDto response = authService.login(dto);
             return ResponseEntity.ok(response);
+        } catch (ServiceBusyException e) {
+            throw e;
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(Map.of(
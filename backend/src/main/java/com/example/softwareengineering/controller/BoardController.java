@@ -1,8 +1,12 @@
 package com.example.softwareengineering.controller;
 
+import com.example.softwareengineering.dto.BoardDelta;
+import com.example.softwareengineering.dto.BoardSnapshot;
 import com.example.softwareengineering.entity.BoardColumn;
 import com.example.softwareengineering.entity.User;
+import com.example.softwareengineering.service.BoardEventHub;
 import com.example.softwareengineering.service.BoardService;
+import com.example.softwareengineering.service.ProjectVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,9 +14,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.HashMap;
 import java.util.List;
@@ -25,15 +33,23 @@ import java.util.Map;
 @Tag(name = "보드 관리", description = "프로젝트 보드, 칼럼, 이슈 관리 API")
 public class BoardController {
     private final BoardService boardService;
+    private final ProjectVersionService projectVersionService;
+    private final BoardEventHub boardEventHub;
 
     @GetMapping("/projects/{projectId}/columns")
     @Operation(summary = "프로젝트 칼럼 목록 조회", description = "프로젝트의 모든 칼럼을 조회합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
         @ApiResponse(responseCode = "404", description = "프로젝트 없음")
     })
     public ResponseEntity<?> getColumns(
-            @Parameter(description = "프로젝트 ID") @PathVariable Long projectId) {
+            @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+            WebRequest webRequest) {
+        // 변경이 없으면 조회 없이 304
+        if (webRequest.checkNotModified(projectVersionService.etag(projectId, "columns"))) {
+            return null;
+        }
         try {
             log.info("프로젝트 칼럼 목록 조회 요청: projectId={}", projectId);
             List<Map<String, Object>> columns = boardService.getColumns(projectId);
@@ -55,10 +71,16 @@ public class BoardController {
     @Operation(summary = "프로젝트 이슈 목록 조회", description = "프로젝트의 모든 이슈를 조회합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
         @ApiResponse(responseCode = "404", description = "프로젝트 없음")
     })
     public ResponseEntity<?> getIssues(
-            @Parameter(description = "프로젝트 ID") @PathVariable Long projectId) {
+            @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(projectVersionService.etag(projectId, "issues", userDetails.getUsername()))) {
+            return null;
+        }
         try {
             log.info("프로젝트 이슈 목록 조회 요청: projectId={}", projectId);
             Map<String, List<Map<String, Object>>> issues = boardService.getIssues(projectId);
@@ -75,4 +97,69 @@ public class BoardController {
             return ResponseEntity.internalServerError().body(error);
         }
     }
-} 
\ No newline at end of file
+
+    @GetMapping("/projects/{projectId}/board")
+    @Operation(summary = "프로젝트 보드 조회", description = "칼럼과 칼럼별 이슈(사용자별 순서 적용)를 한 번에 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+        @ApiResponse(responseCode = "400", description = "프로젝트 또는 사용자 없음")
+    })
+    public ResponseEntity<?> getBoard(
+            @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(projectVersionService.etag(projectId, "board", userDetails.getUsername()))) {
+            return null;
+        }
+        try {
+            BoardSnapshot snapshot = boardService.getBoardSnapshot(projectId, userDetails.getUsername());
+            return ResponseEntity.ok(snapshot);
+        } catch (IllegalArgumentException e) {
+            log.error("프로젝트 보드 조회 실패: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @GetMapping("/projects/{projectId}/issues/changes")
+    @Operation(summary = "보드 변경분 조회", description = "since 버전 이후 생성/수정/이동/삭제된 이슈와 내 순서 변경만 조회합니다. 변경 기록이 없는 구간이면 전체 보드를 돌려줍니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "프로젝트 없음")
+    })
+    public ResponseEntity<?> getBoardChanges(
+            @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+            @Parameter(description = "마지막으로 받은 버전") @RequestParam long since,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        try {
+            BoardDelta delta = boardService.getBoardChanges(projectId, userDetails.getUsername(), since);
+            return ResponseEntity.ok(delta);
+        } catch (IllegalArgumentException e) {
+            log.error("보드 변경분 조회 실패: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    @GetMapping(value = "/projects/{projectId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "보드 실시간 구독 (SSE)", description = "이슈 생성/수정/이동/삭제와 내 순서 변경을 커밋 직후 푸시합니다. 이벤트의 version으로 변경분 조회를 이어가면 됩니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "구독 시작"),
+        @ApiResponse(responseCode = "503", description = "구독자 수 초과")
+    })
+    public SseEmitter subscribeBoard(
+            @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        String userId = userDetails != null ? userDetails.getUsername() : null;
+        return boardEventHub.subscribe(projectId, userId, projectVersionService.currentVersion(projectId));
+    }
+
+    @GetMapping("/board-events/stats")
+    @Operation(summary = "보드 실시간 구독 현황", description = "이 서버의 SSE 구독자 수, 느린 구독자 차단 수 등을 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getBoardEventStats() {
+        return ResponseEntity.ok(boardEventHub.getStats());
+    }
+}
@@ -3,12 +3,14 @@ package com.example.softwareengineering.controller;
 import com.example.softwareengineering.dto.CustomIssueStatusDto;
 import com.example.softwareengineering.entity.User;
 import com.example.softwareengineering.service.CustomIssueStatusService;
+import com.example.softwareengineering.service.ProjectVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,10 +20,14 @@ import java.util.List;
 @Tag(name = "업무 상태 관리", description = "업무 상태 관리 API")
 public class CustomIssueStatusController {
     private final CustomIssueStatusService customIssueStatusService;
+    private final ProjectVersionService projectVersionService;
 
     @GetMapping
     @Operation(summary = "프로젝트의 커스텀 상태 목록 조회")
-    public ResponseEntity<List<CustomIssueStatusDto>> getCustomStatuses(@PathVariable Long projectId) {
+    public ResponseEntity<List<CustomIssueStatusDto>> getCustomStatuses(@PathVariable Long projectId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(projectVersionService.etag(projectId, "statuses"))) {
+            return null;
+        }
         return ResponseEntity.ok(customIssueStatusService.getCustomStatuses(projectId));
     }
 
@@ -30,8 +36,9 @@ public class CustomIssueStatusController {
     public ResponseEntity<CustomIssueStatusDto> createCustomStatus(
             @PathVariable Long projectId,
             @RequestParam String name,
+            @RequestParam(required = false) Long columnId,
             @AuthenticationPrincipal User user) {
-        return ResponseEntity.ok(customIssueStatusService.createCustomStatus(projectId, name, user));
+        return ResponseEntity.ok(customIssueStatusService.createCustomStatus(projectId, name, columnId, user));
     }
 
     @PutMapping("/{statusId}")
@@ -40,8 +47,9 @@ public class CustomIssueStatusController {
             @PathVariable Long projectId,
             @PathVariable Long statusId,
             @RequestParam String name,
+            @RequestParam(required = false) Long columnId,
             @AuthenticationPrincipal User user) {
-        return ResponseEntity.ok(customIssueStatusService.updateCustomStatus(statusId, name, user));
+        return ResponseEntity.ok(customIssueStatusService.updateCustomStatus(statusId, name, columnId, user));
     }
 
     @DeleteMapping("/{statusId}")
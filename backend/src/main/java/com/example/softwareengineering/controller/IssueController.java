@@ -1,6 +1,7 @@
 package com.example.softwareengineering.controller;
 
 import com.example.softwareengineering.dto.IssueCreateRequest;
+import com.example.softwareengineering.dto.IssueFileFormat;
 import com.example.softwareengineering.dto.IssueUpdateRequest;
 import com.example.softwareengineering.dto.IssueResponse;
 import com.example.softwareengineering.dto.AttachmentResponse;
@@ -13,6 +14,8 @@ import com.example.softwareengineering.entity.User;
 import com.example.softwareengineering.repository.AttachmentRepository;
 import com.example.softwareengineering.repository.IssueRepository;
 import com.example.softwareengineering.repository.UserRepository;
+import com.example.softwareengineering.service.IssueExportService;
+import com.example.softwareengineering.service.IssueImportService;
 import com.example.softwareengineering.service.IssueService;
 import com.example.softwareengineering.service.SubIssueService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,7 +25,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.http.HttpHeaders;
@@ -31,6 +39,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -39,6 +48,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.concurrent.Callable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.example.softwareengineering.exception.CustomException;
@@ -63,6 +73,10 @@ public class IssueController {
     private SubIssueService subIssueService;
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private IssueImportService issueImportService;
+    @Autowired
+    private IssueExportService issueExportService;
 
     @PostMapping
     @Operation(summary = "이슈 생성", description = "새로운 이슈를 생성합니다.")
@@ -87,6 +101,63 @@ public class IssueController {
         }
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @Operation(summary = "이슈 일괄 가져오기",
+        description = "CSV(헤더: title,description,status,columnId,assigneeId,reporterId,startDate,endDate) 또는 NDJSON 본문을 읽어 이슈를 일괄 생성합니다. 잘못된 행은 건너뛰고 행별 오류를 반환합니다.")
+    public ResponseEntity<?> importIssues(
+            @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+            @RequestParam Long userId,
+            HttpServletRequest request) {
+        try {
+            IssueFileFormat format = request.getContentType() != null
+                && request.getContentType().startsWith("application/x-ndjson")
+                ? IssueFileFormat.NDJSON : IssueFileFormat.CSV;
+            log.info("이슈 일괄 가져오기 요청: projectId={}, userId={}, format={}", projectId, userId, format);
+            return ResponseEntity.ok(issueImportService.importIssues(projectId, userId, format, request.getInputStream()));
+        } catch (CustomException e) {
+            log.error("이슈 일괄 가져오기 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        } catch (Exception e) {
+            log.error("이슈 일괄 가져오기 중 오류 발생", e);
+            return ResponseEntity.internalServerError().body(Map.of("message", "서버 내부 오류가 발생했습니다."));
+        }
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "이슈 내보내기",
+        description = "프로젝트의 이슈를 CSV 또는 NDJSON으로 스트리밍합니다. 출력은 이슈 일괄 가져오기 형식과 호환됩니다.")
+    public ResponseEntity<StreamingResponseBody> exportIssues(
+            @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+            @Parameter(description = "csv 또는 ndjson") @RequestParam(defaultValue = "csv") String format,
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletRequest request) {
+        IssueFileFormat fileFormat = IssueFileFormat.from(format);
+        if (fileFormat == null) {
+            throw new CustomException("format은 csv 또는 ndjson만 가능합니다.");
+        }
+        User user = userRepository.findByUserId(userDetails.getUsername())
+            .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다."));
+        String fileName = issueExportService.fileName(projectId, user.getId(), fileFormat);
+
+        // 큰 프로젝트 내보내기는 오래 걸리므로 이 요청의 비동기 처리에만 긴 타임아웃을 건다
+        long timeoutMs = issueExportService.getTimeoutMs();
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor("issueExportTimeout",
+            new CallableProcessingInterceptor() {
+                @Override
+                public <T> void beforeConcurrentHandling(NativeWebRequest webRequest, Callable<T> task) {
+                    if (webRequest instanceof AsyncWebRequest asyncWebRequest) {
+                        asyncWebRequest.setTimeout(timeoutMs);
+                    }
+                }
+            });
+        log.info("이슈 내보내기 요청: projectId={}, format={}", projectId, fileFormat);
+        StreamingResponseBody body = output -> issueExportService.exportIssues(projectId, fileFormat, output);
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+            .contentType(MediaType.parseMediaType(fileFormat.getContentType() + ";charset=UTF-8"))
+            .body(body);
+    }
+
     @Operation(summary = "프로젝트별 이슈 목록 조회", description = "projectId로 해당 프로젝트의 이슈 목록을 조회합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공"),
@@ -0,0 +1,78 @@
+package com.example.softwareengineering.controller;
+
+import com.example.softwareengineering.entity.TokenAccess;
+import com.example.softwareengineering.entity.TokenScope;
+import com.example.softwareengineering.service.PersonalAccessTokenService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/tokens")
+@RequiredArgsConstructor
+@Tag(name = "개인 API 토큰", description = "자동화 클라이언트용 API 토큰 발급/조회/폐기 API")
+public class PersonalAccessTokenController {
+    private final PersonalAccessTokenService tokenService;
+
+    @PostMapping
+    @Operation(summary = "API 토큰 발급", description = "사이트 또는 프로젝트 범위의 읽기/쓰기 토큰을 발급합니다. 토큰 원문은 이 응답에서만 확인할 수 있습니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "발급 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+        @ApiResponse(responseCode = "401", description = "로그인 필요")
+    })
+    public ResponseEntity<?> createToken(@RequestBody Map<String, Object> request,
+                                         @AuthenticationPrincipal UserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("message", "로그인이 필요합니다."));
+        }
+        String name = (String) request.get("name");
+        TokenScope scope = TokenScope.valueOf(String.valueOf(request.get("scope")));
+        Long scopeId = Long.valueOf(String.valueOf(request.get("scopeId")));
+        TokenAccess access = TokenAccess.valueOf(String.valueOf(request.getOrDefault("access", "READ")));
+        Integer expiresInDays = request.get("expiresInDays") != null
+            ? Integer.valueOf(String.valueOf(request.get("expiresInDays"))) : null;
+
+        PersonalAccessTokenService.CreatedToken created = tokenService.createToken(
+            userDetails.getUsername(), name, scope, scopeId, access, expiresInDays);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", created.entity().getId());
+        response.put("token", created.token());
+        response.put("expiresAt", created.entity().getExpiresAt());
+        response.put("message", "토큰이 발급되었습니다. 토큰은 다시 확인할 수 없으니 안전하게 보관하세요.");
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping
+    @Operation(summary = "내 API 토큰 목록", description = "발급한 토큰 목록을 조회합니다. 토큰 원문은 포함되지 않습니다.")
+    public ResponseEntity<?> getTokens(@AuthenticationPrincipal UserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("message", "로그인이 필요합니다."));
+        }
+        List<Map<String, Object>> tokens = tokenService.getTokens(userDetails.getUsername());
+        return ResponseEntity.ok(tokens);
+    }
+
+    @DeleteMapping("/{tokenId}")
+    @Operation(summary = "API 토큰 폐기", description = "토큰을 즉시 폐기합니다.")
+    public ResponseEntity<?> revokeToken(@PathVariable Long tokenId,
+                                         @AuthenticationPrincipal UserDetails userDetails) {
+        if (userDetails == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("message", "로그인이 필요합니다."));
+        }
+        tokenService.revokeToken(userDetails.getUsername(), tokenId);
+        return ResponseEntity.ok(Map.of("message", "토큰이 폐기되었습니다."));
+    }
+}
@@ -3,12 +3,14 @@ package com.example.softwareengineering.controller;
 import com.example.softwareengineering.dto.MembershipInviteRequest;
 import com.example.softwareengineering.dto.MembershipChangeRoleRequest;
 import com.example.softwareengineering.service.ProjectMemberService;
+import com.example.softwareengineering.service.ProjectVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -21,6 +23,9 @@ public class ProjectMemberController {
     @Autowired
     private ProjectMemberService projectMemberService;
 
+    @Autowired
+    private ProjectVersionService projectVersionService;
+
     @Operation(summary = "프로젝트 PM 초대", description = "ADMIN만 프로젝트에 PM을 초대할 수 있습니다. userId(닉네임)로 초대합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "초대 성공"),
@@ -97,10 +102,15 @@ public class ProjectMemberController {
     @Operation(summary = "프로젝트 멤버 목록 조회", description = "프로젝트의 모든 멤버 목록을 조회합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
         @ApiResponse(responseCode = "404", description = "프로젝트 없음")
     })
     @GetMapping("/{projectId}/members")
-    public List<Map<String, String>> getProjectMembers(@PathVariable Long projectId) {
+    public List<Map<String, String>> getProjectMembers(@PathVariable Long projectId, WebRequest webRequest) {
+        // 멤버 변경이 없으면 조회 없이 304
+        if (webRequest.checkNotModified(projectVersionService.etag(projectId, "members"))) {
+            return null;
+        }
         return projectMemberService.getProjectMembers(projectId);
     }
 } 
\ No newline at end of file
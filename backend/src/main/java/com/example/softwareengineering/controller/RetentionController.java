@@ -0,0 +1,50 @@
+package com.example.softwareengineering.controller;
+
+import com.example.softwareengineering.service.DataRetentionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+// 만료 데이터 정리 진행 상황 (테이블별 마지막 실행과 누적 삭제 건수). 서비스 운영자(retention.admin-user-ids)만 조회
+@RestController
+@RequestMapping("/api/retention")
+@RequiredArgsConstructor
+public class RetentionController {
+    private final DataRetentionService dataRetentionService;
+
+    // 사이트 단위 권한과 무관한 전체 데이터이므로 설정에 등록된 운영자 로그인 ID만 허용 (비어 있으면 아무도 조회할 수 없음)
+    @Value("${retention.admin-user-ids:}")
+    private Set<String> adminUserIds;
+
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> getStatus(@AuthenticationPrincipal UserDetails userDetails) {
+        Map<String, Object> response = new HashMap<>();
+        if (userDetails == null) {
+            response.put("success", false);
+            response.put("message", "로그인이 필요합니다.");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+        // 개인 액세스 토큰(ROLE_BOT)은 사이트/프로젝트 범위로만 발급되므로 허용하지 않는다
+        boolean bot = userDetails.getAuthorities().stream()
+            .anyMatch(authority -> "ROLE_BOT".equals(authority.getAuthority()));
+        if (bot || !adminUserIds.contains(userDetails.getUsername())) {
+            response.put("success", false);
+            response.put("message", "관리자만 조회할 수 있습니다.");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+        response.put("success", true);
+        response.put("data", dataRetentionService.status());
+        response.put("message", "보존 기간 정리 상태를 조회했습니다.");
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.softwareengineering.dto;
+
+// 기간 내 사용자별 활동 건수
+public record ActivityContributorCount(Long userId, String userName, Long count) {
+}
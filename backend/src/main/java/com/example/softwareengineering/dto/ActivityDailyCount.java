@@ -0,0 +1,7 @@
+package com.example.softwareengineering.dto;
+
+import java.time.LocalDate;
+
+// 프로젝트별 일일 활동 건수
+public record ActivityDailyCount(LocalDate day, Long projectId, Long count) {
+}
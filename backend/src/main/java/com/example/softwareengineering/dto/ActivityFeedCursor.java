@@ -0,0 +1,35 @@
+package com.example.softwareengineering.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 활동 내역 피드의 키셋 커서: 마지막으로 받은 항목의 (timestamp, id).
+ * 다음 페이지는 이 항목보다 오래된 것부터 시작하므로 페이지 깊이와 관계없이 인덱스에서 바로 찾는다.
+ * 문자열 형식은 "2024-05-01T12:00:00.123456_42".
+ */
+public record ActivityFeedCursor(LocalDateTime timestamp, Long id) {
+    // 첫 페이지: 모든 항목보다 뒤 (MySQL DATETIME 범위 안)
+    public static final ActivityFeedCursor FIRST =
+        new ActivityFeedCursor(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE);
+
+    public static ActivityFeedCursor parse(String value) {
+        if (value == null || value.isBlank()) {
+            return FIRST;
+        }
+        int separator = value.lastIndexOf('_');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        try {
+            return new ActivityFeedCursor(LocalDateTime.parse(value.substring(0, separator)),
+                Long.parseLong(value.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        return timestamp + "_" + id;
+    }
+}
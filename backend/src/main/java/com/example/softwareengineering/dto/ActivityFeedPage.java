@@ -0,0 +1,7 @@
+package com.example.softwareengineering.dto;
+
+import java.util.List;
+
+// 활동 내역 피드 한 페이지 (nextCursor가 null이면 마지막 페이지)
+public record ActivityFeedPage(List<ActivityLogDTO> items, String nextCursor) {
+}
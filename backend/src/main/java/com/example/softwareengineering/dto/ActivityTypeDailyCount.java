@@ -0,0 +1,9 @@
+package com.example.softwareengineering.dto;
+
+import com.example.softwareengineering.entity.ActivityType;
+
+import java.time.LocalDate;
+
+// 활동 유형별 일일 활동 건수
+public record ActivityTypeDailyCount(LocalDate day, ActivityType type, Long count) {
+}
@@ -0,0 +1,5 @@
+package com.example.softwareengineering.dto;
+
+// 보드 조회용 칼럼 프로젝션 (엔티티 로딩 없이 필요한 컬럼만 조회)
+public record BoardColumnRow(Long id, String title, String icon, Integer orderIndex) {
+}
@@ -0,0 +1,20 @@
+package com.example.softwareengineering.dto;
+
+import java.util.List;
+
+/**
+ * since 버전 이후의 보드 변경분. full이면 board에 전체 보드가, 아니면 바뀐 카드와 삭제된 이슈 ID만 담긴다.
+ * 다음 요청에는 version을 since로 보낸다.
+ */
+public record BoardDelta(
+        Long projectId,
+        long version,
+        boolean full,
+        BoardSnapshot board,
+        List<BoardSnapshot.Card> changed,
+        List<Long> deleted) {
+
+    public static BoardDelta full(long version, BoardSnapshot board) {
+        return new BoardDelta(board.projectId(), version, true, board, List.of(), List.of());
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.softwareengineering.dto;
+
+import com.example.softwareengineering.entity.IssueStatus;
+
+import java.time.LocalDateTime;
+
+// 보드 조회용 이슈 카드 프로젝션 (사용자별 순서는 BoardOrderRow로 따로 조회)
+public record BoardIssueRow(
+        Long id,
+        String title,
+        String description,
+        IssueStatus status,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        String assigneeId,
+        String reporterId,
+        Long columnId,
+        String rankKey) {
+}
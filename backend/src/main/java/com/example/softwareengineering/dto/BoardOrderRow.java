@@ -0,0 +1,5 @@
+package com.example.softwareengineering.dto;
+
+// 한 사용자의 이슈 순위 키 오버라이드 (칼럼이 이슈의 현재 칼럼과 같을 때만 유효)
+public record BoardOrderRow(Long issueId, Long columnId, String rankKey) {
+}
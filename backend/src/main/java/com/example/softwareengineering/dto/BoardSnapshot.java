@@ -0,0 +1,26 @@
+package com.example.softwareengineering.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 한 명이 보는 프로젝트 보드 전체 (칼럼 순서대로, 각 칼럼의 이슈는 사용자별 순서대로).
+ */
+public record BoardSnapshot(Long projectId, List<Column> columns) {
+
+    public record Column(Long id, String title, String icon, Integer order, List<Card> issues) {
+    }
+
+    public record Card(
+            Long id,
+            String title,
+            String description,
+            String status,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String assigneeId,
+            String reporterId,
+            Long columnId,
+            int order) {
+    }
+}
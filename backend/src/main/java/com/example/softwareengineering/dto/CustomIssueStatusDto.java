@@ -17,6 +17,7 @@ public class CustomIssueStatusDto {
     private Long id;
     private String name;
     private Long projectId;
+    private Long columnId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 } 
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.example.softwareengineering.dto;
+
+import com.example.softwareengineering.entity.IssueStatus;
+
+import java.time.LocalDateTime;
+
+// 이슈 내보내기용 프로젝션 (가져오기 형식과 같은 필드 이름, 엔티티를 영속성 컨텍스트에 올리지 않음)
+public record IssueExportRow(
+        Long id,
+        String title,
+        String description,
+        IssueStatus status,
+        Long columnId,
+        String columnTitle,
+        String assigneeId,
+        String reporterId,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,33 @@
+package com.example.softwareengineering.dto;
+
+// 이슈 가져오기/내보내기 파일 형식
+public enum IssueFileFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    IssueFileFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    // "csv" / "ndjson" (대소문자 무관), 모르는 값이면 null
+    public static IssueFileFormat from(String value) {
+        for (IssueFileFormat format : values()) {
+            if (value != null && format.extension.equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.softwareengineering.dto;
+
+import java.util.List;
+
+/**
+ * 일괄 가져오기 결과. 오류는 앞에서부터 일정 개수까지만 담고 errorsTruncated로 잘렸는지 알린다.
+ */
+public record IssueImportResult(Long projectId, long total, long imported, long failed,
+                                List<RowError> errors, boolean errorsTruncated) {
+
+    // row는 데이터 행 번호 (CSV 헤더 제외, 1부터)
+    public record RowError(long row, String message) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.softwareengineering.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 일괄 가져오기 한 행 (CSV 헤더 또는 NDJSON 키 이름과 같음).
+ * 날짜는 행 단위 오류로 보고하기 위해 문자열로 받는다 (yyyy-MM-dd 또는 yyyy-MM-ddTHH:mm:ss).
+ */
+@Getter
+@Setter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class IssueImportRow {
+    private String title;
+    private String description;
+    private String status;      // TODO, IN_PROGRESS, DONE, HOLD (없으면 TODO)
+    private Long columnId;      // 없으면 상태에 대응하는 칼럼
+    private String assigneeId;
+    private String reporterId;  // 없으면 가져오기를 실행한 사용자
+    private String startDate;
+    private String endDate;
+}
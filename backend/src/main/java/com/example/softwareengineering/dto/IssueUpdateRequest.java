@@ -15,4 +15,5 @@ public class IssueUpdateRequest {
     private Integer order;
     private String assigneeId;
     private Long columnId;
+    private Long customStatusId;
 } 
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.example.softwareengineering.dto;
+
+import com.example.softwareengineering.entity.IssueStatus;
+
+/**
+ * 상태→칼럼 인덱스 적재용 행 (칼럼 하나에 연결된 커스텀 상태마다 한 행, 없으면 customStatusId가 null).
+ */
+public record StatusColumnRow(Long columnId, String title, IssueStatus status, Long customStatusId) {
+}
@@ -9,19 +9,21 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "activity_logs",
        indexes = {
-           @Index(name = "idx_activity_log_user", columnList = "user_id"),
-           @Index(name = "idx_activity_log_project", columnList = "project_id"),
-           @Index(name = "idx_activity_log_timestamp", columnList = "timestamp")
+           // 피드 키셋 페이지용: 조건 칼럼 + (timestamp, id)
+           @Index(name = "idx_activity_log_user_time", columnList = "user_id, timestamp, id"),
+           @Index(name = "idx_activity_log_project_time", columnList = "project_id, timestamp, id"),
+           @Index(name = "idx_activity_log_time", columnList = "timestamp, id")
        })
 @Getter @Setter
 @NoArgsConstructor
 public class ActivityLog {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "activity_logs_seq")
+    @SequenceGenerator(name = "activity_logs_seq", sequenceName = "activity_logs_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User user;
 
     @Enumerated(EnumType.STRING)
@@ -38,7 +40,7 @@ public class ActivityLog {
     private LocalDateTime timestamp;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "project_id")
+    @JoinColumn(name = "project_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Project project;
 
     private Long issueId;
@@ -48,6 +50,9 @@ public class ActivityLog {
 
     @PrePersist
     protected void onCreate() {
-        timestamp = LocalDateTime.now();
+        // 후기록 파이프라인은 이벤트 발생 시각을 미리 채운다
+        if (timestamp == null) {
+            timestamp = LocalDateTime.now();
+        }
     }
 } 
\ No newline at end of file
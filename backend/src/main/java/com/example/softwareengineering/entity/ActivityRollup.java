@@ -0,0 +1,47 @@
+package com.example.softwareengineering.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+// (사이트, 프로젝트, 사용자, 활동 유형, 날짜)별 활동 건수. ActivityRollupService가 메모리에서 모아 주기적으로 더한다
+@Entity
+@Table(name = "activity_rollups",
+       uniqueConstraints = @UniqueConstraint(name = "uk_activity_rollup",
+           columnNames = {"activity_date", "site_id", "project_id", "user_id", "type"}),
+       indexes = {
+           @Index(name = "idx_activity_rollup_site_date", columnList = "site_id, activity_date"),
+           @Index(name = "idx_activity_rollup_project_date", columnList = "project_id, activity_date")
+       })
+@Getter @Setter
+@NoArgsConstructor
+public class ActivityRollup {
+    // 프로젝트와 무관한 활동은 site_id, project_id 를 0으로 둔다 (NULL은 유니크 키로 묶이지 않음)
+    public static final long NONE = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "activity_date", nullable = false)
+    private LocalDate activityDate;
+
+    @Column(name = "site_id", nullable = false)
+    private Long siteId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private ActivityType type;
+
+    @Column(name = "activity_count", nullable = false)
+    private Long count;
+}
@@ -9,7 +9,10 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.Column;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import lombok.*;
+import org.hibernate.annotations.Comment;
 
 @Entity
 @Table(name = "board_columns")
@@ -36,6 +39,11 @@ public class BoardColumn {
     @Column(nullable = false)
     private Integer orderIndex;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20)
+    @Comment("이 칼럼에 대응하는 이슈 상태 (상태를 바꾸면 이 칼럼으로 이동)")
+    private IssueStatus status;
+
     @Column(nullable = false)
     @Builder.Default
     private Boolean isActive = true;
@@ -31,6 +31,11 @@ public class CustomIssueStatus {
     @Column(nullable = false)
     private Integer orderIndex;
 
+    // 이 상태에 대응하는 보드 칼럼 (없으면 칼럼 이동 없음)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "column_id")
+    private BoardColumn column;
+
     @Column(nullable = false)
     @Builder.Default
     private Boolean isActive = true;
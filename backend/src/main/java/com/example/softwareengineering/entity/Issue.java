@@ -5,6 +5,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -30,7 +31,8 @@ import org.hibernate.annotations.Comment;
 @Builder
 public class Issue {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "issues_seq")
+    @SequenceGenerator(name = "issues_seq", sequenceName = "issues_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -71,6 +73,10 @@ public class Issue {
     @Comment("칼럼 간 이동 시 사용되는 전역 순서")
     private Integer orderIndex;
 
+    @Column(name = "rank_key", length = 64)
+    @Comment("칼럼 내 모든 사용자가 공유하는 기본 순위 키 (RankKeys)")
+    private String rankKey;
+
     @Column(nullable = false)
     @Builder.Default
     private Boolean isActive = true;
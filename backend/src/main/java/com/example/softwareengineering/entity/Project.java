@@ -38,6 +38,11 @@ public class Project {
     @JoinColumn(name = "created_by")
     private User createdBy;
 
+    // 보드/칼럼/멤버 등 프로젝트 조회 결과가 바뀔 때마다 증가 (ETag, 델타 동기화용)
+    @Builder.Default
+    @Column(name = "board_version")
+    private Long boardVersion = 0L;
+
     @Builder.Default
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<ProjectMember> members = new HashSet<>();
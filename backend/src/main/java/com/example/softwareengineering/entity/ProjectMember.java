@@ -12,7 +12,8 @@ import lombok.*;
 @Builder
 public class ProjectMember {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_members_seq")
+    @SequenceGenerator(name = "project_members_seq", sequenceName = "project_members_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,5 @@
+package com.example.softwareengineering.entity;
+
+public enum TokenAccess {
+    READ, WRITE
+}
@@ -38,6 +38,11 @@ public class User {
     @Column(name = "user_id", nullable = false, unique = true, length = 50)
     private String userId;
 
+    // 사이트 멤버십이 바뀔 때마다 증가 (JWT 역할 클레임 유효성 판단용)
+    @Builder.Default
+    @Column(name = "membership_version")
+    private Long membershipVersion = 0L;
+
     // --- Getter / Setter ---
     public Long getId() { return id; }
 
@@ -58,6 +63,8 @@ public class User {
     public String getUserId() { return userId; }
     public void setUserId(String userId) { this.userId = userId; }
 
+    public long getMembershipVersion() { return membershipVersion != null ? membershipVersion : 0L; }
+
     public String getProfileImage() {
         return profileImage;
     }
@@ -31,6 +31,10 @@ public class UserIssueOrder {
     @Column(nullable = false)
     private Integer orderIndex;
 
+    // 사용자가 직접 순서를 바꾼 이슈에만 남는 순위 키 (없으면 이슈의 기본 순위 키를 따른다)
+    @Column(name = "rank_key", length = 64)
+    private String rankKey;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "column_id", nullable = false)
     private BoardColumn column;
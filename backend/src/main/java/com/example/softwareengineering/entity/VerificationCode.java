@@ -0,0 +1,34 @@
+package com.example.softwareengineering.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 여러 서버가 공유하는 이메일 인증번호 (verification.code-store=database 일 때 사용)
+@Entity
+@Table(name = "verification_codes", indexes = {
+    @Index(name = "idx_verification_codes_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VerificationCode {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "code_key", nullable = false, unique = true)
+    private String codeKey;
+
+    @Column(nullable = false, length = 10)
+    private String code;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,45 @@
+package com.example.softwareengineering.event;
+
+import com.example.softwareengineering.dto.ActivityLogRequestDTO;
+import com.example.softwareengineering.entity.ActivityType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 활동 내역 한 건. 업무 트랜잭션이 커밋된 뒤 ActivityLogWriter가 모아서 일괄 저장한다.
+ * 발생 시각은 저장 시각이 아니라 이벤트를 만든 시각이다.
+ */
+public record ActivityRecordedEvent(
+        Long userId,
+        ActivityType type,
+        String title,
+        String content,
+        Long projectId,
+        Long issueId,
+        Long commentId,
+        String targetPage,
+        String statusChange,
+        LocalDateTime timestamp) {
+
+    // activity_logs 칼럼 길이 (넘치는 한 건 때문에 배치 전체가 실패하지 않도록 잘라서 보관)
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_CONTENT_LENGTH = 1000;
+
+    public static ActivityRecordedEvent of(ActivityLogRequestDTO request) {
+        return new ActivityRecordedEvent(
+            request.getUserId(),
+            request.getType(),
+            truncate(request.getTitle(), MAX_TITLE_LENGTH),
+            truncate(request.getContent(), MAX_CONTENT_LENGTH),
+            request.getProjectId(),
+            request.getIssueId(),
+            request.getCommentId(),
+            truncate(request.getTargetPage(), MAX_TITLE_LENGTH),
+            truncate(request.getStatusChange(), MAX_TITLE_LENGTH),
+            LocalDateTime.now());
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.softwareengineering.event;
+
+import com.example.softwareengineering.dto.BoardOrderRow;
+
+import java.util.List;
+
+/**
+ * 프로젝트 보드 내용(이슈 카드, 사용자별 순서, 칼럼 구성)이 바뀌었을 때 발행되는 이벤트.
+ * 커밋 이후 인메모리 보드 읽기 모델에 반영된다.
+ */
+public record BoardChangedEvent(Type type, Long projectId, Long issueId, String userId, List<BoardOrderRow> orders) {
+    public enum Type {
+        ISSUE_CREATED,
+        ISSUE_SAVED,    // 이슈 수정 (칼럼 유지)
+        ISSUE_MOVED,    // 이슈 칼럼 변경 (모든 사용자의 순서가 다시 만들어짐)
+        ISSUE_DELETED,
+        ORDERS_CHANGED, // 한 사용자의 순서 변경
+        BOARD_RESET     // 칼럼 구성 변경, 프로젝트 삭제 등 전체 다시 읽기
+    }
+
+    public static BoardChangedEvent issueCreated(Long projectId, Long issueId) {
+        return new BoardChangedEvent(Type.ISSUE_CREATED, projectId, issueId, null, List.of());
+    }
+
+    public static BoardChangedEvent issueSaved(Long projectId, Long issueId) {
+        return new BoardChangedEvent(Type.ISSUE_SAVED, projectId, issueId, null, List.of());
+    }
+
+    public static BoardChangedEvent issueMoved(Long projectId, Long issueId) {
+        return new BoardChangedEvent(Type.ISSUE_MOVED, projectId, issueId, null, List.of());
+    }
+
+    public static BoardChangedEvent issueDeleted(Long projectId, Long issueId) {
+        return new BoardChangedEvent(Type.ISSUE_DELETED, projectId, issueId, null, List.of());
+    }
+
+    public static BoardChangedEvent ordersChanged(Long projectId, String userId, List<BoardOrderRow> orders) {
+        return new BoardChangedEvent(Type.ORDERS_CHANGED, projectId, null, userId, List.copyOf(orders));
+    }
+
+    public static BoardChangedEvent boardReset(Long projectId) {
+        return new BoardChangedEvent(Type.BOARD_RESET, projectId, null, null, List.of());
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.softwareengineering.event;
+
+/**
+ * 사이트/프로젝트 멤버십(가입, 역할 변경, 탈퇴)이 바뀌었을 때 발행되는 이벤트.
+ * userId가 null이면 해당 사이트/프로젝트의 전체 멤버가 대상이다.
+ */
+public record MembershipChangedEvent(Scope scope, Long scopeId, Long userId) {
+    public enum Scope {
+        SITE,
+        PROJECT
+    }
+
+    public static MembershipChangedEvent site(Long siteId, Long userId) {
+        return new MembershipChangedEvent(Scope.SITE, siteId, userId);
+    }
+
+    public static MembershipChangedEvent project(Long projectId, Long userId) {
+        return new MembershipChangedEvent(Scope.PROJECT, projectId, userId);
+    }
+}
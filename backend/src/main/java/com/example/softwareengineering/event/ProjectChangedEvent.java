@@ -0,0 +1,7 @@
+package com.example.softwareengineering.event;
+
+/**
+ * 보드/멤버십 이외의 프로젝트 데이터(커스텀 상태 등)가 바뀌었을 때 발행되는 이벤트.
+ */
+public record ProjectChangedEvent(Long projectId) {
+}
@@ -0,0 +1,10 @@
+package com.example.softwareengineering.exception;
+
+// 서버가 포화 상태라 요청을 즉시 거절할 때 사용 (503 응답)
+public class ServiceBusyException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
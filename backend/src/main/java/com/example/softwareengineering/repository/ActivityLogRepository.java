@@ -2,6 +2,7 @@ package com.example.softwareengineering.repository;
 
 import com.example.softwareengineering.entity.ActivityLog;
 import com.example.softwareengineering.entity.Project;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -25,44 +27,53 @@ public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long>
            "WHERE a.project = :project ORDER BY a.timestamp DESC")
     List<ActivityLog> findByProjectOrderByTimestampDesc(@Param("project") Project project);
     
-    @Query("SELECT DISTINCT a FROM ActivityLog a " +
-           "LEFT JOIN FETCH a.user " +
-           "LEFT JOIN FETCH a.project p " +
-           "WHERE a.user.id = :userId AND (p IS NULL OR p.site.id = :siteId) " +
-           "ORDER BY a.timestamp DESC")
-    List<ActivityLog> findUserActivitiesInSite(
+    // 키셋 페이지: (timestamp, id) 내림차순으로 커서보다 오래된 항목의 ID만 먼저 읽는다 (LIMIT이 DB에서 적용됨)
+    String BEFORE_CURSOR = "(a.timestamp < :timestamp OR (a.timestamp = :timestamp AND a.id < :id)) ";
+    String FEED_ORDER = "ORDER BY a.timestamp DESC, a.id DESC";
+
+    @Query("SELECT a.id FROM ActivityLog a LEFT JOIN a.project p " +
+           "WHERE a.user.id = :userId AND (p IS NULL OR p.site.id = :siteId) AND " + BEFORE_CURSOR + FEED_ORDER)
+    List<Long> findUserFeedIdsInSite(
         @Param("userId") Long userId,
         @Param("siteId") Long siteId,
+        @Param("timestamp") LocalDateTime timestamp,
+        @Param("id") Long id,
         Pageable pageable
     );
 
-    @Query("SELECT DISTINCT a FROM ActivityLog a " +
-           "LEFT JOIN FETCH a.user " +
-           "LEFT JOIN FETCH a.project p " +
-           "WHERE (p IS NULL OR p.site.id = :siteId) " +
-           "ORDER BY a.timestamp DESC")
-    List<ActivityLog> findSiteMembersActivities(
+    @Query("SELECT a.id FROM ActivityLog a LEFT JOIN a.project p " +
+           "WHERE (p IS NULL OR p.site.id = :siteId) AND " + BEFORE_CURSOR + FEED_ORDER)
+    List<Long> findSiteFeedIds(
         @Param("siteId") Long siteId,
+        @Param("timestamp") LocalDateTime timestamp,
+        @Param("id") Long id,
         Pageable pageable
     );
-    
-    @Query("SELECT DISTINCT a FROM ActivityLog a " +
-           "LEFT JOIN FETCH a.user " +
-           "LEFT JOIN FETCH a.project " +
-           "WHERE a.user.id = :userId " +
-           "ORDER BY a.timestamp DESC")
-    List<ActivityLog> findRecentActivitiesByUser(
+
+    @Query("SELECT a.id FROM ActivityLog a WHERE a.user.id = :userId AND " + BEFORE_CURSOR + FEED_ORDER)
+    List<Long> findUserFeedIds(
         @Param("userId") Long userId,
+        @Param("timestamp") LocalDateTime timestamp,
+        @Param("id") Long id,
         Pageable pageable
     );
-    
-    @Query("SELECT a FROM ActivityLog a WHERE a.project.id = :projectId ORDER BY a.timestamp DESC")
-    List<ActivityLog> findRecentActivitiesByProject(
+
+    @Query("SELECT a.id FROM ActivityLog a WHERE a.project.id = :projectId AND " + BEFORE_CURSOR + FEED_ORDER)
+    List<Long> findProjectFeedIds(
         @Param("projectId") Long projectId,
+        @Param("timestamp") LocalDateTime timestamp,
+        @Param("id") Long id,
         Pageable pageable
     );
-    
-    void deleteByTimestampBefore(LocalDateTime timestamp);
+
+    // 번호 페이지용 (사용자별 활동 API)
+    @Query(value = "SELECT a.id FROM ActivityLog a WHERE a.user.id = :userId " + FEED_ORDER,
+           countQuery = "SELECT COUNT(a) FROM ActivityLog a WHERE a.user.id = :userId")
+    Page<Long> findUserActivityIds(@Param("userId") Long userId, Pageable pageable);
+
+    // 페이지의 ID로 사용자/프로젝트와 함께 한 번에 조회 (순서는 호출하는 쪽에서 ID 순서대로 맞춘다)
+    @Query("SELECT a FROM ActivityLog a JOIN FETCH a.user LEFT JOIN FETCH a.project WHERE a.id IN :ids")
+    List<ActivityLog> findAllWithUserAndProjectByIdIn(@Param("ids") Collection<Long> ids);
 
     @Modifying
     @Query("DELETE FROM ActivityLog a WHERE a.project.site.id = :siteId")
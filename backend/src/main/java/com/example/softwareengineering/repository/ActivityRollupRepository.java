@@ -0,0 +1,43 @@
+package com.example.softwareengineering.repository;
+
+import com.example.softwareengineering.dto.ActivityContributorCount;
+import com.example.softwareengineering.dto.ActivityDailyCount;
+import com.example.softwareengineering.dto.ActivityTypeDailyCount;
+import com.example.softwareengineering.entity.ActivityRollup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ActivityRollupRepository extends JpaRepository<ActivityRollup, Long> {
+    // 사이트의 프로젝트별 일일 활동 건수
+    @Query("SELECT new com.example.softwareengineering.dto.ActivityDailyCount(r.activityDate, r.projectId, SUM(r.count)) " +
+           "FROM ActivityRollup r WHERE r.siteId = :siteId AND r.activityDate >= :from " +
+           "GROUP BY r.activityDate, r.projectId ORDER BY r.activityDate, r.projectId")
+    List<ActivityDailyCount> findSiteDailyCounts(@Param("siteId") Long siteId, @Param("from") LocalDate from);
+
+    // 프로젝트의 유형별 일일 활동 건수
+    @Query("SELECT new com.example.softwareengineering.dto.ActivityTypeDailyCount(r.activityDate, r.type, SUM(r.count)) " +
+           "FROM ActivityRollup r WHERE r.projectId = :projectId AND r.activityDate >= :from " +
+           "GROUP BY r.activityDate, r.type ORDER BY r.activityDate, r.type")
+    List<ActivityTypeDailyCount> findProjectDailyCounts(@Param("projectId") Long projectId, @Param("from") LocalDate from);
+
+    @Query("SELECT new com.example.softwareengineering.dto.ActivityContributorCount(r.userId, u.userId, SUM(r.count)) " +
+           "FROM ActivityRollup r JOIN User u ON u.id = r.userId " +
+           "WHERE r.siteId = :siteId AND r.activityDate >= :from " +
+           "GROUP BY r.userId, u.userId ORDER BY SUM(r.count) DESC")
+    List<ActivityContributorCount> findSiteTopContributors(
+        @Param("siteId") Long siteId, @Param("from") LocalDate from, Pageable pageable);
+
+    @Query("SELECT new com.example.softwareengineering.dto.ActivityContributorCount(r.userId, u.userId, SUM(r.count)) " +
+           "FROM ActivityRollup r JOIN User u ON u.id = r.userId " +
+           "WHERE r.projectId = :projectId AND r.activityDate >= :from " +
+           "GROUP BY r.userId, u.userId ORDER BY SUM(r.count) DESC")
+    List<ActivityContributorCount> findProjectTopContributors(
+        @Param("projectId") Long projectId, @Param("from") LocalDate from, Pageable pageable);
+}
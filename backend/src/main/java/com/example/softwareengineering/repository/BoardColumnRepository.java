@@ -1,10 +1,13 @@
 package com.example.softwareengineering.repository;
 
+import com.example.softwareengineering.dto.BoardColumnRow;
+import com.example.softwareengineering.dto.StatusColumnRow;
 import com.example.softwareengineering.entity.BoardColumn;
 import com.example.softwareengineering.entity.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,6 +15,15 @@ import java.util.List;
 @Repository
 public interface BoardColumnRepository extends JpaRepository<BoardColumn, Long> {
     List<BoardColumn> findByProjectAndIsActiveTrueOrderByOrderIndexAsc(Project project);
+
+    @Query("SELECT new com.example.softwareengineering.dto.BoardColumnRow(c.id, c.title, c.icon, c.orderIndex) " +
+           "FROM BoardColumn c WHERE c.project.id = :projectId AND c.isActive = true ORDER BY c.orderIndex ASC")
+    List<BoardColumnRow> findBoardColumnRows(@Param("projectId") Long projectId);
+
+    @Query("SELECT new com.example.softwareengineering.dto.StatusColumnRow(c.id, c.title, c.status, s.id) " +
+           "FROM BoardColumn c LEFT JOIN CustomIssueStatus s ON s.column = c AND s.isActive = true " +
+           "WHERE c.project.id = :projectId AND c.isActive = true ORDER BY c.orderIndex ASC, c.id ASC")
+    List<StatusColumnRow> findStatusColumnRows(@Param("projectId") Long projectId);
     
     @Modifying
     @Query("DELETE FROM BoardColumn bc WHERE bc.project = :project")
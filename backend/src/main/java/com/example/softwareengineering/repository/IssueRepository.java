@@ -1,5 +1,7 @@
 package com.example.softwareengineering.repository;
 
+import com.example.softwareengineering.dto.BoardIssueRow;
+import com.example.softwareengineering.dto.IssueExportRow;
 import com.example.softwareengineering.entity.BoardColumn;
 import com.example.softwareengineering.entity.Issue;
 import com.example.softwareengineering.entity.Project;
@@ -8,10 +10,16 @@ import com.example.softwareengineering.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface IssueRepository extends JpaRepository<Issue, Long> {
@@ -20,6 +28,45 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
     List<Issue> findByColumnAndIsActiveTrueOrderByOrderIndexAsc(BoardColumn column);
     List<Issue> findByProject(Project project);
     List<Issue> findByProjectAndIsActiveTrue(Project project);
+
+    // 보드 한 화면에 필요한 이슈 정보와 사용자별 순서를 한 번에 조회
+    @Query("SELECT new com.example.softwareengineering.dto.BoardIssueRow(" +
+           "i.id, i.title, i.description, i.status, i.startDate, i.endDate, a.userId, r.userId, c.id, i.rankKey) " +
+           "FROM Issue i JOIN i.column c LEFT JOIN i.assignee a LEFT JOIN i.reporter r " +
+           "WHERE i.project.id = :projectId AND i.isActive = true AND c.isActive = true " +
+           "ORDER BY c.id, i.id")
+    List<BoardIssueRow> findBoardIssueRows(@Param("projectId") Long projectId);
+
+    @Query("SELECT new com.example.softwareengineering.dto.BoardIssueRow(" +
+           "i.id, i.title, i.description, i.status, i.startDate, i.endDate, a.userId, r.userId, c.id, i.rankKey) " +
+           "FROM Issue i JOIN i.column c LEFT JOIN i.assignee a LEFT JOIN i.reporter r " +
+           "WHERE i.id = :issueId AND i.isActive = true AND c.isActive = true")
+    Optional<BoardIssueRow> findBoardIssueRow(@Param("issueId") Long issueId);
+
+    // 내보내기용 전진 전용 커서: MySQL Connector/J는 fetch size가 Integer.MIN_VALUE일 때 결과를 한 행씩 스트리밍한다.
+    // 호출하는 쪽에서 트랜잭션을 열고 스트림을 닫아야 하며, 읽는 동안 같은 커넥션으로 다른 쿼리를 보내면 안 된다.
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+        @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.softwareengineering.dto.IssueExportRow(" +
+           "i.id, i.title, i.description, i.status, c.id, c.title, a.userId, r.userId, i.startDate, i.endDate, i.createdAt) " +
+           "FROM Issue i JOIN i.column c LEFT JOIN i.assignee a LEFT JOIN i.reporter r " +
+           "WHERE i.project.id = :projectId AND i.isActive = true AND c.isActive = true " +
+           "ORDER BY c.orderIndex, c.id, i.rankKey, i.id")
+    Stream<IssueExportRow> streamExportRows(@Param("projectId") Long projectId);
+
+    // 순서 일괄 변경 시 요청한 이슈를 프로젝트/칼럼과 함께 한 번에 조회
+    @Query("SELECT i FROM Issue i JOIN FETCH i.project JOIN FETCH i.column WHERE i.id IN :issueIds")
+    List<Issue> findAllWithProjectAndColumnByIdIn(@Param("issueIds") Collection<Long> issueIds);
+
+    // 활동 내역 피드의 이슈 제목을 한 번에 조회 (행: [id, title])
+    @Query("SELECT i.id, i.title FROM Issue i WHERE i.id IN :issueIds")
+    List<Object[]> findTitlesByIdIn(@Param("issueIds") Collection<Long> issueIds);
+
+    // 칼럼 맨 뒤에 이슈를 놓을 때 쓰는 현재 최대 순위 키
+    @Query("SELECT MAX(i.rankKey) FROM Issue i WHERE i.column = :column AND i.isActive = true")
+    String findMaxRankKeyByColumn(@Param("column") BoardColumn column);
     
     @Query("SELECT i FROM Issue i WHERE i.project = :project AND i.status = com.example.softwareengineering.entity.IssueStatus.TODO AND i.isActive = true")
     List<Issue> findByProjectAndStatus(@Param("project") Project project);
@@ -0,0 +1,19 @@
+package com.example.softwareengineering.repository;
+
+import com.example.softwareengineering.entity.PersonalAccessToken;
+import com.example.softwareengineering.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PersonalAccessTokenRepository extends JpaRepository<PersonalAccessToken, Long> {
+    @Query("SELECT t FROM PersonalAccessToken t JOIN FETCH t.user WHERE t.tokenHash = :tokenHash AND t.revoked = false")
+    Optional<PersonalAccessToken> findActiveByTokenHash(@Param("tokenHash") String tokenHash);
+
+    List<PersonalAccessToken> findByUserOrderByCreatedAtDesc(User user);
+}
@@ -1,5 +1,6 @@
 package com.example.softwareengineering.repository;
 
+import com.example.softwareengineering.entity.MemberRole;
 import com.example.softwareengineering.entity.Project;
 import com.example.softwareengineering.entity.ProjectMember;
 import com.example.softwareengineering.entity.User;
@@ -17,6 +18,9 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Lo
     Optional<ProjectMember> findByProjectAndUser(Project project, User user);
     boolean existsByProjectAndUser(Project project, User user);
     List<ProjectMember> findByProject(Project project);
+
+    @Query("SELECT pm.role FROM ProjectMember pm WHERE pm.project.id = :projectId AND pm.user.id = :userId")
+    Optional<MemberRole> findRoleByProjectIdAndUserId(@Param("projectId") Long projectId, @Param("userId") Long userId);
     
     @Modifying
     @Query("DELETE FROM ProjectMember pm WHERE pm.project = :project")
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,7 +18,21 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findBySite(Site site);
     boolean existsByKey(String key);
     Optional<Project> findByKey(String key);
+
+    @Query("SELECT p.site.id FROM Project p WHERE p.id = :projectId")
+    Optional<Long> findSiteIdById(@Param("projectId") Long projectId);
+
+    // 행: [projectId, siteId]
+    @Query("SELECT p.id, p.site.id FROM Project p WHERE p.id IN :projectIds")
+    List<Object[]> findSiteIdsByIdIn(@Param("projectIds") Collection<Long> projectIds);
     
+    @Query("SELECT COALESCE(p.boardVersion, 0) FROM Project p WHERE p.id = :id")
+    Optional<Long> findBoardVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Project p SET p.boardVersion = COALESCE(p.boardVersion, 0) + 1 WHERE p.id = :id")
+    int incrementBoardVersion(@Param("id") Long id);
+
     @Modifying
     @Query("DELETE FROM Project p WHERE p.site = :site")
     void deleteBySite(Site site);
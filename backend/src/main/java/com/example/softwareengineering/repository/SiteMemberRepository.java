@@ -7,6 +7,7 @@ import com.example.softwareengineering.entity.MemberRole;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -18,6 +19,9 @@ public interface SiteMemberRepository extends JpaRepository<SiteMember, Long> {
     Optional<SiteMember> findBySiteAndUser(Site site, User user);
     List<SiteMember> findByUser(User user);
     List<SiteMember> findBySiteAndRole(Site site, MemberRole role);
+
+    @Query("SELECT sm.role FROM SiteMember sm WHERE sm.site.id = :siteId AND sm.user.id = :userId")
+    Optional<MemberRole> findRoleBySiteIdAndUserId(@Param("siteId") Long siteId, @Param("userId") Long userId);
     
     @Modifying
     @Query("DELETE FROM SiteMember sm WHERE sm.site = :site")
@@ -0,0 +1,53 @@
+package com.example.softwareengineering.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자별 이슈 순서 행을 JDBC 배치로 한 번에 쓰는 저장소.
+ * user_issue_orders는 IDENTITY 키라 Hibernate가 INSERT를 배치로 묶지 못하므로,
+ * 순서 일괄 변경처럼 행이 많은 경우 UPDATE 한 묶음과 INSERT 한 묶음으로 나눠 보낸다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserIssueOrderBatchRepository {
+    private static final String UPDATE_SQL =
+        "UPDATE user_issue_orders SET column_id = ?, order_index = ?, rank_key = ?, updated_at = ? WHERE id = ?";
+    private static final String INSERT_SQL =
+        "INSERT INTO user_issue_orders (user_id, issue_id, project_id, column_id, order_index, rank_key, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 쓸 순서 행. id가 있으면 기존 행 갱신, 없으면 새 행.
+     */
+    public record Row(Long id, Long userId, Long issueId, Long projectId, Long columnId, int orderIndex, String rankKey) {
+    }
+
+    public void saveAll(List<Row> rows) {
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (Row row : rows) {
+            if (row.id() != null) {
+                updates.add(new Object[]{row.columnId(), row.orderIndex(), row.rankKey(), now, row.id()});
+            } else {
+                inserts.add(new Object[]{row.userId(), row.issueId(), row.projectId(), row.columnId(),
+                    row.orderIndex(), row.rankKey(), now, now});
+            }
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.softwareengineering.repository;
 
+import com.example.softwareengineering.dto.BoardOrderRow;
 import com.example.softwareengineering.entity.UserIssueOrder;
 import com.example.softwareengineering.entity.User;
 import com.example.softwareengineering.entity.Issue;
@@ -11,6 +12,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.Modifying;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +41,19 @@ public interface UserIssueOrderRepository extends JpaRepository<UserIssueOrder,
     @Query("SELECT uo FROM UserIssueOrder uo WHERE uo.user.id = :userId AND uo.issue = :issue AND uo.issue.isActive = true")
     Optional<UserIssueOrder> findByUserAndIssue(@Param("userId") Long userId, @Param("issue") Issue issue);
     
+    @Query("SELECT new com.example.softwareengineering.dto.BoardOrderRow(uo.issue.id, uo.column.id, uo.rankKey) " +
+           "FROM UserIssueOrder uo WHERE uo.project.id = :projectId AND uo.user.userId = :userId AND uo.rankKey IS NOT NULL")
+    List<BoardOrderRow> findBoardOrderRows(@Param("projectId") Long projectId, @Param("userId") String userId);
+
+    // 순서 일괄 변경 대상 이슈들에 대한 사용자의 기존 순서 행 (칼럼과 관계없이 사용자-이슈당 한 행)
+    @Query("SELECT uo FROM UserIssueOrder uo WHERE uo.user.id = :userId AND uo.issue.id IN :issueIds")
+    List<UserIssueOrder> findByUserIdAndIssueIdIn(@Param("userId") Long userId, @Param("issueIds") Collection<Long> issueIds);
+
+    // 이슈가 다른 칼럼으로 이동하면 모든 사용자의 오버라이드를 한 번에 지운다
+    @Modifying
+    @Query("DELETE FROM UserIssueOrder uo WHERE uo.issue.id = :issueId")
+    int deleteOverridesByIssueId(@Param("issueId") Long issueId);
+
     @Query("DELETE FROM UserIssueOrder uo WHERE uo.project = :project")
     void deleteByProject(@Param("project") Project project);
 
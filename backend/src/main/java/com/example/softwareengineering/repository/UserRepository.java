@@ -1,8 +1,15 @@
 package com.example.softwareengineering.repository;
 
+import com.example.softwareengineering.entity.Site;
 import com.example.softwareengineering.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -10,5 +17,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUserId(String userId);
     Optional<User> findByEmail(String email);
     Optional<User> findByUserId(String userId);
+
+    @Query("SELECT u.id FROM User u WHERE u.userId = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") String userId);
     Optional<User> findByEmailOrUserId(String email, String userId);
+
+    // 로그인 ID 여러 개를 한 번에 [id, userId] 로 조회
+    @Query("SELECT u.id, u.userId FROM User u WHERE u.userId IN :userIds")
+    List<Object[]> findIdsByUserIdIn(@Param("userIds") Collection<String> userIds);
+
+    @Query("SELECT COALESCE(u.membershipVersion, 0) FROM User u WHERE u.id = :id")
+    Optional<Long> findMembershipVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE User u SET u.membershipVersion = COALESCE(u.membershipVersion, 0) + 1 WHERE u.id = :id")
+    int incrementMembershipVersion(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE User u SET u.membershipVersion = COALESCE(u.membershipVersion, 0) + 1 " +
+           "WHERE u.id IN (SELECT sm.user.id FROM SiteMember sm WHERE sm.site = :site)")
+    int incrementMembershipVersionBySite(@Param("site") Site site);
+
+    // 해시를 읽은 뒤 다른 요청이 비밀번호를 바꿨으면 덮어쓰지 않는다 (0 반환)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :id AND u.password = :oldPassword")
+    int updatePassword(@Param("id") Long id, @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword);
 }
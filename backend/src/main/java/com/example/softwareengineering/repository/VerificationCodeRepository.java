@@ -0,0 +1,22 @@
+package com.example.softwareengineering.repository;
+
+import com.example.softwareengineering.entity.VerificationCode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface VerificationCodeRepository extends JpaRepository<VerificationCode, Long> {
+    Optional<VerificationCode> findByCodeKey(String codeKey);
+
+    Optional<VerificationCode> findByCodeKeyAndExpiresAtAfter(String codeKey, LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM VerificationCode v WHERE v.codeKey = :codeKey")
+    void deleteByCodeKey(@Param("codeKey") String codeKey);
+}
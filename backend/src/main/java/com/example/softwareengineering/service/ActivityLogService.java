@@ -2,25 +2,35 @@ package com.example.softwareengineering.service;
 
 import com.example.softwareengineering.dto.ActivityLogRequestDTO;
 import com.example.softwareengineering.dto.ActivityLogDTO;
+import com.example.softwareengineering.dto.ActivityFeedCursor;
+import com.example.softwareengineering.dto.ActivityFeedPage;
 import com.example.softwareengineering.entity.ActivityLog;
 import com.example.softwareengineering.entity.Project;
 import com.example.softwareengineering.entity.User;
-import com.example.softwareengineering.entity.Issue;
+import com.example.softwareengineering.event.ActivityRecordedEvent;
 import com.example.softwareengineering.repository.ActivityLogRepository;
 import com.example.softwareengineering.repository.ProjectRepository;
 import com.example.softwareengineering.repository.UserRepository;
-import com.example.softwareengineering.repository.IssueRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * 활동 이벤트 저장소(activity_logs). 사용자 행동은 여기에 한 번만 추가되고,
+ * 활동 피드, 최근 작업 목록(getRecentWorks), 사용자별 활동(ActivityService)은 모두 이 행들에서 만들어진다.
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -28,11 +38,39 @@ public class ActivityLogService {
     private final ActivityLogRepository activityLogRepository;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
-    private final IssueRepository issueRepository;
+    private final IssueTitleCache issueTitleCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DataRetentionService dataRetentionService;
+    private final ActivityRollupService activityRollupService;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_DATE_TIME;
+    // 피드 한 페이지 최대 항목 수
+    private static final int MAX_FEED_LIMIT = 100;
+    // 메인 화면 최근 작업 목록 항목 수
+    private static final int RECENT_WORKS_LIMIT = 50;
+    private static final DateTimeFormatter RECENT_WORK_FORMATTER = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm");
+
+    /**
+     * 업무 트랜잭션 안에서 활동 내역을 남긴다. 저장은 커밋 이후 ActivityLogWriter가 모아서 하므로
+     * 사용자/프로젝트 조회나 INSERT가 호출한 트랜잭션에 더해지지 않고, 롤백되면 함께 버려진다.
+     */
+    public void recordActivity(ActivityLogRequestDTO requestDTO) {
+        if (requestDTO.getUserId() == null || requestDTO.getType() == null || requestDTO.getTitle() == null) {
+            throw new IllegalArgumentException("활동 내역에는 사용자, 유형, 제목이 필요합니다.");
+        }
+        eventPublisher.publishEvent(ActivityRecordedEvent.of(requestDTO));
+    }
 
     @Transactional
     public ActivityLogDTO createActivityLog(ActivityLogRequestDTO requestDTO) {
+        return toDTOs(List.of(append(requestDTO))).get(0);
+    }
+
+    /**
+     * 저장된 ID가 바로 필요한 경우(직접 생성 API)의 동기 기록. 호출한 트랜잭션에 함께 저장된다.
+     * 기록 이벤트를 거치지 않으므로 집계에는 여기서 더한다.
+     */
+    @Transactional
+    public ActivityLog append(ActivityLogRequestDTO requestDTO) {
         // User 엔티티 조회
         User user = userRepository.findById(requestDTO.getUserId())
             .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
@@ -56,7 +94,8 @@ public class ActivityLogService {
         activityLog.setStatusChange(requestDTO.getStatusChange());
 
         ActivityLog saved = activityLogRepository.save(activityLog);
-        return convertToDTO(saved);
+        activityRollupService.count(ActivityRecordedEvent.of(requestDTO));
+        return saved;
     }
 
     public List<ActivityLogDTO> getActivityLogs(Long projectId) {
@@ -68,47 +107,132 @@ public class ActivityLogService {
         } else {
             activities = activityLogRepository.findAll();
         }
-        return activities.stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return toDTOs(activities);
     }
 
-    public List<ActivityLogDTO> getUserActivitiesInSite(Long userId, Long siteId, int limit) {
-        return activityLogRepository.findUserActivitiesInSite(userId, siteId, PageRequest.of(0, limit))
-            .stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+    public ActivityFeedPage getUserActivitiesInSite(Long userId, Long siteId, String cursor, int limit) {
+        return feedPage(cursor, limit, (after, page) ->
+            activityLogRepository.findUserFeedIdsInSite(userId, siteId, after.timestamp(), after.id(), page));
     }
 
-    public List<ActivityLogDTO> getSiteMembersActivities(Long siteId, int limit) {
-        return activityLogRepository.findSiteMembersActivities(siteId, PageRequest.of(0, limit))
-            .stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+    public ActivityFeedPage getSiteMembersActivities(Long siteId, String cursor, int limit) {
+        return feedPage(cursor, limit, (after, page) ->
+            activityLogRepository.findSiteFeedIds(siteId, after.timestamp(), after.id(), page));
+    }
+
+    public ActivityFeedPage getUserRecentActivities(Long userId, String cursor, int limit) {
+        return feedPage(cursor, limit, (after, page) ->
+            activityLogRepository.findUserFeedIds(userId, after.timestamp(), after.id(), page));
+    }
+
+    public ActivityFeedPage getProjectRecentActivities(Long projectId, String cursor, int limit) {
+        return feedPage(cursor, limit, (after, page) ->
+            activityLogRepository.findProjectFeedIds(projectId, after.timestamp(), after.id(), page));
     }
 
-    public List<ActivityLogDTO> getUserRecentActivities(Long userId, int limit) {
-        return activityLogRepository.findRecentActivitiesByUser(userId, PageRequest.of(0, limit))
-            .stream()
-            .map(this::convertToDTO)
+    /**
+     * 키셋 페이지 조회: 커서 뒤의 ID를 limit + 1개 읽어(다음 페이지 유무 확인) 본문을 ID로 한 번에 가져온다.
+     * 커서가 인덱스 (.., timestamp, id)의 시작 위치가 되므로 몇 번째 페이지든 비용이 같다.
+     */
+    private ActivityFeedPage feedPage(String cursor, int limit,
+                                      BiFunction<ActivityFeedCursor, Pageable, List<Long>> idQuery) {
+        int size = Math.max(1, Math.min(limit, MAX_FEED_LIMIT));
+        List<Long> ids = idQuery.apply(ActivityFeedCursor.parse(cursor), PageRequest.of(0, size + 1));
+        boolean hasMore = ids.size() > size;
+        if (hasMore) {
+            ids = ids.subList(0, size);
+        }
+        if (ids.isEmpty()) {
+            return new ActivityFeedPage(List.of(), null);
+        }
+
+        List<ActivityLog> activities = findInOrder(ids);
+        String nextCursor = null;
+        if (hasMore && !activities.isEmpty()) {
+            ActivityLog last = activities.get(activities.size() - 1);
+            nextCursor = new ActivityFeedCursor(last.getTimestamp(), last.getId()).encode();
+        }
+        return new ActivityFeedPage(toDTOs(activities), nextCursor);
+    }
+
+    // ID 순서대로 본문 조회 (두 쿼리 사이에 삭제된 항목은 건너뛴다)
+    List<ActivityLog> findInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ActivityLog> byId = activityLogRepository.findAllWithUserAndProjectByIdIn(ids).stream()
+            .collect(Collectors.toMap(ActivityLog::getId, Function.identity()));
+        return ids.stream()
+            .map(byId::get)
+            .filter(Objects::nonNull)
             .collect(Collectors.toList());
     }
 
-    public List<ActivityLogDTO> getProjectRecentActivities(Long projectId, int limit) {
-        return activityLogRepository.findRecentActivitiesByProject(projectId, PageRequest.of(0, limit))
-            .stream()
-            .map(this::convertToDTO)
+    /**
+     * 최근 작업 목록: 사이트 안에서 사용자가 프로젝트에 남긴 최근 활동을 작업 설명으로 바꾼다.
+     * (별도의 recent_works 테이블에 같은 내용을 다시 쓰지 않는다)
+     */
+    public List<Map<String, Object>> getRecentWorks(Long userId, Long siteId) {
+        List<Long> ids = activityLogRepository.findUserFeedIdsInSite(userId, siteId,
+            ActivityFeedCursor.FIRST.timestamp(), ActivityFeedCursor.FIRST.id(), PageRequest.of(0, RECENT_WORKS_LIMIT));
+        List<ActivityLog> activities = findInOrder(ids).stream()
+            .filter(activityLog -> activityLog.getProject() != null)
+            .collect(Collectors.toList());
+        Map<Long, String> issueTitles = issueTitles(activities);
+        return activities.stream()
+            .map(activityLog -> {
+                Map<String, Object> workMap = new HashMap<>();
+                workMap.put("id", activityLog.getId());
+                workMap.put("description", describeWork(activityLog, issueTitles));
+                workMap.put("projectName", activityLog.getProject().getName());
+                workMap.put("updatedAt", activityLog.getTimestamp().format(RECENT_WORK_FORMATTER));
+                return workMap;
+            })
             .collect(Collectors.toList());
     }
 
-    @Transactional
-    @Scheduled(cron = "0 0 0 * * *") // 매일 자정에 실행
+    private static String describeWork(ActivityLog activityLog, Map<Long, String> issueTitles) {
+        String issueTitle = issueTitles.getOrDefault(activityLog.getIssueId(), activityLog.getTitle());
+        return switch (activityLog.getType()) {
+            case ISSUE_CREATE -> String.format("이슈 생성 - %s", issueTitle);
+            case ISSUE_UPDATE -> String.format("이슈 수정 - %s", issueTitle);
+            case ISSUE_STATUS_CHANGE -> String.format("%s 변경 - %s", newStatus(activityLog.getStatusChange()), issueTitle);
+            case COMMENT_CREATE -> String.format("댓글생성 - %s", activityLog.getContent());
+            case COMMENT_UPDATE -> String.format("댓글수정 - %s", activityLog.getContent());
+            case PAGE_NAVIGATION -> String.format("페이지 이동 - %s", activityLog.getTargetPage());
+        };
+    }
+
+    // "이전 -> 이후" 형식의 상태 변경에서 바뀐 상태만
+    static String newStatus(String statusChange) {
+        if (statusChange == null) {
+            return "";
+        }
+        int arrow = statusChange.lastIndexOf("->");
+        return arrow < 0 ? statusChange.trim() : statusChange.substring(arrow + 2).trim();
+    }
+
+    // 주기적인 정리는 DataRetentionService가 수행 (여기서는 수동 정리 요청만 처리)
     public void cleanupOldActivities() {
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-        activityLogRepository.deleteByTimestampBefore(thirtyDaysAgo);
+        dataRetentionService.purge("activity_logs");
+    }
+
+    // 페이지의 이슈 제목은 ID를 모아 한 번에 조회 (캐시에 있는 것은 조회하지 않음)
+    private List<ActivityLogDTO> toDTOs(List<ActivityLog> activities) {
+        Map<Long, String> issueTitles = issueTitles(activities);
+        return activities.stream()
+            .map(activityLog -> convertToDTO(activityLog, issueTitles))
+            .collect(Collectors.toList());
+    }
+
+    Map<Long, String> issueTitles(List<ActivityLog> activities) {
+        return issueTitleCache.titles(activities.stream()
+            .map(ActivityLog::getIssueId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet()));
     }
 
-    private ActivityLogDTO convertToDTO(ActivityLog activityLog) {
+    private ActivityLogDTO convertToDTO(ActivityLog activityLog, Map<Long, String> issueTitles) {
         ActivityLogDTO dto = new ActivityLogDTO();
         dto.setId(activityLog.getId());
         dto.setUserId(activityLog.getUser().getId());
@@ -128,9 +252,7 @@ public class ActivityLogService {
         
         dto.setIssueId(activityLog.getIssueId());
         if (activityLog.getIssueId() != null) {
-            issueRepository.findById(activityLog.getIssueId()).ifPresent(issue -> {
-                dto.setIssueName(issue.getTitle());
-            });
+            dto.setIssueName(issueTitles.get(activityLog.getIssueId()));
         }
         
         dto.setCommentId(activityLog.getCommentId());
@@ -0,0 +1,286 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.entity.ActivityLog;
+import com.example.softwareengineering.entity.Project;
+import com.example.softwareengineering.entity.User;
+import com.example.softwareengineering.event.ActivityRecordedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 활동 내역 후기록(write-behind) 파이프라인.
+ * 업무 트랜잭션이 커밋된 뒤 이벤트를 고정 크기 큐에 넣기만 하고, 기록 스레드가 모아서 한 트랜잭션에 일괄 INSERT 한다
+ * (사용자/프로젝트는 조회하지 않고 참조만 건다).
+ * 큐가 가득 차면 잠깐 기다린 뒤 파일에 남긴다. 호출한 스레드는 아직 업무 트랜잭션의 커넥션을 쥐고 있으므로
+ * 여기서 DB에 쓰면 커넥션을 하나 더 요구해 풀이 고갈될 수 있다.
+ * 파일에 남긴 건(DB에 쓸 수 없던 건 포함)은 기록 스레드가 한가할 때, 또는 다음 기동 때 다시 저장한다.
+ */
+@Slf4j
+@Service
+public class ActivityLogWriter {
+    private static final long REPLAY_INTERVAL_MS = 10_000;
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ArrayBlockingQueue<ActivityRecordedEvent> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final Path spillFile;
+    private final ExecutorService worker;
+    private final Object spillLock = new Object();
+    private final Object replayLock = new Object();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong backpressureCount = new AtomicLong();
+    private final AtomicLong spilledCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private volatile boolean running = true;
+    private volatile boolean spillPending;
+    private long nextReplayAt;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ActivityLogWriter(
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${activity.log.queue-capacity:10000}") int queueCapacity,
+            @Value("${activity.log.batch-size:200}") int batchSize,
+            @Value("${activity.log.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${activity.log.offer-timeout-ms:50}") long offerTimeoutMs,
+            @Value("${activity.log.spill-file:./backend/data/activity-log-spill.ndjson}") String spillFile) {
+        this.objectMapper = objectMapper;
+        // 기록 스레드, 기동 시 재저장, 종료 시 비우기 어디서 호출되어도 독립된 트랜잭션으로 저장
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.spillFile = Paths.get(spillFile);
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "activity-log-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        worker.execute(this::drainLoop);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActivityRecorded(ActivityRecordedEvent event) {
+        if (running) {
+            try {
+                if (queue.offer(event, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    // 넣는 사이 종료가 시작됐다면 종료 시 비우기가 이미 끝났을 수 있다.
+                    // 아직 큐에 남아 있으면 직접 꺼내 파일에 남기고, 없으면 다른 쪽이 가져간 것이다.
+                    if (running || !queue.remove(event)) {
+                        return;
+                    }
+                    spill(List.of(event));
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 큐가 가득 찼거나 종료 중이면 DB 대신 파일에 남긴다 (호출한 스레드가 커넥션을 더 잡지 않음)
+        backpressureCount.incrementAndGet();
+        spill(List.of(event));
+    }
+
+    private void drainLoop() {
+        List<ActivityRecordedEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                ActivityRecordedEvent first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    replayWhenIdle();
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("활동 내역 기록 스레드 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 큐가 비어 있을 때 파일에 남긴 건을 다시 저장 (DB 장애 중에는 REPLAY_INTERVAL_MS 간격으로만 시도)
+    private void replayWhenIdle() {
+        if (!spillPending || System.currentTimeMillis() < nextReplayAt) {
+            return;
+        }
+        nextReplayAt = System.currentTimeMillis() + REPLAY_INTERVAL_MS;
+        replaySpilled();
+    }
+
+    // 배치 저장. activity_logs는 외래 키가 없으므로(V11) 실패는 DB에 쓸 수 없는 경우뿐이라 파일에 남긴다
+    private void write(List<ActivityRecordedEvent> batch) {
+        try {
+            insert(batch);
+            writtenCount.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            log.error("활동 내역 일괄 저장 실패, 파일에 보관: {}건", batch.size(), e);
+            spill(batch);
+        }
+    }
+
+    private void insert(List<ActivityRecordedEvent> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (ActivityRecordedEvent event : batch) {
+                ActivityLog activityLog = new ActivityLog();
+                activityLog.setUser(entityManager.getReference(User.class, event.userId()));
+                activityLog.setType(event.type());
+                activityLog.setTitle(event.title());
+                activityLog.setContent(event.content());
+                if (event.projectId() != null) {
+                    activityLog.setProject(entityManager.getReference(Project.class, event.projectId()));
+                }
+                activityLog.setIssueId(event.issueId());
+                activityLog.setCommentId(event.commentId());
+                activityLog.setTargetPage(event.targetPage());
+                activityLog.setStatusChange(event.statusChange());
+                activityLog.setTimestamp(event.timestamp());
+                entityManager.persist(activityLog);
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    private void spill(List<ActivityRecordedEvent> batch) {
+        synchronized (spillLock) {
+            try {
+                if (spillFile.getParent() != null) {
+                    Files.createDirectories(spillFile.getParent());
+                }
+                try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    for (ActivityRecordedEvent event : batch) {
+                        writer.write(objectMapper.writeValueAsString(event));
+                        writer.newLine();
+                    }
+                }
+                spilledCount.addAndGet(batch.size());
+                spillPending = true;
+            } catch (IOException e) {
+                droppedCount.addAndGet(batch.size());
+                log.error("활동 내역 파일 보관 실패, 버림: {}", batch, e);
+            }
+        }
+    }
+
+    /**
+     * 파일에 남긴 활동 내역을 다시 저장한다.
+     * 시퀀스 보정(IdSequenceInitializer)이 끝난 뒤여야 하므로 기동이 끝난 시점에 실행하고,
+     * 실행 중에는 큐가 비어 있을 때 기록 스레드가 실행한다 (두 곳이 겹치지 않도록 replayLock).
+     * 재저장 도중 중단되면 일부가 두 번 저장될 수 있다 (유실보다 중복을 택함).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void replaySpilled() {
+        synchronized (replayLock) {
+            replaySpilledFile();
+        }
+    }
+
+    private void replaySpilledFile() {
+        Path replaying = spillFile.resolveSibling(spillFile.getFileName() + ".replaying");
+        try {
+            synchronized (spillLock) {
+                spillPending = false;
+                if (!Files.exists(replaying)) {
+                    if (!Files.exists(spillFile)) {
+                        return;
+                    }
+                    Files.move(spillFile, replaying, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+            long replayed = 0;
+            List<ActivityRecordedEvent> batch = new ArrayList<>(batchSize);
+            try (BufferedReader reader = Files.newBufferedReader(replaying, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    batch.add(objectMapper.readValue(line, ActivityRecordedEvent.class));
+                    if (batch.size() >= batchSize) {
+                        write(batch);
+                        replayed += batch.size();
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                replayed += batch.size();
+            }
+            Files.delete(replaying);
+            log.info("보관된 활동 내역 재저장: {}건", replayed);
+        } catch (IOException e) {
+            log.error("보관된 활동 내역 재저장 실패: {}", replaying, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(10, TimeUnit.SECONDS)) {
+                worker.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            worker.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        // 남은 이벤트는 DB에 저장하고, 실패하면 파일에 남긴다
+        List<ActivityRecordedEvent> rest = new ArrayList<>(batchSize);
+        while (queue.drainTo(rest, batchSize) > 0) {
+            write(rest);
+            rest.clear();
+        }
+        log.info("활동 내역 기록기 종료: written={}, backpressure={}, spilled={}, dropped={}",
+            writtenCount.get(), backpressureCount.get(), spilledCount.get(), droppedCount.get());
+    }
+}
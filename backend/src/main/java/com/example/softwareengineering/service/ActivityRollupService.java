@@ -0,0 +1,189 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.cache.TtlLruCache;
+import com.example.softwareengineering.dto.ActivityContributorCount;
+import com.example.softwareengineering.dto.ActivityDailyCount;
+import com.example.softwareengineering.dto.ActivityTypeDailyCount;
+import com.example.softwareengineering.entity.ActivityRollup;
+import com.example.softwareengineering.entity.ActivityType;
+import com.example.softwareengineering.event.ActivityRecordedEvent;
+import com.example.softwareengineering.repository.ActivityRollupRepository;
+import com.example.softwareengineering.repository.ProjectRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 대시보드용 활동 집계.
+ * 활동이 기록될 때(커밋 이후) (프로젝트, 사용자, 유형, 날짜)별 카운터만 메모리에서 올리고,
+ * 주기적으로 activity_rollups 에 한 번의 배치 UPSERT로 더한다. 조회는 원본 activity_logs 대신 이 집계 행을 읽으므로
+ * 90일 통계도 (일 수 × 프로젝트/사용자/유형 조합) 수준의 행만 읽는다.
+ * 아직 반영되지 않은 카운터는 다음 반영 주기(activity.rollup.flush-ms)까지 조회에 보이지 않는다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ActivityRollupService {
+    private static final String UPSERT_SQL =
+        "INSERT INTO activity_rollups (activity_date, site_id, project_id, user_id, type, activity_count) " +
+        "VALUES (?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE activity_count = activity_count + VALUES(activity_count)";
+
+    private final ActivityRollupRepository rollupRepository;
+    private final ProjectRepository projectRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxDays;
+    // 프로젝트의 사이트는 바뀌지 않으므로 오래 보관한다
+    private final TtlLruCache<Long, Long> projectSites;
+    // 카운터 증가는 읽기 잠금, 반영할 때 맵을 바꿔 끼우는 것은 쓰기 잠금 (교체 직전의 증가가 유실되지 않도록)
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private ConcurrentHashMap<Key, LongAdder> pending = new ConcurrentHashMap<>();
+
+    private record Key(LocalDate day, Long projectId, Long userId, ActivityType type) {}
+
+    public ActivityRollupService(
+            ActivityRollupRepository rollupRepository,
+            ProjectRepository projectRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${activity.rollup.max-days:366}") int maxDays,
+            @Value("${activity.rollup.project-cache-size:10000}") int projectCacheSize) {
+        this.rollupRepository = rollupRepository;
+        this.projectRepository = projectRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxDays = maxDays;
+        this.projectSites = new TtlLruCache<>(projectCacheSize, Long.MAX_VALUE / 2);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActivityRecorded(ActivityRecordedEvent event) {
+        count(event);
+    }
+
+    public void count(ActivityRecordedEvent event) {
+        if (event.userId() == null || event.type() == null || event.timestamp() == null) {
+            return;
+        }
+        Key key = new Key(event.timestamp().toLocalDate(),
+            event.projectId() != null ? event.projectId() : ActivityRollup.NONE, event.userId(), event.type());
+        swapLock.readLock().lock();
+        try {
+            pending.computeIfAbsent(key, k -> new LongAdder()).increment();
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${activity.rollup.flush-ms:10000}")
+    public void flush() {
+        Map<Key, LongAdder> batch;
+        swapLock.writeLock().lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new ConcurrentHashMap<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        try {
+            Map<Long, Long> sites = siteIds(batch.keySet());
+            List<Object[]> rows = new ArrayList<>(batch.size());
+            batch.forEach((key, adder) -> rows.add(new Object[] {
+                key.day(),
+                sites.getOrDefault(key.projectId(), ActivityRollup.NONE),
+                key.projectId(),
+                key.userId(),
+                key.type().name(),
+                adder.sum()}));
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+            log.debug("활동 집계 반영: {}행", rows.size());
+        } catch (DataAccessException e) {
+            // 다음 주기에 다시 더하도록 되돌린다
+            log.warn("활동 집계 반영 실패, 다음 주기에 재시도: {}행", batch.size(), e);
+            swapLock.readLock().lock();
+            try {
+                batch.forEach((key, adder) -> pending.computeIfAbsent(key, k -> new LongAdder()).add(adder.sum()));
+            } finally {
+                swapLock.readLock().unlock();
+            }
+        }
+    }
+
+    // 처음 보는 프로젝트만 한 번에 사이트를 조회 (삭제된 프로젝트는 사이트 없음으로 집계)
+    private Map<Long, Long> siteIds(Set<Key> keys) {
+        Map<Long, Long> result = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        for (Key key : keys) {
+            Long projectId = key.projectId();
+            if (projectId == ActivityRollup.NONE || result.containsKey(projectId)) {
+                continue;
+            }
+            Long siteId = projectSites.get(projectId);
+            if (siteId != null) {
+                result.put(projectId, siteId);
+            } else {
+                missing.add(projectId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (Object[] row : projectRepository.findSiteIdsByIdIn(missing)) {
+                projectSites.put((Long) row[0], (Long) row[1]);
+                result.put((Long) row[0], (Long) row[1]);
+            }
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public List<ActivityDailyCount> getSiteDailyCounts(Long siteId, int days) {
+        return rollupRepository.findSiteDailyCounts(siteId, from(days));
+    }
+
+    public List<ActivityTypeDailyCount> getProjectDailyCounts(Long projectId, int days) {
+        return rollupRepository.findProjectDailyCounts(projectId, from(days));
+    }
+
+    public List<ActivityContributorCount> getSiteTopContributors(Long siteId, int days, int limit) {
+        return rollupRepository.findSiteTopContributors(siteId, from(days), PageRequest.of(0, clampLimit(limit)));
+    }
+
+    public List<ActivityContributorCount> getProjectTopContributors(Long projectId, int days, int limit) {
+        return rollupRepository.findProjectTopContributors(projectId, from(days), PageRequest.of(0, clampLimit(limit)));
+    }
+
+    // 오늘을 포함한 최근 days일
+    private LocalDate from(int days) {
+        if (days < 1 || days > maxDays) {
+            throw new IllegalArgumentException("days는 1 이상 " + maxDays + " 이하만 가능합니다.");
+        }
+        return LocalDate.now().minusDays(days - 1L);
+    }
+
+    private static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, 100));
+    }
+}
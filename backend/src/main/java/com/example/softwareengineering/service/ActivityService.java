@@ -2,84 +2,92 @@ package com.example.softwareengineering.service;
 
 import com.example.softwareengineering.dto.ActivityDto;
 import com.example.softwareengineering.dto.ActivityCreateRequest;
-import com.example.softwareengineering.entity.Activity;
+import com.example.softwareengineering.dto.ActivityLogRequestDTO;
+import com.example.softwareengineering.entity.ActivityLog;
 import com.example.softwareengineering.entity.ActivityType;
 import com.example.softwareengineering.entity.User;
-import com.example.softwareengineering.repository.ActivityRepository;
+import com.example.softwareengineering.repository.ActivityLogRepository;
 import com.example.softwareengineering.repository.UserRepository;
 import com.example.softwareengineering.exception.CustomException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * 사용자별 활동 내역. 별도 테이블 없이 활동 이벤트 저장소(activity_logs)의 행을 활동 항목으로 바꿔 보여준다.
+ */
 @Service
 @RequiredArgsConstructor
 public class ActivityService {
-    private final ActivityRepository activityRepository;
+    private final ActivityLogService activityLogService;
+    private final ActivityLogRepository activityLogRepository;
     private final UserRepository userRepository;
 
     @Transactional
     public ActivityDto createActivity(ActivityCreateRequest request) {
-        User user = userRepository.findById(request.getUserId())
+        userRepository.findById(request.getUserId())
             .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다."));
 
-        // 상태 변경의 경우 content에 "상태:제목" 형식으로 저장
-        String content = request.getType() == ActivityType.ISSUE_STATUS_CHANGE
-            ? request.getStatusChange() + ":" + request.getContent()
-            : request.getContent();
-
-        Activity activity = Activity.builder()
-            .user(user)
+        ActivityLog saved = activityLogService.append(ActivityLogRequestDTO.builder()
+            .userId(request.getUserId())
             .type(request.getType())
-            .content(content)
-            .targetUrl(request.getTargetPage())
-            .build();
-
-        Activity savedActivity = activityRepository.save(activity);
-        return convertToDto(savedActivity);
-    }
-
-    @Transactional
-    public void recordActivity(User user, ActivityType type, String content, String targetUrl) {
-        Activity activity = Activity.builder()
-                .user(user)
-                .type(type)
-                .content(content)
-                .targetUrl(targetUrl)
-                .build();
-        activityRepository.save(activity);
+            .title(request.getContent() != null ? request.getContent() : request.getType().name())
+            .content(request.getContent())
+            .targetPage(request.getTargetPage())
+            .statusChange(request.getStatusChange())
+            .build());
+        return convertToDto(saved, Map.of());
     }
 
     @Transactional(readOnly = true)
     public Page<ActivityDto> getActivities(Long userId, Pageable pageable) {
-        Page<Activity> activities = activityRepository.findByUserId(userId, pageable);
-        return activities.map(this::convertToDto);
+        // 정렬은 (timestamp, id) 최신순으로 고정
+        Page<Long> ids = activityLogRepository.findUserActivityIds(userId,
+            PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        List<ActivityLog> activities = activityLogService.findInOrder(ids.getContent());
+        Map<Long, String> issueTitles = activityLogService.issueTitles(activities);
+        List<ActivityDto> content = activities.stream()
+            .map(activity -> convertToDto(activity, issueTitles))
+            .collect(Collectors.toList());
+        return new PageImpl<>(content, ids.getPageable(), ids.getTotalElements());
     }
 
-    @Scheduled(cron = "0 0 0 * * ?") // 매일 자정에 실행
-    @Transactional
-    public void deleteOldActivities() {
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-        activityRepository.deleteByCreatedAtBefore(thirtyDaysAgo);
-    }
-
-    private ActivityDto convertToDto(Activity activity) {
+    private ActivityDto convertToDto(ActivityLog activity, Map<Long, String> issueTitles) {
+        User user = activity.getUser();
         return ActivityDto.builder()
                 .id(activity.getId())
-                .userId(activity.getUser().getId())
-                .userName(activity.getUser().getUserId())
-                .userProfileImage(activity.getUser().getProfileImage())
+                .userId(user.getId())
+                .userName(user.getUserId())
+                .userProfileImage(user.getProfileImage())
                 .type(activity.getType())
-                .content(activity.getContent())
-                .targetUrl(activity.getTargetUrl())
-                .createdAt(activity.getCreatedAt())
+                .content(content(activity, issueTitles))
+                .targetUrl(activity.getTargetPage())
+                .createdAt(activity.getTimestamp())
                 .build();
     }
-}
\ No newline at end of file
+
+    // ActivityDto.getFormattedContent가 기대하는 형식 (상태 변경은 "상태:제목")
+    private static String content(ActivityLog activity, Map<Long, String> issueTitles) {
+        String issueTitle = activity.getIssueId() != null ? issueTitles.get(activity.getIssueId()) : null;
+        if (activity.getType() == ActivityType.ISSUE_STATUS_CHANGE && activity.getStatusChange() != null) {
+            String title = issueTitle != null ? issueTitle
+                : activity.getContent() != null ? activity.getContent() : activity.getTitle();
+            return ActivityLogService.newStatus(activity.getStatusChange()) + ":" + title;
+        }
+        if (activity.getType() == ActivityType.PAGE_NAVIGATION && activity.getTargetPage() != null) {
+            return activity.getTargetPage();
+        }
+        if (issueTitle != null) {
+            return issueTitle;
+        }
+        return activity.getContent() != null ? activity.getContent() : activity.getTitle();
+    }
+}
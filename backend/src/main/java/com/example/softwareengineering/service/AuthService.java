@@ -7,7 +7,6 @@ import com.example.softwareengineering.entity.MemberRole;
 import com.example.softwareengineering.repository.EmailVerificationRepository;
 import com.example.softwareengineering.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
@@ -16,7 +15,6 @@ import com.example.softwareengineering.dto.LoginRequestDto;
 import com.example.softwareengineering.dto.LoginResponseDto;
 import com.example.softwareengineering.config.JwtUtil;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import com.example.softwareengineering.service.EmailService;
 import lombok.RequiredArgsConstructor;
 import com.example.softwareengineering.entity.SiteMember;
 import com.example.softwareengineering.repository.SiteMemberRepository;
@@ -35,10 +33,10 @@ import java.util.List;
 public class AuthService {
     private final UserRepository userRepository;
     private final EmailVerificationRepository emailVerificationRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final MailService mailService;
     private final JwtUtil jwtUtil;
-    private final EmailService emailService;
+    private final VerificationCodeStore verificationCodeStore;
     private final SiteMemberRepository siteMemberRepository;
     private final SiteRepository siteRepository;
     private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
@@ -163,7 +161,7 @@ public String sendVerificationEmail(String email) {
         }
     }
 
-    @Transactional
+    // BCrypt 해시는 수 초까지 걸릴 수 있으므로 트랜잭션(커넥션)을 잡지 않고, 조회/저장만 각각 짧게 실행한다
     public Map<String, Object> signup(SignupRequestDto signupRequestDto) {
         Map<String, Object> response = new HashMap<>();
 
@@ -194,7 +192,7 @@ public String sendVerificationEmail(String email) {
         // 사용자 생성
         User user = User.builder()
                 .email(signupRequestDto.getEmail())
-                .password(passwordEncoder.encode(signupRequestDto.getPassword()))
+                .password(passwordHashingService.encode(signupRequestDto.getPassword()))
                 .userId(signupRequestDto.getUserId())
                 .emailVerified(true)  // 이미 인증된 상태로 설정
                 .build();
@@ -213,7 +211,7 @@ public String sendVerificationEmail(String email) {
             .orElse(false);
     }
 
-    @Transactional
+    // 비밀번호 검증 중에는 커넥션을 잡지 않도록 트랜잭션 없이 조회 → 검증 → (필요 시) 갱신 순서로 실행
     public LoginResponseDto login(LoginRequestDto dto) {
         // 입력값 검증
         if (dto.getIdentifier() == null || dto.getIdentifier().trim().isEmpty()) {
@@ -231,24 +229,24 @@ public String sendVerificationEmail(String email) {
                     .orElseThrow(() -> new RuntimeException("등록되지 않은 아이디이거나, 아이디 또는 비밀번호를 잘못 입력했습니다"));
 
             // 비밀번호 확인
-            if (!passwordEncoder.matches(dto.getPassword(), user.getPassword())) {
+            if (!passwordHashingService.matches(dto.getPassword(), user.getPassword())) {
                 logger.warn("Failed login attempt for user: {}", dto.getIdentifier());
                 throw new RuntimeException("아이디 또는 비밀번호를 잘못 입력했습니다");
             }
 
+            // BCrypt cost 설정이 바뀐 경우 평문을 알고 있는 지금 재해시 (포화 시 다음 로그인으로 미룸)
+            if (passwordHashingService.needsRehash(user.getPassword())) {
+                String rehashed = passwordHashingService.tryEncode(dto.getPassword());
+                if (rehashed != null && userRepository.updatePassword(user.getId(), user.getPassword(), rehashed) > 0) {
+                    logger.info("비밀번호 재해시 완료: {}", user.getId());
+                }
+            }
+
             // 이메일 인증 확인
             if (!user.isEmailVerified()) {
                 throw new RuntimeException("이메일 인증이 필요합니다. 회원가입 시 받은 인증 메일을 확인해주세요");
             }
 
-            // JWT 토큰 생성
-            String token = jwtUtil.generateToken(user.getEmail(), user.getId());
-            logger.info("Generated token for user: {}", dto.getIdentifier());
-
-            if (token == null || token.trim().isEmpty()) {
-                throw new RuntimeException("토큰 생성에 실패했습니다");
-            }
-
             // 사용자의 사이트별 권한 정보 조회
             List<SiteMember> siteMembers = siteMemberRepository.findByUser(user);
             Map<Long, MemberRole> siteRoles = new HashMap<>();
@@ -256,6 +254,15 @@ public String sendVerificationEmail(String email) {
                 siteRoles.put(siteMember.getSite().getId(), siteMember.getRole());
             }
 
+            // JWT 토큰 생성 (사이트 역할과 멤버십 버전 포함)
+            String token = jwtUtil.generateToken(user.getEmail(), user.getId(), user.getUserId(),
+                    siteRoles, user.getMembershipVersion());
+            logger.info("Generated token for user: {}", dto.getIdentifier());
+
+            if (token == null || token.trim().isEmpty()) {
+                throw new RuntimeException("토큰 생성에 실패했습니다");
+            }
+
             logger.info("Successful login for user: {}", dto.getIdentifier());
 
             // 응답 생성
@@ -281,23 +288,19 @@ public String sendVerificationEmail(String email) {
     }
 
     public String findUserIdByEmailAndCode(String email, String code) {
-        // 인증번호 확인
-        String storedCode = emailService.getVerificationCode(email);
-        if (storedCode == null || !storedCode.equals(code)) {
+        // 인증번호 확인 (만료된 인증번호는 저장소에서 조회되지 않음)
+        VerificationCodeStore.StoredCode storedCode = verificationCodeStore
+            .find(VerificationCodeStore.Purpose.ID_FIND, email)
+            .orElseThrow(() -> new IllegalArgumentException("유효하지 않거나 만료된 인증번호입니다. 다시 시도해주세요."));
+        if (!storedCode.matches(code)) {
             throw new IllegalArgumentException("유효하지 않은 인증번호입니다.");
         }
 
-        // 유효시간 체크 (1시간)
-        LocalDateTime cutoff = LocalDateTime.now().minusHours(1);
-        if (emailService.getVerificationCodeCreationTime(email).isBefore(cutoff)) {
-            throw new IllegalArgumentException("만료된 인증번호입니다. 다시 시도해주세요.");
-        }
-
         User user = userRepository.findByEmail(email)
             .orElseThrow(() -> new UsernameNotFoundException("해당 이메일로 등록된 사용자를 찾을 수 없습니다."));
 
         // 인증번호 삭제
-        emailService.removeVerificationCode(email);
+        verificationCodeStore.remove(VerificationCodeStore.Purpose.ID_FIND, email);
 
         return user.getUserId();
     }
@@ -306,37 +309,21 @@ public String sendVerificationEmail(String email) {
         logger.info("비밀번호 재설정 인증번호 검증 시작. 이메일: {}", email);
         
         try {
-            // 인증번호 확인
-            String storedCode = emailService.getVerificationCode(email);
-            if (storedCode == null) {
-                logger.error("저장된 인증번호가 없음. 이메일: {}", email);
+            // 인증번호 확인 (만료된 인증번호는 저장소에서 조회되지 않음)
+            Optional<VerificationCodeStore.StoredCode> storedCode = verificationCodeStore
+                .find(VerificationCodeStore.Purpose.PASSWORD_RESET, email);
+            if (storedCode.isEmpty()) {
+                logger.error("저장된 인증번호가 없거나 만료됨. 이메일: {}", email);
                 return false;
             }
             
-            if (!storedCode.equals(code)) {
+            if (!storedCode.get().matches(code)) {
                 logger.error("인증번호 불일치. 이메일: {}", email);
                 return false;
             }
 
             logger.info("인증번호 일치 확인됨. 이메일: {}", email);
 
-            // 유효시간 체크 (1시간)
-            LocalDateTime cutoff = LocalDateTime.now().minusHours(1);
-            LocalDateTime codeCreationTime = emailService.getVerificationCodeCreationTime(email);
-            
-            if (codeCreationTime == null) {
-                logger.error("인증번호 생성 시간 정보 없음. 이메일: {}", email);
-                return false;
-            }
-
-            if (codeCreationTime.isBefore(cutoff)) {
-                logger.error("인증번호 만료됨. 이메일: {}, 생성시간: {}, 만료시간: {}", 
-                    email, codeCreationTime, cutoff);
-                return false;
-            }
-
-            logger.info("인증번호 유효시간 확인됨. 이메일: {}", email);
-
             // 이메일로 사용자 찾기
             userRepository.findByEmail(email)
                 .orElseThrow(() -> {
@@ -353,62 +340,60 @@ public String sendVerificationEmail(String email) {
         }
     }
 
-    @Transactional
     public void resetPasswordWithCode(String email, String code, String newPassword) {
-        // 인증번호 확인
-        String storedCode = emailService.getVerificationCode(email);
-        if (storedCode == null || !storedCode.equals(code)) {
+        // 인증번호 확인 (만료된 인증번호는 저장소에서 조회되지 않음)
+        VerificationCodeStore.StoredCode storedCode = verificationCodeStore
+            .find(VerificationCodeStore.Purpose.PASSWORD_RESET, email)
+            .orElseThrow(() -> new IllegalArgumentException("유효하지 않거나 만료된 인증번호입니다. 다시 시도해주세요."));
+        if (!storedCode.matches(code)) {
             throw new IllegalArgumentException("유효하지 않은 인증번호입니다.");
         }
 
-        // 유효시간 체크 (1시간)
-        LocalDateTime cutoff = LocalDateTime.now().minusHours(1);
-        if (emailService.getVerificationCodeCreationTime(email).isBefore(cutoff)) {
-            throw new IllegalArgumentException("만료된 인증번호입니다. 다시 시도해주세요.");
-        }
-
         // 사용자 찾기
         User user = userRepository.findByEmail(email)
             .orElseThrow(() -> new UsernameNotFoundException("해당 이메일로 등록된 사용자를 찾을 수 없습니다."));
 
         // 새 비밀번호가 기존 비밀번호와 같은지 확인
-        if (passwordEncoder.matches(newPassword, user.getPassword())) {
+        if (passwordHashingService.matches(newPassword, user.getPassword())) {
             throw new IllegalArgumentException("새 비밀번호가 기존 비밀번호와 동일합니다. 다른 비밀번호를 선택해주세요.");
         }
 
         // 비밀번호 변경
-        user.setPassword(passwordEncoder.encode(newPassword));
-        userRepository.save(user);
+        updatePassword(user, passwordHashingService.encode(newPassword));
 
         // 인증번호 삭제
-        emailService.removeVerificationCode(email);
+        verificationCodeStore.remove(VerificationCodeStore.Purpose.PASSWORD_RESET, email);
     }
 
-    @Transactional
     public void changePassword(String email, String currentPassword, String newPassword) {
         // 사용자 찾기
         User user = userRepository.findByEmail(email)
             .orElseThrow(() -> new UsernameNotFoundException("해당 이메일로 등록된 사용자를 찾을 수 없습니다."));
 
         // 현재 비밀번호 확인
-        if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
+        if (!passwordHashingService.matches(currentPassword, user.getPassword())) {
             throw new IllegalArgumentException("현재 비밀번호가 일치하지 않습니다.");
         }
 
         // 새 비밀번호가 현재 비밀번호와 같은지 확인
-        if (passwordEncoder.matches(newPassword, user.getPassword())) {
+        if (passwordHashingService.matches(newPassword, user.getPassword())) {
             throw new IllegalArgumentException("새 비밀번호는 현재 비밀번호와 달라야 합니다.");
         }
 
         // 비밀번호 변경
-        user.setPassword(passwordEncoder.encode(newPassword));
-        userRepository.save(user);
+        updatePassword(user, passwordHashingService.encode(newPassword));
+    }
+
+    // 해시 계산 후 짧은 UPDATE 한 번. 그사이 다른 요청이 비밀번호를 바꿨으면 실패시킨다
+    private void updatePassword(User user, String encodedPassword) {
+        if (userRepository.updatePassword(user.getId(), user.getPassword(), encodedPassword) == 0) {
+            throw new IllegalArgumentException("비밀번호가 이미 변경되었습니다. 다시 시도해주세요.");
+        }
     }
 
     public boolean verifyToken(String token) {
         try {
-            jwtUtil.validateToken(token);
-            return true;
+            return jwtUtil.validateToken(token);
         } catch (Exception e) {
             logger.error("토큰 검증 실패: {}", e.getMessage());
             return false;
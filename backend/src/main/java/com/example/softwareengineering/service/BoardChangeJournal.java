@@ -0,0 +1,148 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.dto.BoardOrderRow;
+import com.example.softwareengineering.event.BoardChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 프로젝트별 보드 변경 기록 (버전, 변경 종류, 이슈 ID만 담는 가벼운 기록).
+ * 델타 동기화 요청의 since 버전 이후 어떤 이슈가 바뀌었는지 알려주며,
+ * 기록 수 상한을 넘었거나 기록이 없는 구간이면 전체 보드를 다시 받도록 한다.
+ * 버전은 DB에서 올리므로 다른 노드의 변경(이 노드에 기록이 없는 버전)이 끼어들면 그 이전은 기록으로 알 수 없다.
+ */
+@Service
+public class BoardChangeJournal {
+    private final ProjectVersionService projectVersionService;
+    private final int maxEntriesPerProject;
+    private final LinkedHashMap<Long, ProjectJournal> journals;
+
+    private record Entry(long version, BoardChangedEvent.Type type, Long issueId, String userId, Set<Long> orderIssueIds) {}
+
+    /**
+     * since 이후 변경 요약. full이면 기록만으로는 알 수 없으므로 전체 보드가 필요하다.
+     */
+    public record Changes(long version, boolean full, Set<Long> changedIssueIds, Set<Long> deletedIssueIds,
+                          Set<Long> reorderedIssueIds) {
+    }
+
+    public BoardChangeJournal(
+            ProjectVersionService projectVersionService,
+            @Value("${board.journal.max-projects:1000}") int maxProjects,
+            @Value("${board.journal.max-entries-per-project:1000}") int maxEntriesPerProject) {
+        this.projectVersionService = projectVersionService;
+        this.maxEntriesPerProject = maxEntriesPerProject;
+        this.journals = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ProjectJournal> eldest) {
+                return size() > maxProjects;
+            }
+        };
+    }
+
+    /**
+     * 변경을 기록하고 프로젝트 버전을 올린다. 기록과 버전 증가는 조회와 원자적으로 이루어진다.
+     */
+    public long record(BoardChangedEvent event) {
+        ProjectJournal journal = journal(event.projectId(), true);
+        synchronized (journal) {
+            long version = projectVersionService.bump(event.projectId());
+            if (version != journal.lastVersion + 1) {
+                // 사이에 다른 노드가 올린 버전이 있다: 그 변경은 모르므로 이 변경 직전부터만 델타로 응답한다
+                journal.entries.clear();
+                journal.floorVersion = version - 1;
+            }
+            journal.lastVersion = version;
+            if (event.type() == BoardChangedEvent.Type.BOARD_RESET) {
+                // 칼럼 구성이 바뀌면 이전 버전에서의 델타는 의미가 없다
+                journal.entries.clear();
+                journal.floorVersion = version;
+                return version;
+            }
+            Set<Long> orderIssueIds = new LinkedHashSet<>();
+            for (BoardOrderRow order : event.orders()) {
+                orderIssueIds.add(order.issueId());
+            }
+            journal.entries.addLast(new Entry(version, event.type(), event.issueId(), event.userId(), orderIssueIds));
+            while (journal.entries.size() > maxEntriesPerProject) {
+                journal.floorVersion = journal.entries.removeFirst().version();
+            }
+            return version;
+        }
+    }
+
+    /**
+     * since 이후 userId가 볼 보드에 영향을 준 변경. 다른 사용자의 순서 변경은 제외한다.
+     */
+    public Changes changesSince(Long projectId, long since, String userId) {
+        ProjectJournal journal = journal(projectId, false);
+        if (journal == null) {
+            long version = projectVersionService.currentVersion(projectId);
+            // 기록이 없으면 since가 현재 버전일 때만 "변경 없음"을 보장할 수 있다
+            return new Changes(version, since != version, Set.of(), Set.of(), Set.of());
+        }
+        synchronized (journal) {
+            long version = projectVersionService.currentVersion(projectId);
+            if (since < journal.floorVersion || since > version || version != journal.lastVersion) {
+                return new Changes(version, true, Set.of(), Set.of(), Set.of());
+            }
+            Set<Long> changed = new LinkedHashSet<>();
+            Set<Long> deleted = new LinkedHashSet<>();
+            Set<Long> reordered = new LinkedHashSet<>();
+            for (Entry entry : journal.entries) {
+                if (entry.version() <= since) {
+                    continue;
+                }
+                switch (entry.type()) {
+                    case ISSUE_CREATED, ISSUE_SAVED -> changed.add(entry.issueId());
+                    case ISSUE_MOVED -> {
+                        changed.add(entry.issueId());
+                        // 칼럼 이동 시 모든 사용자의 순서가 다시 만들어진다
+                        reordered.add(entry.issueId());
+                    }
+                    case ISSUE_DELETED -> deleted.add(entry.issueId());
+                    case ORDERS_CHANGED -> {
+                        if (entry.userId() != null && entry.userId().equals(userId)) {
+                            reordered.addAll(entry.orderIssueIds());
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+            changed.removeAll(deleted);
+            reordered.removeAll(deleted);
+            return new Changes(version, false, changed, deleted, reordered);
+        }
+    }
+
+    private ProjectJournal journal(Long projectId, boolean create) {
+        synchronized (journals) {
+            ProjectJournal journal = journals.get(projectId);
+            if (journal == null && create) {
+                // 이 시점 이전 변경은 기록에 없으므로 현재 버전 이후만 델타로 응답할 수 있다
+                journal = new ProjectJournal(projectVersionService.currentVersion(projectId));
+                journals.put(projectId, journal);
+            }
+            return journal;
+        }
+    }
+
+    private static final class ProjectJournal {
+        private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+        private long floorVersion;
+        // 이 노드가 마지막으로 기록한 버전. 현재 버전과 다르면 다른 노드의 변경이 있었다
+        private long lastVersion;
+
+        private ProjectJournal(long floorVersion) {
+            this.floorVersion = floorVersion;
+            this.lastVersion = floorVersion;
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.event.BoardChangedEvent;
+import com.example.softwareengineering.exception.ServiceBusyException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로젝트 보드 변경을 SSE로 구독자에게 밀어주는 허브.
+ * 발행은 구독자별 고정 크기 버퍼에 넣기만 하고(블로킹 없음), 실제 전송은 전송 스레드가 구독자마다 하나씩 순서대로 처리한다.
+ * 버퍼가 가득 찬 느린 구독자는 연결을 끊으며, 클라이언트는 재연결 후 델타 동기화로 따라잡는다.
+ * 전송 한 번이 send-timeout-ms 넘게 막히면(클라이언트가 읽지 않음) 그 구독자를 끊고 전송 스레드를 하나 보충해
+ * 다른 프로젝트 구독자가 기다리지 않게 한다. 막힌 스레드는 전송이 풀리면 풀에서 빠진다.
+ */
+@Slf4j
+@Service
+public class BoardEventHub {
+    private final ObjectMapper objectMapper;
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final long sendTimeoutNanos;
+    private final int senderThreads;
+    private int extraSenders;
+    private final ConcurrentHashMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong slowDisconnectCount = new AtomicLong();
+    private final AtomicLong stalledSendCount = new AtomicLong();
+    private final ThreadPoolExecutor senders;
+    private final ScheduledExecutorService heartbeat;
+
+    // 한 번 직렬화해 모든 구독자에게 그대로 보내는 메시지 (comment만 있으면 하트비트)
+    private record Message(String name, String id, String data, String comment) {
+        SseEmitter.SseEventBuilder toEvent() {
+            if (comment != null) {
+                return SseEmitter.event().comment(comment);
+            }
+            return SseEmitter.event().name(name).id(id).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private static final class Subscriber {
+        private final Long projectId;
+        private final String userId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Message> buffer;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // 보충 스레드를 받은 막힌 전송 (전송이 풀리면 풀 크기를 되돌린다)
+        private final AtomicBoolean compensated = new AtomicBoolean();
+        // 진행 중인 전송의 시작 시각 (nanoTime, 0이면 전송 중 아님)
+        private volatile long sendStartedAt;
+
+        private Subscriber(Long projectId, String userId, SseEmitter emitter, int bufferSize) {
+            this.projectId = projectId;
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+
+    public BoardEventHub(
+            ObjectMapper objectMapper,
+            @Value("${board.sse.max-subscribers:5000}") int maxSubscribers,
+            @Value("${board.sse.buffer-size:64}") int bufferSize,
+            @Value("${board.sse.timeout-ms:1800000}") long timeoutMs,
+            @Value("${board.sse.heartbeat-ms:15000}") long heartbeatMs,
+            @Value("${board.sse.sender-threads:4}") int senderThreads,
+            @Value("${board.sse.send-timeout-ms:2000}") long sendTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        this.senderThreads = senderThreads;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "board-sse-sender-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "board-sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeat.scheduleAtFixedRate(this::sendHeartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+        long checkMs = Math.max(sendTimeoutMs / 2, 50);
+        this.heartbeat.scheduleAtFixedRate(this::checkStalledSends, checkMs, checkMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 프로젝트 보드 구독. 첫 이벤트로 현재 버전을 보내므로 클라이언트는 그 버전부터 델타 동기화를 이어가면 된다.
+     * userId가 null(비로그인)이면 사용자별 순서 변경 이벤트는 받지 않는다.
+     */
+    public SseEmitter subscribe(Long projectId, String userId, long currentVersion) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceBusyException("실시간 구독자가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        SseEmitter emitter = newEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(projectId, userId, emitter, bufferSize);
+        // remove()가 빈 집합을 떼어내는 것과 겹치지 않도록 같은 키 잠금 안에서 추가
+        subscribers.compute(projectId, (id, set) -> {
+            Set<Subscriber> projectSubscribers = set != null ? set : ConcurrentHashMap.newKeySet();
+            projectSubscribers.add(subscriber);
+            return projectSubscribers;
+        });
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("projectId", projectId);
+        payload.put("version", currentVersion);
+        enqueue(subscriber, new Message("connected", Long.toString(currentVersion), toJson(payload), null));
+        return emitter;
+    }
+
+    /**
+     * 커밋되어 버전이 매겨진 보드 변경을 해당 프로젝트 구독자에게 보낸다.
+     */
+    public void publish(BoardChangedEvent event, long version) {
+        Set<Subscriber> projectSubscribers = subscribers.get(event.projectId());
+        if (projectSubscribers == null || projectSubscribers.isEmpty()) {
+            return;
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("projectId", event.projectId());
+        payload.put("version", version);
+        payload.put("issueId", event.issueId());
+        if (event.type() == BoardChangedEvent.Type.ORDERS_CHANGED) {
+            payload.put("issueIds", event.orders().stream().map(order -> order.issueId()).toList());
+        }
+        Message message = new Message(eventName(event.type()), Long.toString(version), toJson(payload), null);
+
+        for (Subscriber subscriber : projectSubscribers) {
+            // 순서 변경은 바꾼 사용자 본인에게만 의미가 있다
+            if (event.type() == BoardChangedEvent.Type.ORDERS_CHANGED
+                    && (subscriber.userId == null || !subscriber.userId.equals(event.userId()))) {
+                continue;
+            }
+            enqueue(subscriber, message);
+        }
+        publishedCount.incrementAndGet();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("subscribers", subscriberCount.get());
+        stats.put("projects", subscribers.size());
+        stats.put("maxSubscribers", maxSubscribers);
+        stats.put("published", publishedCount.get());
+        stats.put("slowDisconnects", slowDisconnectCount.get());
+        stats.put("stalledSends", stalledSendCount.get());
+        stats.put("senderThreads", senders.getPoolSize());
+        return stats;
+    }
+
+    // 테스트에서 전송 동작을 바꿀 수 있도록 분리
+    SseEmitter newEmitter(long timeout) {
+        return new SseEmitter(timeout);
+    }
+
+    private void enqueue(Subscriber subscriber, Message message) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.buffer.offer(message)) {
+            // 느린 구독자: 다른 구독자를 기다리게 하지 않도록 끊는다
+            slowDisconnectCount.incrementAndGet();
+            log.debug("SSE 버퍼 초과로 구독 종료: projectId={}, userId={}", subscriber.projectId, subscriber.userId);
+            close(subscriber);
+            return;
+        }
+        if (subscriber.sending.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (Exception e) {
+                subscriber.sending.set(false);
+                close(subscriber);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            while (true) {
+                Message message;
+                while ((message = subscriber.buffer.poll()) != null) {
+                    subscriber.sendStartedAt = System.nanoTime();
+                    try {
+                        subscriber.emitter.send(message.toEvent());
+                    } catch (IOException | IllegalStateException e) {
+                        // 클라이언트가 연결을 끊었거나 이미 완료된 emitter
+                        close(subscriber);
+                        return;
+                    } finally {
+                        subscriber.sendStartedAt = 0;
+                    }
+                    if (subscriber.closed.get()) {
+                        // 전송이 막힌 사이 끊긴 구독자 (send와 complete는 같은 emitter 잠금을 쓰므로 여기서 닫는다)
+                        complete(subscriber);
+                        return;
+                    }
+                }
+                subscriber.sending.set(false);
+                // 플래그를 내린 사이에 들어온 메시지가 있으면 이어서 보낸다
+                if (subscriber.buffer.isEmpty() || !subscriber.sending.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        } finally {
+            if (subscriber.compensated.compareAndSet(true, false)) {
+                resizeSenders(-1);
+            }
+        }
+    }
+
+    // 전송 한 번이 send-timeout-ms 넘게 막힌 구독자를 끊고, 막힌 스레드 대신 전송 스레드를 하나 보충한다
+    private void checkStalledSends() {
+        try {
+            long now = System.nanoTime();
+            for (Set<Subscriber> projectSubscribers : subscribers.values()) {
+                for (Subscriber subscriber : projectSubscribers) {
+                    long startedAt = subscriber.sendStartedAt;
+                    if (startedAt == 0 || now - startedAt < sendTimeoutNanos || !remove(subscriber)) {
+                        continue;
+                    }
+                    subscriber.buffer.clear();
+                    stalledSendCount.incrementAndGet();
+                    slowDisconnectCount.incrementAndGet();
+                    log.debug("SSE 전송 지연으로 구독 종료: projectId={}, userId={}", subscriber.projectId, subscriber.userId);
+                    if (resizeSenders(1)) {
+                        subscriber.compensated.set(true);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("SSE 전송 지연 확인 중 오류", e);
+        }
+    }
+
+    // 보충 스레드는 기본 스레드 수의 4배까지만 (그 이상 막히면 남은 스레드로 버틴다)
+    private synchronized boolean resizeSenders(int delta) {
+        if (delta > 0 && extraSenders >= senderThreads * 4) {
+            return false;
+        }
+        extraSenders += delta;
+        int size = senderThreads + extraSenders;
+        if (delta > 0) {
+            senders.setMaximumPoolSize(size);
+            senders.setCorePoolSize(size);
+        } else {
+            senders.setCorePoolSize(size);
+            senders.setMaximumPoolSize(size);
+        }
+        return true;
+    }
+
+    private void sendHeartbeat() {
+        try {
+            Message ping = new Message(null, null, null, "heartbeat");
+            for (Set<Subscriber> projectSubscribers : subscribers.values()) {
+                for (Subscriber subscriber : projectSubscribers) {
+                    enqueue(subscriber, ping);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("SSE 하트비트 전송 중 오류", e);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        if (remove(subscriber)) {
+            subscriber.buffer.clear();
+            complete(subscriber);
+        }
+    }
+
+    private static void complete(Subscriber subscriber) {
+        try {
+            subscriber.emitter.complete();
+        } catch (Exception ignored) {
+            // 이미 닫힌 연결
+        }
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.projectId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+        return true;
+    }
+
+    private String eventName(BoardChangedEvent.Type type) {
+        return switch (type) {
+            case ISSUE_CREATED -> "issue-created";
+            case ISSUE_SAVED -> "issue-updated";
+            case ISSUE_MOVED -> "issue-moved";
+            case ISSUE_DELETED -> "issue-deleted";
+            case ORDERS_CHANGED -> "orders-changed";
+            case BOARD_RESET -> "board-reset";
+        };
+    }
+
+    private String toJson(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("SSE 메시지 직렬화 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        senders.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> {
+            try {
+                subscriber.emitter.complete();
+            } catch (Exception ignored) {
+                // 종료 중
+            }
+        }));
+        subscribers.clear();
+    }
+}
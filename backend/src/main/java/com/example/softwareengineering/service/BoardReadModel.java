@@ -0,0 +1,266 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.cache.TtlLruCache;
+import com.example.softwareengineering.dto.BoardColumnRow;
+import com.example.softwareengineering.dto.BoardIssueRow;
+import com.example.softwareengineering.dto.BoardOrderRow;
+import com.example.softwareengineering.dto.BoardSnapshot;
+import com.example.softwareengineering.event.BoardChangedEvent;
+import com.example.softwareengineering.repository.BoardColumnRepository;
+import com.example.softwareengineering.repository.IssueRepository;
+import com.example.softwareengineering.repository.ProjectRepository;
+import com.example.softwareengineering.repository.UserIssueOrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로젝트별 보드 읽기 모델 (칼럼, 이슈 카드, 사용자별 순서 오버레이).
+ * 자주 조회되는 프로젝트는 메모리에서 바로 응답하고, 쓰기는 커밋 이후 BoardChangedEvent로 반영한다.
+ * 메모리에 없는 프로젝트/사용자는 조회 시점에 다시 읽어 채우며, 오래 쓰이지 않은 프로젝트는 LRU로 밀려난다.
+ * 다른 노드의 쓰기는 이벤트로 오지 않으므로, 조회 때 DB의 프로젝트 버전이 반영한 버전보다 크면 다시 읽는다.
+ */
+@Slf4j
+@Service
+public class BoardReadModel {
+    private final BoardColumnRepository columnRepository;
+    private final IssueRepository issueRepository;
+    private final UserIssueOrderRepository userIssueOrderRepository;
+    private final ProjectRepository projectRepository;
+    private final BoardChangeJournal changeJournal;
+    private final BoardEventHub eventHub;
+    private final ProjectVersionService projectVersionService;
+    private final TtlLruCache<Long, ProjectBoard> boards;
+    private final int maxUsersPerProject;
+
+    // 프로젝트별로 반영을 시작한 변경 횟수. 읽는 도중 변경이 커밋되면 읽은 결과를 캐시에 넣지 않는다.
+    // (ETag/델타용 프로젝트 버전은 반영이 끝난 뒤 BoardChangeJournal이 올린다)
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+
+    public BoardReadModel(
+            BoardColumnRepository columnRepository,
+            IssueRepository issueRepository,
+            UserIssueOrderRepository userIssueOrderRepository,
+            ProjectRepository projectRepository,
+            BoardChangeJournal changeJournal,
+            BoardEventHub eventHub,
+            ProjectVersionService projectVersionService,
+            @Value("${board.read-model.max-projects:200}") int maxProjects,
+            @Value("${board.read-model.ttl-ms:600000}") long ttlMs,
+            @Value("${board.read-model.max-users-per-project:200}") int maxUsersPerProject) {
+        this.columnRepository = columnRepository;
+        this.issueRepository = issueRepository;
+        this.userIssueOrderRepository = userIssueOrderRepository;
+        this.projectRepository = projectRepository;
+        this.changeJournal = changeJournal;
+        this.eventHub = eventHub;
+        this.projectVersionService = projectVersionService;
+        this.boards = new TtlLruCache<>(maxProjects, ttlMs);
+        this.maxUsersPerProject = maxUsersPerProject;
+    }
+
+    /**
+     * 사용자 한 명이 보는 보드. 칼럼 안의 카드는 사용자가 직접 옮긴 카드의 순위 키, 나머지는 이슈 기본 순위 키 순이며
+     * order는 그 순서대로 0부터 매긴 위치다.
+     */
+    public BoardSnapshot getSnapshot(Long projectId, String userId) {
+        long projectVersion = projectVersionService.currentVersion(projectId);
+        ProjectBoard board = boards.get(projectId);
+        if (board == null || board.isBehind(projectVersion)) {
+            board = loadBoard(projectId, projectVersion);
+        }
+        Map<Long, BoardOrderRow> overlay = board.overlay(userId);
+        if (overlay == null) {
+            overlay = loadOverlay(board, userId);
+        }
+        return board.render(overlay);
+    }
+
+    private long getVersion(Long projectId) {
+        return versions.getOrDefault(projectId, 0L);
+    }
+
+    // projectVersion: 읽기 전에 읽은 프로젝트 버전 (읽은 내용은 적어도 이 버전만큼 새롭다)
+    private ProjectBoard loadBoard(Long projectId, long projectVersion) {
+        long version = getVersion(projectId);
+        List<BoardColumnRow> columns = columnRepository.findBoardColumnRows(projectId);
+        if (columns.isEmpty() && !projectRepository.existsById(projectId)) {
+            throw new IllegalArgumentException("프로젝트를 찾을 수 없습니다.");
+        }
+        ProjectBoard board = new ProjectBoard(projectId, columns, issueRepository.findBoardIssueRows(projectId),
+            maxUsersPerProject, projectVersion);
+        synchronized (versions) {
+            if (getVersion(projectId) == version) {
+                boards.put(projectId, board);
+            }
+        }
+        log.debug("보드 읽기 모델 적재: projectId={}, issues={}", projectId, board.cards.size());
+        return board;
+    }
+
+    private Map<Long, BoardOrderRow> loadOverlay(ProjectBoard board, String userId) {
+        long version = getVersion(board.projectId);
+        Map<Long, BoardOrderRow> overlay = new HashMap<>();
+        for (BoardOrderRow row : userIssueOrderRepository.findBoardOrderRows(board.projectId, userId)) {
+            overlay.put(row.issueId(), row);
+        }
+        synchronized (board) {
+            if (getVersion(board.projectId) == version) {
+                board.overlays.put(userId, overlay);
+            }
+        }
+        return overlay;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        Long projectId = event.projectId();
+        ProjectBoard board;
+        synchronized (versions) {
+            versions.merge(projectId, 1L, Long::sum);
+            board = boards.get(projectId);
+        }
+        if (board == null) {
+            eventHub.publish(event, changeJournal.record(event));
+            return;
+        }
+        try {
+            switch (event.type()) {
+                case ISSUE_CREATED, ISSUE_SAVED, ISSUE_MOVED -> {
+                    Optional<BoardIssueRow> row = issueRepository.findBoardIssueRow(event.issueId());
+                    synchronized (board) {
+                        board.removeCard(event.issueId());
+                        row.ifPresent(board::putCard);
+                        if (event.type() == BoardChangedEvent.Type.ISSUE_MOVED) {
+                            // 칼럼 이동 시 모든 사용자의 오버라이드가 지워지고 새 칼럼의 기본 순위 키를 따른다
+                            board.overlays.values().forEach(overlay -> overlay.remove(event.issueId()));
+                        }
+                    }
+                }
+                case ISSUE_DELETED -> {
+                    synchronized (board) {
+                        board.removeCard(event.issueId());
+                        board.overlays.values().forEach(overlay -> overlay.remove(event.issueId()));
+                    }
+                }
+                case ORDERS_CHANGED -> {
+                    synchronized (board) {
+                        Map<Long, BoardOrderRow> overlay = board.overlays.get(event.userId());
+                        if (overlay != null) {
+                            event.orders().forEach(order -> overlay.put(order.issueId(), order));
+                        }
+                    }
+                }
+                case BOARD_RESET -> boards.remove(projectId);
+            }
+        } catch (Exception e) {
+            log.warn("보드 읽기 모델 갱신 실패, 프로젝트를 다시 읽도록 제거: projectId={}", projectId, e);
+            boards.remove(projectId);
+        }
+        // 반영이 끝난 뒤 버전을 올리고 구독자에게 알린다
+        long projectVersion = changeJournal.record(event);
+        board.advance(projectVersion);
+        eventHub.publish(event, projectVersion);
+    }
+
+    /**
+     * 한 프로젝트의 보드 상태. 모든 변경과 렌더링은 이 객체를 잠근 상태에서 수행한다.
+     */
+    private static final class ProjectBoard {
+        private final Long projectId;
+        private final List<BoardColumnRow> columns;
+        private final Map<Long, BoardIssueRow> cards = new HashMap<>();
+        private final Map<Long, TreeMap<Long, BoardIssueRow>> cardsByColumn = new HashMap<>();
+        private final LinkedHashMap<String, Map<Long, BoardOrderRow>> overlays;
+        // 반영된 프로젝트 버전. 이 노드의 변경으로 1씩 올라가며, 건너뛴 버전이 있으면 다시 읽어야 한다
+        private long projectVersion;
+
+        private ProjectBoard(Long projectId, List<BoardColumnRow> columns, List<BoardIssueRow> rows, int maxUsers,
+                             long projectVersion) {
+            this.projectId = projectId;
+            this.projectVersion = projectVersion;
+            this.columns = List.copyOf(columns);
+            this.overlays = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Map<Long, BoardOrderRow>> eldest) {
+                    return size() > maxUsers;
+                }
+            };
+            rows.forEach(this::putCard);
+        }
+
+        private synchronized boolean isBehind(long currentVersion) {
+            return projectVersion < currentVersion;
+        }
+
+        // 다른 노드의 변경이 끼어 버전을 건너뛰었으면 그대로 두어 다음 조회 때 다시 읽게 한다
+        private synchronized void advance(long version) {
+            if (version == projectVersion + 1) {
+                projectVersion = version;
+            }
+        }
+
+        private synchronized Map<Long, BoardOrderRow> overlay(String userId) {
+            return overlays.get(userId);
+        }
+
+        private void putCard(BoardIssueRow row) {
+            cards.put(row.id(), row);
+            cardsByColumn.computeIfAbsent(row.columnId(), id -> new TreeMap<>()).put(row.id(), row);
+        }
+
+        private void removeCard(Long issueId) {
+            BoardIssueRow old = cards.remove(issueId);
+            if (old != null) {
+                TreeMap<Long, BoardIssueRow> columnCards = cardsByColumn.get(old.columnId());
+                if (columnCards != null) {
+                    columnCards.remove(issueId);
+                }
+            }
+        }
+
+        private synchronized BoardSnapshot render(Map<Long, BoardOrderRow> overlay) {
+            List<BoardSnapshot.Column> result = new ArrayList<>(columns.size());
+            for (BoardColumnRow column : columns) {
+                TreeMap<Long, BoardIssueRow> columnCards = cardsByColumn.get(column.id());
+                List<BoardSnapshot.Card> cardList = new ArrayList<>(columnCards != null ? columnCards.size() : 0);
+                if (columnCards != null) {
+                    // 사용자 오버라이드 → 이슈 기본 순위 키 순, 키가 같거나 없으면 이슈 ID 순 (TreeMap 순서 유지)
+                    List<BoardIssueRow> rows = new ArrayList<>(columnCards.values());
+                    Map<Long, String> ranks = new HashMap<>(rows.size() * 2);
+                    for (BoardIssueRow row : rows) {
+                        ranks.put(row.id(), effectiveRank(overlay, row));
+                    }
+                    rows.sort(Comparator.comparing((BoardIssueRow row) -> ranks.get(row.id()),
+                        Comparator.nullsLast(Comparator.naturalOrder())));
+                    for (int i = 0; i < rows.size(); i++) {
+                        BoardIssueRow row = rows.get(i);
+                        cardList.add(new BoardSnapshot.Card(row.id(), row.title(), row.description(),
+                            row.status() != null ? row.status().toString() : null,
+                            row.startDate(), row.endDate(), row.assigneeId(), row.reporterId(), row.columnId(), i));
+                    }
+                }
+                result.add(new BoardSnapshot.Column(column.id(), column.title(), column.icon(),
+                    column.orderIndex(), cardList));
+            }
+            return new BoardSnapshot(projectId, result);
+        }
+
+        private static String effectiveRank(Map<Long, BoardOrderRow> overlay, BoardIssueRow row) {
+            BoardOrderRow order = overlay.get(row.id());
+            return order != null && order.columnId().equals(row.columnId()) ? order.rankKey() : row.rankKey();
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.softwareengineering.service;
 
+import com.example.softwareengineering.dto.BoardDelta;
+import com.example.softwareengineering.dto.BoardSnapshot;
 import com.example.softwareengineering.entity.BoardColumn;
+import com.example.softwareengineering.event.BoardChangedEvent;
 import com.example.softwareengineering.entity.Issue;
+import com.example.softwareengineering.entity.IssueStatus;
 import com.example.softwareengineering.entity.Project;
 import com.example.softwareengineering.entity.ProjectMember;
 import com.example.softwareengineering.entity.SiteMember;
@@ -17,6 +21,7 @@ import com.example.softwareengineering.repository.UserRepository;
 import com.example.softwareengineering.repository.UserIssueOrderRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -25,8 +30,10 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -40,6 +47,9 @@ public class BoardService {
     private final SiteMemberRepository siteMemberRepository;
     private final UserRepository userRepository;
     private final UserIssueOrderRepository userIssueOrderRepository;
+    private final BoardReadModel boardReadModel;
+    private final BoardChangeJournal changeJournal;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<Map<String, Object>> getColumns(Long projectId) {
@@ -72,84 +82,34 @@ public class BoardService {
         }
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Map<String, List<Map<String, Object>>> getIssues(Long projectId) {
         try {
             log.info("프로젝트 이슈 목록 조회: projectId={}", projectId);
             
             // 현재 로그인한 사용자 정보 가져오기
             UserDetails userDetails = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-            User user = userRepository.findByUserId(userDetails.getUsername())
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-            
-            // 1. 프로젝트 존재 확인 및 컬럼 조회를 한 번에 수행
-            Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다."));
+            BoardSnapshot snapshot = getBoardSnapshot(projectId, userDetails.getUsername());
 
-            // 2. 프로젝트의 모든 활성화된 컬럼과 이슈를 한 번에 조회
-            List<BoardColumn> columns = columnRepository.findByProjectAndIsActiveTrueOrderByOrderIndexAsc(project);
-            List<Issue> allIssues = issueRepository.findByProjectAndIsActiveTrue(project);
-            
-            // 3. 사용자의 모든 이슈 순서 정보를 한 번에 조회
-            List<UserIssueOrder> allUserOrders = userIssueOrderRepository.findByUserIdAndProjectOrderByOrderIndexAsc(user.getUserId(), project);
-            
-            // 4. 컬럼별로 이슈 매핑
+            // 기존 응답 형식 (칼럼 ID → 이슈 목록) 유지
             Map<String, List<Map<String, Object>>> issuesByColumn = new HashMap<>();
-            Map<Long, List<Issue>> issuesByColumnId = allIssues.stream()
-                .collect(Collectors.groupingBy(issue -> issue.getColumn().getId()));
-                
-            for (BoardColumn column : columns) {
-                List<Issue> columnIssues = issuesByColumnId.getOrDefault(column.getId(), new ArrayList<>());
-                List<Map<String, Object>> issueList = new ArrayList<>();
-                
-                // 해당 컬럼의 사용자 순서 정보 필터링
-                Map<Long, Integer> issueOrders = allUserOrders.stream()
-                    .filter(uo -> uo.getColumn().getId().equals(column.getId()))
-                    .collect(Collectors.toMap(
-                        uo -> uo.getIssue().getId(),
-                        UserIssueOrder::getOrderIndex
-                    ));
-                    
-                // 순서 정보가 없는 경우 새로 생성
-                if (issueOrders.isEmpty() && !columnIssues.isEmpty()) {
-                    int order = 0;
-                    List<UserIssueOrder> newOrders = new ArrayList<>();
-                    
-                    for (Issue issue : columnIssues) {
-                        UserIssueOrder userOrder = UserIssueOrder.builder()
-                            .user(user)
-                            .issue(issue)
-                            .project(project)
-                            .column(column)
-                            .orderIndex(order++)
-                            .build();
-                        newOrders.add(userOrder);
-                        issueOrders.put(issue.getId(), userOrder.getOrderIndex());
-                    }
-                    
-                    userIssueOrderRepository.saveAll(newOrders);
-                }
-                
-                // 이슈 정보 변환
-                for (Issue issue : columnIssues) {
+            for (BoardSnapshot.Column column : snapshot.columns()) {
+                List<Map<String, Object>> issueList = new ArrayList<>(column.issues().size());
+                for (BoardSnapshot.Card card : column.issues()) {
                     Map<String, Object> issueMap = new HashMap<>();
-                    issueMap.put("id", issue.getId());
-                    issueMap.put("title", issue.getTitle());
-                    issueMap.put("description", issue.getDescription());
-                    issueMap.put("status", issue.getStatus().toString());
-                    issueMap.put("startDate", issue.getStartDate());
-                    issueMap.put("endDate", issue.getEndDate());
-                    issueMap.put("assigneeId", issue.getAssignee() != null ? issue.getAssignee().getUserId() : null);
-                    issueMap.put("reporterId", issue.getReporter() != null ? issue.getReporter().getUserId() : null);
-                    issueMap.put("columnId", issue.getColumn().getId());
-                    issueMap.put("order", issueOrders.getOrDefault(issue.getId(), 0));
-                    
+                    issueMap.put("id", card.id());
+                    issueMap.put("title", card.title());
+                    issueMap.put("description", card.description());
+                    issueMap.put("status", card.status());
+                    issueMap.put("startDate", card.startDate());
+                    issueMap.put("endDate", card.endDate());
+                    issueMap.put("assigneeId", card.assigneeId());
+                    issueMap.put("reporterId", card.reporterId());
+                    issueMap.put("columnId", card.columnId());
+                    issueMap.put("order", card.order());
                     issueList.add(issueMap);
                 }
-                
-                // 순서대로 정렬
-                issueList.sort((a, b) -> (Integer)a.get("order") - (Integer)b.get("order"));
-                issuesByColumn.put(column.getId().toString(), issueList);
+                issuesByColumn.put(column.id().toString(), issueList);
             }
 
             return issuesByColumn;
@@ -159,6 +119,60 @@ public class BoardService {
         }
     }
 
+    /**
+     * 보드 전체 조회. 메모리의 보드 읽기 모델에서 응답하며, 없을 때만 프로젝션 쿼리로 다시 읽는다.
+     */
+    public BoardSnapshot getBoardSnapshot(Long projectId, String loginId) {
+        return boardReadModel.getSnapshot(projectId, loginId);
+    }
+
+    /**
+     * since 버전 이후 바뀐 카드만 돌려준다. 사용자 순서가 바뀐 칼럼은 칼럼 전체 카드를 보내
+     * 클라이언트가 순서를 그대로 덮어쓸 수 있게 하고, 기록으로 알 수 없으면 전체 보드를 보낸다.
+     */
+    public BoardDelta getBoardChanges(Long projectId, String loginId, long since) {
+        BoardChangeJournal.Changes changes = changeJournal.changesSince(projectId, since, loginId);
+        if (!changes.full() && changes.changedIssueIds().isEmpty()
+                && changes.deletedIssueIds().isEmpty() && changes.reorderedIssueIds().isEmpty()) {
+            return new BoardDelta(projectId, changes.version(), false, null, List.of(), List.of());
+        }
+
+        BoardSnapshot snapshot = boardReadModel.getSnapshot(projectId, loginId);
+        if (changes.full()) {
+            return BoardDelta.full(changes.version(), snapshot);
+        }
+
+        Set<Long> reorderedColumns = new HashSet<>();
+        Set<Long> present = new HashSet<>();
+        for (BoardSnapshot.Column column : snapshot.columns()) {
+            for (BoardSnapshot.Card card : column.issues()) {
+                present.add(card.id());
+                if (changes.reorderedIssueIds().contains(card.id())) {
+                    reorderedColumns.add(column.id());
+                }
+            }
+        }
+
+        List<BoardSnapshot.Card> changed = new ArrayList<>();
+        for (BoardSnapshot.Column column : snapshot.columns()) {
+            boolean wholeColumn = reorderedColumns.contains(column.id());
+            for (BoardSnapshot.Card card : column.issues()) {
+                if (wholeColumn || changes.changedIssueIds().contains(card.id())) {
+                    changed.add(card);
+                }
+            }
+        }
+
+        // 삭제됐거나 비활성 칼럼으로 옮겨져 보드에서 사라진 이슈
+        List<Long> deleted = new ArrayList<>(changes.deletedIssueIds());
+        for (Long issueId : changes.changedIssueIds()) {
+            if (!present.contains(issueId)) {
+                deleted.add(issueId);
+            }
+        }
+        return new BoardDelta(projectId, changes.version(), false, null, changed, deleted);
+    }
+
     @Transactional
     public void initializeDefaultColumns(Project project) {
         try {
@@ -172,6 +186,7 @@ public class BoardService {
                         .icon("/assets/todo.png")
                         .project(project)
                         .orderIndex(1)
+                        .status(IssueStatus.TODO)
                         .isActive(true)
                         .build();
                 columnRepository.save(todoColumn);
@@ -183,6 +198,7 @@ public class BoardService {
                         .icon("/assets/inprogress.png")
                         .project(project)
                         .orderIndex(2)
+                        .status(IssueStatus.IN_PROGRESS)
                         .isActive(true)
                         .build();
                 columnRepository.save(inProgressColumn);
@@ -194,6 +210,7 @@ public class BoardService {
                         .icon("/assets/done.png")
                         .project(project)
                         .orderIndex(3)
+                        .status(IssueStatus.DONE)
                         .isActive(true)
                         .build();
                 columnRepository.save(doneColumn);
@@ -205,10 +222,12 @@ public class BoardService {
                         .icon("/assets/hold.png")
                         .project(project)
                         .orderIndex(4)
+                        .status(IssueStatus.HOLD)
                         .isActive(true)
                         .build();
                 columnRepository.save(holdColumn);
                 log.debug("Hold 칼럼 생성됨: columnId={}", holdColumn.getId());
+                eventPublisher.publishEvent(BoardChangedEvent.boardReset(project.getId()));
             }
         } catch (Exception e) {
             log.error("프로젝트 기본 칼럼 초기화 중 오류 발생: projectId={}", project.getId(), e);
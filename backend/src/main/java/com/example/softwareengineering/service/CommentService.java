@@ -64,7 +64,7 @@ public class CommentService {
         Comment savedComment = commentRepository.save(comment);
         
         // 활동 내역 저장
-        activityLogService.createActivityLog(ActivityLogRequestDTO.builder()
+        activityLogService.recordActivity(ActivityLogRequestDTO.builder()
             .userId(author.getId())
             .type(ActivityType.COMMENT_CREATE)
             .title(issue.getTitle())  // 이슈 제목
@@ -93,7 +93,7 @@ public class CommentService {
         Comment savedComment = commentRepository.save(comment);
         
         // 활동 내역 저장
-        activityLogService.createActivityLog(ActivityLogRequestDTO.builder()
+        activityLogService.recordActivity(ActivityLogRequestDTO.builder()
             .userId(comment.getAuthor().getId())
             .type(ActivityType.COMMENT_UPDATE)
             .title(comment.getIssue().getTitle())  // 이슈 제목
@@ -1,14 +1,18 @@
 package com.example.softwareengineering.service;
 
 import com.example.softwareengineering.dto.CustomIssueStatusDto;
+import com.example.softwareengineering.entity.BoardColumn;
 import com.example.softwareengineering.entity.CustomIssueStatus;
 import com.example.softwareengineering.entity.Project;
 import com.example.softwareengineering.entity.User;
 import com.example.softwareengineering.entity.MemberRole;
+import com.example.softwareengineering.event.ProjectChangedEvent;
 import com.example.softwareengineering.exception.CustomException;
+import com.example.softwareengineering.repository.BoardColumnRepository;
 import com.example.softwareengineering.repository.CustomIssueStatusRepository;
 import com.example.softwareengineering.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +24,8 @@ import java.util.stream.Collectors;
 public class CustomIssueStatusService {
     private final CustomIssueStatusRepository customIssueStatusRepository;
     private final ProjectRepository projectRepository;
+    private final BoardColumnRepository boardColumnRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<CustomIssueStatusDto> getCustomStatuses(Long projectId) {
@@ -30,7 +36,7 @@ public class CustomIssueStatusService {
     }
 
     @Transactional
-    public CustomIssueStatusDto createCustomStatus(Long projectId, String name, User user) {
+    public CustomIssueStatusDto createCustomStatus(Long projectId, String name, Long columnId, User user) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new CustomException("프로젝트를 찾을 수 없습니다."));
 
@@ -49,13 +55,16 @@ public class CustomIssueStatusService {
         CustomIssueStatus status = CustomIssueStatus.builder()
                 .name(name)
                 .project(project)
+                .column(findProjectColumn(projectId, columnId))
                 .build();
 
-        return convertToDto(customIssueStatusRepository.save(status));
+        CustomIssueStatus saved = customIssueStatusRepository.save(status);
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
+        return convertToDto(saved);
     }
 
     @Transactional
-    public CustomIssueStatusDto updateCustomStatus(Long statusId, String name, User user) {
+    public CustomIssueStatusDto updateCustomStatus(Long statusId, String name, Long columnId, User user) {
         CustomIssueStatus status = customIssueStatusRepository.findById(statusId)
                 .orElseThrow(() -> new CustomException("상태를 찾을 수 없습니다."));
 
@@ -67,12 +76,18 @@ public class CustomIssueStatusService {
         }
 
         // 중복 체크
-        if (customIssueStatusRepository.existsByNameAndProjectId(name, status.getProject().getId())) {
+        if (!name.equals(status.getName())
+                && customIssueStatusRepository.existsByNameAndProjectId(name, status.getProject().getId())) {
             throw new CustomException("이미 존재하는 상태 이름입니다.");
         }
 
         status.setName(name);
-        return convertToDto(customIssueStatusRepository.save(status));
+        if (columnId != null) {
+            status.setColumn(findProjectColumn(status.getProject().getId(), columnId));
+        }
+        CustomIssueStatus saved = customIssueStatusRepository.save(status);
+        eventPublisher.publishEvent(new ProjectChangedEvent(status.getProject().getId()));
+        return convertToDto(saved);
     }
 
     @Transactional
@@ -93,6 +108,20 @@ public class CustomIssueStatusService {
         }
 
         customIssueStatusRepository.delete(status);
+        eventPublisher.publishEvent(new ProjectChangedEvent(status.getProject().getId()));
+    }
+
+    // 상태에 연결할 칼럼 (같은 프로젝트의 칼럼만 허용)
+    private BoardColumn findProjectColumn(Long projectId, Long columnId) {
+        if (columnId == null) {
+            return null;
+        }
+        BoardColumn column = boardColumnRepository.findById(columnId)
+                .orElseThrow(() -> new CustomException("칼럼을 찾을 수 없습니다."));
+        if (!column.getProject().getId().equals(projectId)) {
+            throw new CustomException("다른 프로젝트의 칼럼은 연결할 수 없습니다.");
+        }
+        return column;
     }
 
     private CustomIssueStatusDto convertToDto(CustomIssueStatus status) {
@@ -100,6 +129,7 @@ public class CustomIssueStatusService {
                 .id(status.getId())
                 .name(status.getName())
                 .projectId(status.getProject().getId())
+                .columnId(status.getColumn() != null ? status.getColumn().getId() : null)
                 .createdAt(status.getCreatedAt())
                 .updatedAt(status.getUpdatedAt())
                 .build();
@@ -0,0 +1,417 @@
+package com.example.softwareengineering.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 만료 데이터 보존 기간 관리. 테이블마다 RetentionPolicy(시간 칼럼, 보존 기간)를 선언해 두고 같은 방식으로 정리한다.
+ * - 파티션 정책(activity_logs): partition 모드에서는 시간 구간 파티션을 미리 만들고, 보존 기간이 지난 파티션을 통째로 DROP 한다.
+ * - 그 외(또는 파티션이 없는 DB): ID 구간(chunk-size) 단위의 짧은 DELETE를 반복한다. 한 문장이 잠그는 범위는 ID 구간으로 묶이고,
+ *   문장 사이에는 작업 시간에 비례해 쉬어(duty-cycle, 업무 시간에는 business-duty-cycle) 서비스 쿼리에 자리를 내준다.
+ *   한 번의 실행은 max-run-ms 안에서 끝내고 남은 행은 다음 실행에서 이어서 지운다.
+ * 정책별 진행 상황(지운 행 수, 구간 수, 완료 여부, 오류)은 status()로 확인한다.
+ */
+@Slf4j
+@Service
+public class DataRetentionService {
+    private static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<RetentionPolicy> policies;
+    private final Map<String, Progress> progress = new LinkedHashMap<>();
+    private final boolean partitionMode;
+    private final Granularity granularity;
+    private final int aheadPeriods;
+    private final int chunkSize;
+    private final double dutyCycle;
+    private final double businessDutyCycle;
+    private final LocalTime businessStart;
+    private final LocalTime businessEnd;
+    private final long maxRunMs;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // upperBound가 null이면 MAXVALUE 파티션
+    private record Partition(String name, LocalDateTime upperBound) {}
+
+    enum Granularity {
+        DAY, MONTH;
+
+        LocalDateTime start(LocalDateTime time) {
+            LocalDate date = time.toLocalDate();
+            return (this == DAY ? date : date.withDayOfMonth(1)).atStartOfDay();
+        }
+
+        // 구간 끝 (다음 구간의 시작). 중간 날짜에서 시작해도 다음 구간부터는 경계가 맞춰진다
+        LocalDateTime next(LocalDateTime start) {
+            return this == DAY ? start.plusDays(1) : start(start).plusMonths(1);
+        }
+    }
+
+    public DataRetentionService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${activity.retention.days:30}") int activityLogDays,
+            @Value("${retention.email-verification.days:7}") int emailVerificationDays,
+            @Value("${retention.password-reset-token.days:1}") int passwordResetTokenDays,
+            @Value("${retention.verification-code.days:0}") int verificationCodeDays,
+            @Value("${activity.retention.mode:delete}") String mode,
+            @Value("${activity.partition.granularity:day}") String granularity,
+            @Value("${activity.partition.ahead:7}") int aheadPeriods,
+            @Value("${retention.chunk-size:5000}") int chunkSize,
+            @Value("${retention.duty-cycle:0.5}") double dutyCycle,
+            @Value("${retention.business-duty-cycle:0.1}") double businessDutyCycle,
+            @Value("${retention.business-hours:09:00-18:00}") String businessHours,
+            @Value("${retention.max-run-ms:600000}") long maxRunMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 보존 대상 테이블과 시간 칼럼 (만료 시각 칼럼이면 보존 기간은 만료 후 유예 기간)
+        this.policies = List.of(
+            RetentionPolicy.partitioned("activity_logs", "timestamp", Duration.ofDays(activityLogDays)),
+            RetentionPolicy.keep("email_verification", "created_at", Duration.ofDays(emailVerificationDays)),
+            RetentionPolicy.keep("password_reset_token", "expiry_date", Duration.ofDays(passwordResetTokenDays)),
+            RetentionPolicy.keep("verification_codes", "expires_at", Duration.ofDays(verificationCodeDays)));
+        this.policies.forEach(policy -> progress.put(policy.table(), new Progress()));
+        this.partitionMode = "partition".equalsIgnoreCase(mode);
+        this.granularity = Granularity.valueOf(granularity.toUpperCase(Locale.ROOT));
+        this.aheadPeriods = aheadPeriods;
+        this.chunkSize = chunkSize;
+        this.dutyCycle = clampDutyCycle(dutyCycle);
+        this.businessDutyCycle = clampDutyCycle(businessDutyCycle);
+        String[] hours = businessHours.split("-");
+        this.businessStart = LocalTime.parse(hours[0].trim());
+        this.businessEnd = LocalTime.parse(hours[1].trim());
+        this.maxRunMs = maxRunMs;
+    }
+
+    private static double clampDutyCycle(double value) {
+        return Math.max(0.01, Math.min(1.0, value));
+    }
+
+    // 재기동 사이에 날짜가 지나도 쓰기 전에 파티션이 준비되도록 기동 시에도 만든다
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepareOnStartup() {
+        if (!partitionMode) {
+            return;
+        }
+        for (RetentionPolicy policy : policies) {
+            if (!policy.partitioned()) {
+                continue;
+            }
+            try {
+                List<Partition> partitions = partitions(policy);
+                if (!partitions.isEmpty()) {
+                    addPartitions(policy, partitions, LocalDateTime.now());
+                }
+            } catch (DataAccessException e) {
+                log.error("파티션 준비 실패: table={}", policy.table(), e);
+            }
+        }
+    }
+
+    @Scheduled(cron = "${retention.cron:0 0 * * * *}")
+    public void applyRetention() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("보존 기간 정리가 이미 실행 중이어서 건너뜁니다.");
+            return;
+        }
+        try {
+            long deadline = System.currentTimeMillis() + maxRunMs;
+            for (RetentionPolicy policy : policies) {
+                purge(policy, deadline);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 한 테이블만 바로 정리 (지운 행 수, 파티션 정리면 DROP한 파티션 수). 주기 실행과 겹치면 건너뛰고 0
+    public long purge(String table) {
+        RetentionPolicy policy = policies.stream()
+            .filter(candidate -> candidate.table().equals(table))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("보존 정책이 없는 테이블입니다: " + table));
+        if (!running.compareAndSet(false, true)) {
+            log.info("보존 기간 정리가 이미 실행 중이어서 건너뜁니다: table={}", table);
+            return 0;
+        }
+        try {
+            return purge(policy, System.currentTimeMillis() + maxRunMs);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 정책별 진행 상황
+    public List<Map<String, Object>> status() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (RetentionPolicy policy : policies) {
+            Map<String, Object> entry = progress.get(policy.table()).toMap();
+            entry.put("table", policy.table());
+            entry.put("retention", policy.retention().toString());
+            result.add(entry);
+        }
+        return result;
+    }
+
+    private long purge(RetentionPolicy policy, long deadline) {
+        Progress current = progress.get(policy.table());
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = policy.cutoff(now);
+        current.start(cutoff);
+        try {
+            List<Partition> partitions = partitionMode && policy.partitioned() ? partitions(policy) : List.of();
+            if (partitions.isEmpty()) {
+                return deleteInChunks(policy, cutoff, deadline, current);
+            }
+            partitions = addPartitions(policy, partitions, now);
+            long dropped = dropPartitions(policy, partitions, cutoff);
+            current.partitionsDropped(dropped);
+            current.finish(true);
+            return dropped;
+        } catch (DataAccessException e) {
+            log.error("보존 기간 정리 실패: table={}", policy.table(), e);
+            current.fail(e);
+            return 0;
+        }
+    }
+
+    // 현재 테이블의 파티션 목록 (파티션 테이블이 아니거나 조회할 수 없으면 빈 목록)
+    private List<Partition> partitions(RetentionPolicy policy) {
+        List<Object[]> rows;
+        try {
+            rows = jdbcTemplate.query(
+                "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                "ORDER BY PARTITION_ORDINAL_POSITION",
+                (rs, rowNum) -> new Object[] {rs.getString(1), rs.getString(2)}, policy.table());
+        } catch (DataAccessException e) {
+            log.warn("파티션 정보를 읽을 수 없어 ID 구간 삭제로 대신합니다: table={} ({})", policy.table(), e.getMessage());
+            return List.of();
+        }
+        List<Partition> partitions = new ArrayList<>();
+        for (Object[] row : rows) {
+            String description = (String) row[1];
+            if (description == null || "MAXVALUE".equalsIgnoreCase(description)) {
+                partitions.add(new Partition((String) row[0], null));
+                continue;
+            }
+            String bound = description.replace("'", "").trim();
+            try {
+                LocalDateTime upper = bound.length() <= 10
+                    ? LocalDate.parse(bound).atStartOfDay()
+                    : LocalDateTime.parse(bound, BOUND_FORMAT);
+                partitions.add(new Partition((String) row[0], upper));
+            } catch (DateTimeParseException e) {
+                log.warn("RANGE COLUMNS({}) 파티션이 아니어서 관리하지 않습니다: table={}, {}={}",
+                    policy.timeColumn(), policy.table(), row[0], description);
+                return List.of();
+            }
+        }
+        return partitions;
+    }
+
+    // 지금부터 aheadPeriods 구간 뒤까지 파티션을 미리 만든다 (MAXVALUE 파티션이 있으면 그 앞을 쪼갠다)
+    private List<Partition> addPartitions(RetentionPolicy policy, List<Partition> partitions, LocalDateTime now) {
+        boolean hasMax = partitions.stream().anyMatch(partition -> partition.upperBound() == null);
+        LocalDateTime start = partitions.stream()
+            .map(Partition::upperBound)
+            .filter(Objects::nonNull)
+            .max(LocalDateTime::compareTo)
+            .orElse(granularity.start(now));
+        LocalDateTime horizon = granularity.start(now);
+        for (int i = 0; i < aheadPeriods; i++) {
+            horizon = granularity.next(horizon);
+        }
+
+        List<Partition> added = new ArrayList<>();
+        while (start.isBefore(horizon)) {
+            LocalDateTime end = granularity.next(start);
+            added.add(new Partition("p" + start.format(NAME_FORMAT), end));
+            start = end;
+        }
+        if (added.isEmpty()) {
+            return partitions;
+        }
+
+        String definitions = added.stream()
+            .map(partition -> "PARTITION " + partition.name() + " VALUES LESS THAN ('" +
+                partition.upperBound().format(BOUND_FORMAT) + "')")
+            .collect(Collectors.joining(", "));
+        if (hasMax) {
+            // MAXVALUE 파티션이 비어 있으면 메타데이터만 바뀐다
+            jdbcTemplate.execute("ALTER TABLE " + policy.table() + " REORGANIZE PARTITION " + MAX_PARTITION +
+                " INTO (" + definitions + ", PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+        } else {
+            jdbcTemplate.execute("ALTER TABLE " + policy.table() + " ADD PARTITION (" + definitions + ")");
+        }
+        log.info("파티션 추가: table={}, partitions={}", policy.table(),
+            added.stream().map(Partition::name).collect(Collectors.toList()));
+
+        List<Partition> result = new ArrayList<>(partitions.stream().filter(p -> p.upperBound() != null).toList());
+        result.addAll(added);
+        if (hasMax) {
+            result.add(new Partition(MAX_PARTITION, null));
+        }
+        return result;
+    }
+
+    // 모든 행이 cutoff 이전인 파티션(상한 <= cutoff)만 DROP (마지막 파티션은 남긴다)
+    private long dropPartitions(RetentionPolicy policy, List<Partition> partitions, LocalDateTime cutoff) {
+        List<String> expired = partitions.stream()
+            .filter(partition -> partition.upperBound() != null && !partition.upperBound().isAfter(cutoff))
+            .map(Partition::name)
+            .collect(Collectors.toList());
+        if (expired.size() >= partitions.size()) {
+            expired = expired.subList(0, partitions.size() - 1);
+        }
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.execute("ALTER TABLE " + policy.table() + " DROP PARTITION " + String.join(", ", expired));
+        log.info("파티션 삭제: table={}, cutoff={}, partitions={}", policy.table(), cutoff, expired);
+        return expired.size();
+    }
+
+    /**
+     * ID 구간 단위 삭제: 남은 만료 행 중 가장 작은 ID에서 chunkSize 폭의 구간만 지운다 (문장마다 자동 커밋).
+     * 기본 키 구간으로 범위가 정해지므로 시간 칼럼 인덱스가 없어도 한 문장이 잡는 잠금이 구간 안으로 제한되고,
+     * 빈 ID 구간은 다음 만료 행으로 건너뛴다.
+     */
+    private long deleteInChunks(RetentionPolicy policy, LocalDateTime cutoff, long deadline, Progress current) {
+        String nextIdSql = "SELECT MIN(id) FROM " + policy.table() + " WHERE id >= ? AND " + policy.timeColumn() + " < ?";
+        String deleteSql = "DELETE FROM " + policy.table() + " WHERE id >= ? AND id < ? AND " + policy.timeColumn() + " < ?";
+        long deleted = 0;
+        long from = Long.MIN_VALUE;
+        boolean completed = true;
+        while (true) {
+            if (System.currentTimeMillis() >= deadline) {
+                completed = false;
+                log.info("보존 기간 정리 시간 초과, 다음 실행에서 이어서 삭제: table={}, rows={}", policy.table(), deleted);
+                break;
+            }
+            long started = System.nanoTime();
+            Long next = jdbcTemplate.queryForObject(nextIdSql, Long.class, from, cutoff);
+            if (next == null) {
+                break;
+            }
+            from = next + chunkSize;
+            int rows = jdbcTemplate.update(deleteSql, next, from, cutoff);
+            deleted += rows;
+            current.chunk(rows);
+            if (!pause(System.nanoTime() - started)) {
+                completed = false;
+                break;
+            }
+        }
+        current.finish(completed);
+        if (deleted > 0) {
+            log.info("만료 데이터 삭제: table={}, cutoff={}, rows={}", policy.table(), cutoff, deleted);
+        }
+        return deleted;
+    }
+
+    // 작업 시간 : 쉬는 시간 = dutyCycle : (1 - dutyCycle). 중단 요청을 받으면 false
+    private boolean pause(long workNanos) {
+        double duty = isBusinessHours(LocalTime.now()) ? businessDutyCycle : dutyCycle;
+        long sleepNanos = (long) (workNanos * (1 - duty) / duty);
+        if (sleepNanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean isBusinessHours(LocalTime time) {
+        return businessStart.isBefore(businessEnd)
+            ? !time.isBefore(businessStart) && time.isBefore(businessEnd)
+            : !time.isBefore(businessStart) || time.isBefore(businessEnd);
+    }
+
+    // 정책 하나의 진행 상황 (마지막 실행 + 누적)
+    private static class Progress {
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+        private LocalDateTime cutoff;
+        private long rows;
+        private long chunks;
+        private long partitions;
+        private boolean completed;
+        private String error;
+        private long totalRows;
+        private long totalPartitions;
+
+        synchronized void start(LocalDateTime cutoff) {
+            this.startedAt = LocalDateTime.now();
+            this.finishedAt = null;
+            this.cutoff = cutoff;
+            this.rows = 0;
+            this.chunks = 0;
+            this.partitions = 0;
+            this.completed = false;
+            this.error = null;
+        }
+
+        synchronized void chunk(int deleted) {
+            rows += deleted;
+            totalRows += deleted;
+            chunks++;
+        }
+
+        synchronized void partitionsDropped(long dropped) {
+            partitions += dropped;
+            totalPartitions += dropped;
+        }
+
+        synchronized void finish(boolean completed) {
+            this.completed = completed;
+            this.finishedAt = LocalDateTime.now();
+        }
+
+        synchronized void fail(Exception e) {
+            this.error = e.getMessage();
+            this.finishedAt = LocalDateTime.now();
+        }
+
+        synchronized Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("startedAt", startedAt);
+            map.put("finishedAt", finishedAt);
+            map.put("cutoff", cutoff);
+            map.put("deletedRows", rows);
+            map.put("chunks", chunks);
+            map.put("droppedPartitions", partitions);
+            map.put("completed", completed);
+            map.put("error", error);
+            map.put("totalDeletedRows", totalRows);
+            map.put("totalDroppedPartitions", totalPartitions);
+            return map;
+        }
+    }
+}
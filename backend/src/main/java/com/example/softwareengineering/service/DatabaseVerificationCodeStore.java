@@ -0,0 +1,53 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.entity.VerificationCode;
+import com.example.softwareengineering.repository.VerificationCodeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * DB 인증번호 저장소. 여러 서버에서 발송/검증 요청이 나뉘어 들어와도 같은 인증번호를 본다.
+ * 만료된 행은 조회에서 제외되고, 삭제는 DataRetentionService가 ID 구간 단위로 나눠 수행한다.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "verification.code-store", havingValue = "database")
+public class DatabaseVerificationCodeStore implements VerificationCodeStore {
+    private final VerificationCodeRepository verificationCodeRepository;
+
+    @Override
+    @Transactional
+    public void save(Purpose purpose, String email, String code, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        String key = key(purpose, email);
+        VerificationCode entity = verificationCodeRepository.findByCodeKey(key)
+            .orElseGet(() -> VerificationCode.builder().codeKey(key).build());
+        entity.setCode(code);
+        entity.setCreatedAt(now);
+        entity.setExpiresAt(now.plus(ttl));
+        verificationCodeRepository.save(entity);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StoredCode> find(Purpose purpose, String email) {
+        return verificationCodeRepository.findByCodeKeyAndExpiresAtAfter(key(purpose, email), LocalDateTime.now())
+            .map(entity -> new StoredCode(entity.getCode(), entity.getCreatedAt(), entity.getExpiresAt()));
+    }
+
+    @Override
+    @Transactional
+    public void remove(Purpose purpose, String email) {
+        verificationCodeRepository.deleteByCodeKey(key(purpose, email));
+    }
+
+    private String key(Purpose purpose, String email) {
+        return purpose.name() + ":" + email;
+    }
+}
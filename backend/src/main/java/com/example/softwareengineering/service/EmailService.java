@@ -10,17 +10,14 @@ import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.time.LocalDateTime;
-import java.util.Map;
-import java.util.Random;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.security.SecureRandom;
+import java.time.Duration;
 
 @Service
 public class EmailService {
     private final JavaMailSender emailSender;
-    private final ConcurrentHashMap<String, String> verificationCodes;
-    private final ConcurrentHashMap<String, LocalDateTime> verificationCodeTimes;
+    private final VerificationCodeStore verificationCodeStore;
+    private final SecureRandom random = new SecureRandom();
     private static final Logger logger = LoggerFactory.getLogger(EmailService.class);
 
     @Value("${mail.sender.name}")
@@ -32,22 +29,34 @@ public class EmailService {
     @Value("${frontend.url}")
     private String frontendUrl;
 
-    public EmailService(JavaMailSender emailSender) {
+    // 인증번호 유효 시간 (메일 본문의 안내 문구도 이 값으로 만든다)
+    @Value("${verification.code.ttl-minutes:60}")
+    private long codeTtlMinutes;
+
+    public EmailService(JavaMailSender emailSender, VerificationCodeStore verificationCodeStore) {
         this.emailSender = emailSender;
-        this.verificationCodes = new ConcurrentHashMap<>();
-        this.verificationCodeTimes = new ConcurrentHashMap<>();
+        this.verificationCodeStore = verificationCodeStore;
     }
 
     private String generateVerificationCode() {
-        Random random = new Random();
         return String.format("%06d", random.nextInt(1000000));
     }
 
+    // 메일 안내 문구용 유효 시간 (예: 1시간, 1시간 30분, 10분)
+    static String formatTtl(long minutes) {
+        long hours = minutes / 60;
+        long rest = minutes % 60;
+        if (hours == 0) {
+            return rest + "분";
+        }
+        return rest == 0 ? hours + "시간" : hours + "시간 " + rest + "분";
+    }
+
     public void sendIdFindVerificationEmail(String email) {
         try {
             String verificationCode = generateVerificationCode();
-            verificationCodes.put(email, verificationCode);
-            verificationCodeTimes.put(email, LocalDateTime.now());
+            verificationCodeStore.save(VerificationCodeStore.Purpose.ID_FIND, email, verificationCode,
+                Duration.ofMinutes(codeTtlMinutes));
 
             MimeMessage message = emailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
@@ -64,10 +73,10 @@ public class EmailService {
                         <div style="margin: 30px 0; background-color: #f5f5f5; padding: 20px; text-align: center; font-size: 24px; font-weight: bold;">
                             %s
                         </div>
-                        <p>이 인증번호는 1시간 동안만 유효합니다.</p>
+                        <p>이 인증번호는 %s 동안만 유효합니다.</p>
                         <p>감사합니다.</p>
                     </div>
-                    """, verificationCode);
+                    """, verificationCode, formatTtl(codeTtlMinutes));
 
             helper.setText(content, true);
             emailSender.send(message);
@@ -83,8 +92,8 @@ public class EmailService {
             String verificationCode = generateVerificationCode();
             logger.info("비밀번호 재설정 인증번호 생성. 이메일: {}", email);
             
-            verificationCodes.put(email, verificationCode);
-            verificationCodeTimes.put(email, LocalDateTime.now());
+            verificationCodeStore.save(VerificationCodeStore.Purpose.PASSWORD_RESET, email, verificationCode,
+                Duration.ofMinutes(codeTtlMinutes));
             logger.info("인증번호 저장 완료. 이메일: {}", email);
 
             MimeMessage message = emailSender.createMimeMessage();
@@ -102,10 +111,10 @@ public class EmailService {
                         <div style="margin: 30px 0; background-color: #f5f5f5; padding: 20px; text-align: center; font-size: 24px; font-weight: bold;">
                             %s
                         </div>
-                        <p>이 인증번호는 1시간 동안만 유효합니다.</p>
+                        <p>이 인증번호는 %s 동안만 유효합니다.</p>
                         <p>감사합니다.</p>
                     </div>
-                    """, verificationCode);
+                    """, verificationCode, formatTtl(codeTtlMinutes));
 
             helper.setText(content, true);
             emailSender.send(message);
@@ -116,26 +125,6 @@ public class EmailService {
         }
     }
 
-    public String getVerificationCode(String key) {
-        String code = verificationCodes.get(key);
-        if (code == null) {
-            logger.warn("저장된 인증 코드를 찾을 수 없음. 키: {}", key);
-        } else {
-            logger.debug("인증 코드 조회 성공. 키: {}", key);
-        }
-        return code;
-    }
-
-    public LocalDateTime getVerificationCodeCreationTime(String key) {
-        LocalDateTime time = verificationCodeTimes.get(key);
-        if (time == null) {
-            logger.warn("저장된 인증 코드 생성 시간을 찾을 수 없음. 키: {}", key);
-        } else {
-            logger.debug("인증 코드 생성 시간 조회 성공. 키: {}", key);
-        }
-        return time;
-    }
-
     public void sendVerificationEmail(String email, String verificationToken) {
         try {
             MimeMessage message = emailSender.createMimeMessage();
@@ -170,12 +159,6 @@ public class EmailService {
         }
     }
 
-    public void removeVerificationCode(String key) {
-        verificationCodes.remove(key);
-        verificationCodeTimes.remove(key);
-        logger.info("인증 코드 삭제 완료. 키: {}", key);
-    }
-
     /**
      * 프로젝트/사이트 초대 메일 발송
      */
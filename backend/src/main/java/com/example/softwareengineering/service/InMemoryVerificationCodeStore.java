@@ -0,0 +1,80 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.cache.HashedTimingWheel;
+import com.example.softwareengineering.exception.ServiceBusyException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 인증번호 저장소. 만료는 해시 타이밍 휠로 처리해 발송 후 사용되지 않은 코드도 TTL이 지나면 제거되고,
+ * 최대 보관 개수를 넘으면 새 발급을 거절해 메모리가 무한히 늘지 않도록 한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "verification.code-store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+    private final ConcurrentHashMap<String, StoredCode> codes = new ConcurrentHashMap<>();
+
+    @Value("${verification.code.max-entries:100000}")
+    private int maxEntries;
+
+    @Value("${verification.code.wheel-tick-ms:1000}")
+    private long tickMs;
+
+    private HashedTimingWheel<Expiry> wheel;
+
+    private record Expiry(String key, StoredCode code) {}
+
+    @PostConstruct
+    public void init() {
+        // 같은 키로 다시 발급된 경우 이전 만료 예약은 값이 달라 무시됨
+        wheel = new HashedTimingWheel<>(tickMs, 512, expiry -> codes.remove(expiry.key(), expiry.code()));
+        wheel.start("verification-code-wheel");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.stop();
+    }
+
+    @Override
+    public void save(Purpose purpose, String email, String code, Duration ttl) {
+        String key = key(purpose, email);
+        if (codes.size() >= maxEntries && !codes.containsKey(key)) {
+            log.warn("인증번호 저장소가 가득 참. 발급 거절: {}", purpose);
+            throw new ServiceBusyException("인증 요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        StoredCode stored = new StoredCode(code, now, now.plus(ttl));
+        codes.put(key, stored);
+        wheel.schedule(new Expiry(key, stored), ttl.toMillis());
+    }
+
+    @Override
+    public Optional<StoredCode> find(Purpose purpose, String email) {
+        StoredCode stored = codes.get(key(purpose, email));
+        // 휠 tick 사이에 만료된 항목도 걸러냄
+        if (stored == null || stored.isExpired(LocalDateTime.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(stored);
+    }
+
+    @Override
+    public void remove(Purpose purpose, String email) {
+        codes.remove(key(purpose, email));
+    }
+
+    private String key(Purpose purpose, String email) {
+        return purpose.name() + ":" + email;
+    }
+}
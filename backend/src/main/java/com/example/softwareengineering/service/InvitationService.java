@@ -2,9 +2,11 @@ package com.example.softwareengineering.service;
 
 import com.example.softwareengineering.dto.InvitationResponse;
 import com.example.softwareengineering.entity.*;
+import com.example.softwareengineering.event.MembershipChangedEvent;
 import com.example.softwareengineering.exception.CustomException;
 import com.example.softwareengineering.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,15 +40,24 @@ public class InvitationService {
     @Autowired
     private EmailService emailService;
 
+    @Autowired
+    private MembershipVersionService membershipVersionService;
+
+    @Autowired
+    private PermissionService permissionService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Transactional
     public Invitation inviteToSite(Long siteId, String inviteeEmail, Long inviterId) {
         Site site = siteRepository.findById(siteId)
             .orElseThrow(() -> new CustomException("사이트를 찾을 수 없습니다."));
         User inviter = userRepository.findById(inviterId)
             .orElseThrow(() -> new CustomException("초대자를 찾을 수 없습니다."));
-        SiteMember inviterMember = siteMemberRepository.findBySiteAndUser(site, inviter)
+        MemberRole inviterRole = permissionService.getSiteRole(site.getId(), inviter.getId())
             .orElseThrow(() -> new CustomException("초대자가 사이트 멤버가 아닙니다."));
-        if (inviterMember.getRole() != MemberRole.ADMIN) {
+        if (inviterRole != MemberRole.ADMIN) {
             throw new CustomException("사이트 관리자만 초대할 수 있습니다.");
         }
         // 초대 대상 존재 여부 확인
@@ -75,12 +86,8 @@ public class InvitationService {
         User inviter = userRepository.findById(inviterId)
             .orElseThrow(() -> new CustomException("초대자를 찾을 수 없습니다."));
         // 프로젝트 멤버 여부 및 역할 확인
-        ProjectMember inviterMember = projectMemberRepository.findByProjectAndUser(project, inviter).orElse(null);
-        Site site = project.getSite();
-        SiteMember inviterSiteMember = siteMemberRepository.findBySiteAndUser(site, inviter).orElse(null);
-
-        boolean isAdmin = inviterSiteMember != null && inviterSiteMember.getRole() == MemberRole.ADMIN;
-        boolean isPm = inviterMember != null && inviterMember.getRole() == MemberRole.PM;
+        boolean isAdmin = permissionService.isSiteAdmin(project.getSite().getId(), inviter.getId());
+        boolean isPm = permissionService.getProjectRole(project.getId(), inviter.getId()).orElse(null) == MemberRole.PM;
 
         if (!isAdmin && !isPm) {
             throw new CustomException("ADMIN 또는 PM만 초대할 수 있습니다.");
@@ -163,6 +170,8 @@ public class InvitationService {
             siteMember.setUser(user);
             siteMember.setRole(invitation.getRole());
             siteMemberRepository.save(siteMember);
+            membershipVersionService.bump(user.getId());
+            eventPublisher.publishEvent(MembershipChangedEvent.site(invitation.getSite().getId(), user.getId()));
         }
         if (invitation.getProject() != null) {
             ProjectMember projectMember = new ProjectMember();
@@ -170,6 +179,7 @@ public class InvitationService {
             projectMember.setUser(user);
             projectMember.setRole(invitation.getRole());
             projectMemberRepository.save(projectMember);
+            eventPublisher.publishEvent(MembershipChangedEvent.project(invitation.getProject().getId(), user.getId()));
         }
     }
 
@@ -203,6 +213,8 @@ public class InvitationService {
             siteMember.setUser(user);
             siteMember.setRole(invitation.getRole());
             siteMemberRepository.save(siteMember);
+            membershipVersionService.bump(user.getId());
+            eventPublisher.publishEvent(MembershipChangedEvent.site(invitation.getSite().getId(), user.getId()));
         }
         if (invitation.getProject() != null) {
             ProjectMember projectMember = new ProjectMember();
@@ -210,6 +222,7 @@ public class InvitationService {
             projectMember.setUser(user);
             projectMember.setRole(invitation.getRole());
             projectMemberRepository.save(projectMember);
+            eventPublisher.publishEvent(MembershipChangedEvent.project(invitation.getProject().getId(), user.getId()));
         }
 
         return invitation;
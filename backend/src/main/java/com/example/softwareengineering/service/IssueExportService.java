@@ -0,0 +1,149 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.dto.IssueExportRow;
+import com.example.softwareengineering.dto.IssueFileFormat;
+import com.example.softwareengineering.entity.MemberRole;
+import com.example.softwareengineering.entity.Project;
+import com.example.softwareengineering.exception.CustomException;
+import com.example.softwareengineering.repository.IssueRepository;
+import com.example.softwareengineering.repository.ProjectRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 프로젝트 이슈 내보내기 (CSV / NDJSON).
+ * 이슈를 엔티티가 아닌 프로젝션으로 DB 커서에서 한 행씩 읽어 바로 응답에 쓰므로
+ * 이슈 수와 관계없이 메모리 사용량이 일정하고, 헤더를 쓰자마자 전송이 시작된다.
+ * 출력 형식은 가져오기(IssueImportService)가 그대로 읽을 수 있는 필드 이름을 쓴다.
+ */
+@Slf4j
+@Service
+public class IssueExportService {
+    static final String CSV_HEADER =
+        "id,title,description,status,columnId,columnTitle,assigneeId,reporterId,startDate,endDate,createdAt";
+
+    private final IssueRepository issueRepository;
+    private final ProjectRepository projectRepository;
+    private final PermissionService permissionService;
+    private final ObjectMapper objectMapper;
+    private final int flushRows;
+    private final long timeoutMs;
+
+    public IssueExportService(
+            IssueRepository issueRepository,
+            ProjectRepository projectRepository,
+            PermissionService permissionService,
+            ObjectMapper objectMapper,
+            @Value("${issue.export.flush-rows:500}") int flushRows,
+            @Value("${issue.export.timeout-ms:600000}") long timeoutMs) {
+        this.issueRepository = issueRepository;
+        this.projectRepository = projectRepository;
+        this.permissionService = permissionService;
+        this.objectMapper = objectMapper;
+        this.flushRows = flushRows;
+        this.timeoutMs = timeoutMs;
+    }
+
+    // 응답을 시작하기 전에 프로젝트와 조회 권한(프로젝트 멤버 또는 사이트 ADMIN)을 확인하고 다운로드 파일 이름을 정한다
+    public String fileName(Long projectId, Long userId, IssueFileFormat format) {
+        Project project = projectRepository.findById(projectId)
+            .orElseThrow(() -> new CustomException("프로젝트 없음"));
+        if (permissionService.getProjectRole(projectId, userId).isEmpty()
+                && permissionService.getSiteRole(project.getSite().getId(), userId).orElse(null) != MemberRole.ADMIN) {
+            throw new CustomException("프로젝트 멤버가 아닙니다.");
+        }
+        return project.getKey() + "-issues." + format.getExtension();
+    }
+
+    // 내보내기 응답에만 적용하는 비동기 타임아웃 (전역 spring.mvc.async.request-timeout은 그대로 둔다)
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    /**
+     * 요청 스레드가 아닌 비동기 스트리밍 스레드에서 호출된다. 커서가 열려 있는 동안 트랜잭션을 유지한다.
+     */
+    @Transactional(readOnly = true)
+    public long exportIssues(Long projectId, IssueFileFormat format, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        if (format == IssueFileFormat.CSV) {
+            // 엑셀에서 한글이 깨지지 않도록 BOM을 붙인다 (가져오기에서는 무시)
+            writer.write('\uFEFF');
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+            writer.flush();
+        }
+
+        long count = 0;
+        try (Stream<IssueExportRow> rows = issueRepository.streamExportRows(projectId)) {
+            Iterator<IssueExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                IssueExportRow row = iterator.next();
+                if (format == IssueFileFormat.CSV) {
+                    writeCsv(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+                if (++count % flushRows == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        log.info("이슈 내보내기 완료: projectId={}, format={}, rows={}", projectId, format, count);
+        return count;
+    }
+
+    private static void writeCsv(Writer writer, IssueExportRow row) throws IOException {
+        writer.write(String.valueOf(row.id()));
+        writeCsvField(writer, row.title());
+        writeCsvField(writer, row.description());
+        writeCsvField(writer, row.status() != null ? row.status().name() : null);
+        writeCsvField(writer, row.columnId() != null ? String.valueOf(row.columnId()) : null);
+        writeCsvField(writer, row.columnTitle());
+        writeCsvField(writer, row.assigneeId());
+        writeCsvField(writer, row.reporterId());
+        writeCsvField(writer, date(row.startDate()));
+        writeCsvField(writer, date(row.endDate()));
+        writeCsvField(writer, date(row.createdAt()));
+        writer.write("\r\n");
+    }
+
+    // RFC 4180: 쉼표/따옴표/줄바꿈이 있으면 큰따옴표로 감싸고 안의 따옴표는 두 번 쓴다
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        writer.write(',');
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String date(LocalDateTime value) {
+        return value != null ? value.toString() : null;
+    }
+}
@@ -0,0 +1,430 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.dto.ActivityLogRequestDTO;
+import com.example.softwareengineering.dto.BoardColumnRow;
+import com.example.softwareengineering.dto.IssueFileFormat;
+import com.example.softwareengineering.dto.IssueImportResult;
+import com.example.softwareengineering.dto.IssueImportRow;
+import com.example.softwareengineering.entity.ActivityType;
+import com.example.softwareengineering.entity.BoardColumn;
+import com.example.softwareengineering.entity.Issue;
+import com.example.softwareengineering.entity.IssueStatus;
+import com.example.softwareengineering.entity.Project;
+import com.example.softwareengineering.entity.User;
+import com.example.softwareengineering.event.BoardChangedEvent;
+import com.example.softwareengineering.exception.CustomException;
+import com.example.softwareengineering.repository.BoardColumnRepository;
+import com.example.softwareengineering.repository.IssueRepository;
+import com.example.softwareengineering.repository.ProjectRepository;
+import com.example.softwareengineering.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 프로젝트 이슈 일괄 가져오기 (CSV / NDJSON).
+ * 업로드를 한 행씩 읽어 일정 개수마다 한 트랜잭션으로 저장하고 세션을 비우므로 파일 크기와 관계없이 메모리 사용량이 일정하다.
+ * 권한/칼럼/칼럼별 마지막 순위 키는 시작할 때 한 번, 사용자는 청크마다 모르는 로그인 ID만 한 번에 조회한다.
+ * 잘못된 행은 건너뛰고 행 번호와 사유를 결과에 담는다.
+ */
+@Slf4j
+@Service
+public class IssueImportService {
+    private static final int MAX_CACHED_USERS = 10000;
+
+    private final IssueRepository issueRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final BoardColumnRepository columnRepository;
+    private final PermissionService permissionService;
+    private final StatusColumnIndex statusColumnIndex;
+    private final ActivityLogService activityLogService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxErrors;
+    private final int maxRecordChars;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 검증을 통과해 저장을 기다리는 행
+    private record Pending(long row, IssueImportRow source, IssueStatus status, Long columnId,
+                           LocalDateTime startDate, LocalDateTime endDate) {}
+
+    private record ChunkResult(int saved, List<IssueImportResult.RowError> errors) {}
+
+    private interface RowSource {
+        IssueImportRow next() throws IOException, RowException;
+    }
+
+    // 한 행만 건너뛰면 되는 오류 (파일 전체를 멈추지 않음)
+    private static final class RowException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        private RowException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    public IssueImportService(
+            IssueRepository issueRepository,
+            ProjectRepository projectRepository,
+            UserRepository userRepository,
+            BoardColumnRepository columnRepository,
+            PermissionService permissionService,
+            StatusColumnIndex statusColumnIndex,
+            ActivityLogService activityLogService,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${issue.import.chunk-size:500}") int chunkSize,
+            @Value("${issue.import.max-errors:1000}") int maxErrors,
+            @Value("${issue.import.max-record-chars:100000}") int maxRecordChars) {
+        this.issueRepository = issueRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.columnRepository = columnRepository;
+        this.permissionService = permissionService;
+        this.statusColumnIndex = statusColumnIndex;
+        this.activityLogService = activityLogService;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        this.maxRecordChars = maxRecordChars;
+    }
+
+    public IssueImportResult importIssues(Long projectId, Long userId, IssueFileFormat format, InputStream input) {
+        Project project = projectRepository.findById(projectId)
+            .orElseThrow(() -> new CustomException("프로젝트 없음"));
+        User importer = userRepository.findById(userId)
+            .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다."));
+        if (!permissionService.canManageProject(project, importer.getId())) {
+            throw new CustomException("이슈 생성 권한이 없습니다.");
+        }
+
+        Import job = new Import(projectId, importer);
+        for (BoardColumnRow column : columnRepository.findBoardColumnRows(projectId)) {
+            job.columnIds.add(column.id());
+        }
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<Pending> chunk = new ArrayList<>(chunkSize);
+        try {
+            RowSource source = format == IssueFileFormat.CSV ? csvSource(reader) : ndjsonSource(reader);
+            while (true) {
+                IssueImportRow row;
+                try {
+                    row = source.next();
+                } catch (RowException e) {
+                    job.total++;
+                    job.fail(job.total, e.getMessage());
+                    continue;
+                }
+                if (row == null) {
+                    break;
+                }
+                job.total++;
+                try {
+                    chunk.add(validate(job, job.total, row));
+                } catch (RowException e) {
+                    job.fail(job.total, e.getMessage());
+                    continue;
+                }
+                if (chunk.size() >= chunkSize) {
+                    saveChunk(job, chunk);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            // 파일 구조가 깨진 경우 이미 저장한 청크는 유지하고 거기서 멈춘다
+            log.warn("이슈 가져오기 중 파일 읽기 실패: projectId={}, row={}", projectId, job.total + 1, e);
+            job.fail(job.total + 1, "파일을 더 읽을 수 없습니다: " + e.getMessage());
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(job, chunk);
+        }
+
+        if (job.imported > 0) {
+            // 많은 카드가 한꺼번에 들어왔으므로 보드 구독자는 전체를 다시 받게 한다.
+            // 청크마다 보내면 가져오는 도중 상태→칼럼 인덱스와 보드 읽기 모델이 계속 비워지므로 끝난 뒤 한 번만 보낸다.
+            eventPublisher.publishEvent(BoardChangedEvent.boardReset(projectId));
+            activityLogService.recordActivity(ActivityLogRequestDTO.builder()
+                .userId(importer.getId())
+                .type(ActivityType.ISSUE_CREATE)
+                .title("이슈 일괄 가져오기")
+                .content(String.format("%d건 가져옴, %d건 실패", job.imported, job.failed))
+                .projectId(projectId)
+                .targetPage("/projects/" + projectId + "/issues")
+                .build());
+        }
+        log.info("이슈 가져오기 완료: projectId={}, total={}, imported={}, failed={}",
+            projectId, job.total, job.imported, job.failed);
+        return new IssueImportResult(projectId, job.total, job.imported, job.failed,
+            job.errors, job.failed > job.errors.size());
+    }
+
+    // DB 없이 확인할 수 있는 것만 검증 (사용자는 청크 단위로 조회)
+    private Pending validate(Import job, long rowNumber, IssueImportRow row) throws RowException {
+        if (row.getTitle() == null || row.getTitle().isBlank()) {
+            throw new RowException("제목은 필수입니다.");
+        }
+        String normalizedStatus = row.getStatus() == null || row.getStatus().isBlank() ? "TODO"
+            : row.getStatus().trim().replace(" ", "_").toUpperCase(Locale.ROOT);
+        IssueStatus status;
+        try {
+            status = IssueStatus.valueOf(normalizedStatus);
+        } catch (IllegalArgumentException e) {
+            throw new RowException("status는 TODO, IN_PROGRESS, DONE, HOLD만 가능합니다.");
+        }
+        LocalDateTime endDate = parseDate(row.getEndDate(), "endDate");
+        if (endDate == null) {
+            throw new RowException("마감일(종료일)은 필수입니다.");
+        }
+        LocalDateTime startDate = parseDate(row.getStartDate(), "startDate");
+
+        Long columnId = row.getColumnId();
+        if (columnId == null) {
+            columnId = statusColumnIndex.columnFor(job.projectId, status)
+                .map(StatusColumnIndex.ColumnRef::id)
+                .orElseThrow(() -> new RowException("상태에 해당하는 칼럼을 찾을 수 없습니다: " + normalizedStatus));
+        } else if (!job.columnIds.contains(columnId)) {
+            throw new RowException("컬럼을 찾을 수 없습니다: " + columnId);
+        }
+        return new Pending(rowNumber, row, status, columnId, startDate, endDate);
+    }
+
+    private void saveChunk(Import job, List<Pending> chunk) {
+        try {
+            ChunkResult result = transactionTemplate.execute(tx -> {
+                List<IssueImportResult.RowError> rowErrors = new ArrayList<>();
+                resolveUsers(job, chunk);
+                Project project = entityManager.getReference(Project.class, job.projectId);
+                User importer = entityManager.getReference(User.class, job.importer.getId());
+                int count = 0;
+                for (Pending pending : chunk) {
+                    IssueImportRow row = pending.source();
+                    User reporter = importer;
+                    if (row.getReporterId() != null && !row.getReporterId().isBlank()) {
+                        Long reporterId = job.users.get(row.getReporterId());
+                        if (reporterId == null) {
+                            rowErrors.add(new IssueImportResult.RowError(pending.row(), "생성자를 찾을 수 없습니다: " + row.getReporterId()));
+                            continue;
+                        }
+                        reporter = entityManager.getReference(User.class, reporterId);
+                    }
+                    User assignee = null;
+                    if (row.getAssigneeId() != null && !row.getAssigneeId().isBlank()) {
+                        Long assigneeId = job.users.get(row.getAssigneeId());
+                        if (assigneeId == null) {
+                            rowErrors.add(new IssueImportResult.RowError(pending.row(), "담당자를 찾을 수 없습니다: " + row.getAssigneeId()));
+                            continue;
+                        }
+                        assignee = entityManager.getReference(User.class, assigneeId);
+                    }
+
+                    BoardColumn column = entityManager.getReference(BoardColumn.class, pending.columnId());
+                    // 칼럼 맨 뒤에 파일 순서대로 쌓는다
+                    String rankKey = RankKeys.after(job.lastRanks.computeIfAbsent(pending.columnId(),
+                        id -> issueRepository.findMaxRankKeyByColumn(column)));
+                    job.lastRanks.put(pending.columnId(), rankKey);
+
+                    Issue issue = Issue.builder()
+                        .project(project)
+                        .title(row.getTitle())
+                        .description(row.getDescription())
+                        .status(pending.status())
+                        .startDate(pending.startDate())
+                        .endDate(pending.endDate())
+                        .orderIndex(0)
+                        .column(column)
+                        .rankKey(rankKey)
+                        .reporter(reporter)
+                        .createdBy(reporter)
+                        .assignee(assignee)
+                        .createdAt(LocalDateTime.now())
+                        .build();
+                    entityManager.persist(issue);
+                    count++;
+                }
+                entityManager.flush();
+                entityManager.clear();
+                return new ChunkResult(count, rowErrors);
+            });
+            job.imported += result.saved();
+            result.errors().forEach(error -> job.fail(error.row(), error.message()));
+        } catch (Exception e) {
+            log.warn("이슈 가져오기 청크 저장 실패: projectId={}, rows={}~{}", job.projectId,
+                chunk.get(0).row(), chunk.get(chunk.size() - 1).row(), e);
+            // 청크 전체가 롤백되었으므로 순위 키는 다시 DB에서 읽는다
+            job.lastRanks.clear();
+            for (Pending pending : chunk) {
+                job.fail(pending.row(), "저장에 실패했습니다: " + e.getMessage());
+            }
+        }
+    }
+
+    // 청크에서 처음 보는 로그인 ID만 한 번에 조회해 캐시에 넣는다 (없는 ID는 null로 기억)
+    private void resolveUsers(Import job, List<Pending> chunk) {
+        Set<String> unknown = new HashSet<>();
+        for (Pending pending : chunk) {
+            addUnknown(job, unknown, pending.source().getReporterId());
+            addUnknown(job, unknown, pending.source().getAssigneeId());
+        }
+        if (unknown.isEmpty()) {
+            return;
+        }
+        for (String userId : unknown) {
+            job.users.put(userId, null);
+        }
+        for (Object[] row : userRepository.findIdsByUserIdIn(unknown)) {
+            job.users.put((String) row[1], (Long) row[0]);
+        }
+    }
+
+    private static void addUnknown(Import job, Set<String> unknown, String userId) {
+        if (userId != null && !userId.isBlank() && !job.users.containsKey(userId)) {
+            unknown.add(userId);
+        }
+    }
+
+    private RowSource csvSource(BufferedReader reader) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader, maxRecordChars);
+        List<String> header = csv.next();
+        if (header == null) {
+            return () -> null;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+        if (!columns.containsKey("title")) {
+            throw new CustomException("CSV 헤더에 title 칼럼이 필요합니다.");
+        }
+        return () -> {
+            List<String> record = csv.next();
+            // 빈 줄은 건너뛴다
+            while (record != null && record.size() == 1 && record.get(0).isBlank()) {
+                record = csv.next();
+            }
+            if (record == null) {
+                return null;
+            }
+            IssueImportRow row = new IssueImportRow();
+            row.setTitle(field(record, columns, "title"));
+            row.setDescription(field(record, columns, "description"));
+            row.setStatus(field(record, columns, "status"));
+            row.setAssigneeId(field(record, columns, "assigneeId"));
+            row.setReporterId(field(record, columns, "reporterId"));
+            row.setStartDate(field(record, columns, "startDate"));
+            row.setEndDate(field(record, columns, "endDate"));
+            String columnId = field(record, columns, "columnId");
+            if (columnId != null) {
+                try {
+                    row.setColumnId(Long.parseLong(columnId.trim()));
+                } catch (NumberFormatException e) {
+                    throw new RowException("columnId가 숫자가 아닙니다: " + columnId);
+                }
+            }
+            return row;
+        };
+    }
+
+    private RowSource ndjsonSource(BufferedReader reader) {
+        return () -> {
+            String line = reader.readLine();
+            while (line != null && line.isBlank()) {
+                line = reader.readLine();
+            }
+            if (line == null) {
+                return null;
+            }
+            if (line.length() > maxRecordChars) {
+                throw new RowException("행이 너무 깁니다 (최대 " + maxRecordChars + "자)");
+            }
+            try {
+                return objectMapper.readValue(line, IssueImportRow.class);
+            } catch (JsonProcessingException e) {
+                throw new RowException("JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+            }
+        };
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static LocalDateTime parseDate(String value, String name) throws RowException {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String text = value.trim();
+        try {
+            return text.length() <= 10 ? LocalDate.parse(text).atStartOfDay() : LocalDateTime.parse(text);
+        } catch (DateTimeParseException e) {
+            throw new RowException(name + " 날짜 형식이 올바르지 않습니다: " + text);
+        }
+    }
+
+    // 가져오기 한 번의 진행 상태 (요청 스레드 하나만 사용)
+    private final class Import {
+        private final Long projectId;
+        private final User importer;
+        private final Set<Long> columnIds = new HashSet<>();
+        private final Map<Long, String> lastRanks = new HashMap<>();
+        private final LinkedHashMap<String, Long> users = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > MAX_CACHED_USERS;
+            }
+        };
+        private final List<IssueImportResult.RowError> errors = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long failed;
+
+        private Import(Long projectId, User importer) {
+            this.projectId = projectId;
+            this.importer = importer;
+        }
+
+        private void fail(long row, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new IssueImportResult.RowError(row, message));
+            }
+        }
+    }
+}
@@ -6,15 +6,18 @@ import com.example.softwareengineering.dto.IssueResponse;
 import com.example.softwareengineering.dto.AttachmentResponse;
 import com.example.softwareengineering.dto.IssueOrderUpdateRequest;
 import com.example.softwareengineering.dto.ActivityLogRequestDTO;
+import com.example.softwareengineering.dto.BoardOrderRow;
 import com.example.softwareengineering.entity.*;
+import com.example.softwareengineering.event.BoardChangedEvent;
 import com.example.softwareengineering.exception.CustomException;
 import com.example.softwareengineering.repository.IssueRepository;
 import com.example.softwareengineering.repository.ProjectRepository;
 import com.example.softwareengineering.repository.UserRepository;
 import com.example.softwareengineering.repository.BoardColumnRepository;
-import com.example.softwareengineering.repository.ProjectMemberRepository;
-import com.example.softwareengineering.repository.SiteMemberRepository;
+import com.example.softwareengineering.repository.CustomIssueStatusRepository;
 import com.example.softwareengineering.repository.UserIssueOrderRepository;
+import com.example.softwareengineering.repository.UserIssueOrderBatchRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +27,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -33,48 +40,46 @@ public class IssueService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final BoardColumnRepository columnRepository;
-    private final ProjectMemberRepository projectMemberRepository;
-    private final SiteMemberRepository siteMemberRepository;
+    private final CustomIssueStatusRepository customIssueStatusRepository;
     private final ProjectService projectService;
     private final ActivityLogService activityLogService;
     private final UserIssueOrderRepository userIssueOrderRepository;
+    private final UserIssueOrderBatchRepository userIssueOrderBatchRepository;
+    private final PermissionService permissionService;
+    private final StatusColumnIndex statusColumnIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     public IssueService(
             IssueRepository issueRepository,
             ProjectRepository projectRepository,
             UserRepository userRepository,
             BoardColumnRepository columnRepository,
-            ProjectMemberRepository projectMemberRepository,
-            SiteMemberRepository siteMemberRepository,
+            CustomIssueStatusRepository customIssueStatusRepository,
             ProjectService projectService,
             ActivityLogService activityLogService,
-            UserIssueOrderRepository userIssueOrderRepository) {
+            UserIssueOrderRepository userIssueOrderRepository,
+            UserIssueOrderBatchRepository userIssueOrderBatchRepository,
+            PermissionService permissionService,
+            StatusColumnIndex statusColumnIndex,
+            ApplicationEventPublisher eventPublisher) {
         this.issueRepository = issueRepository;
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
         this.columnRepository = columnRepository;
-        this.projectMemberRepository = projectMemberRepository;
-        this.siteMemberRepository = siteMemberRepository;
+        this.customIssueStatusRepository = customIssueStatusRepository;
         this.projectService = projectService;
         this.activityLogService = activityLogService;
         this.userIssueOrderRepository = userIssueOrderRepository;
+        this.userIssueOrderBatchRepository = userIssueOrderBatchRepository;
+        this.permissionService = permissionService;
+        this.statusColumnIndex = statusColumnIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     // 권한 체크를 위한 새로운 메소드
     private boolean checkPermission(Project project, User user) {
-        // 1. 사이트 멤버 권한 확인
-        SiteMember siteMember = siteMemberRepository.findBySiteAndUser(project.getSite(), user)
-            .orElse(null);
-            
-        if (siteMember != null && siteMember.getRole() == MemberRole.ADMIN) {
-            return true;
-        }
-        
-        // 2. 프로젝트 멤버 권한 확인
-        ProjectMember projectMember = projectMemberRepository.findByProjectAndUser(project, user)
-            .orElse(null);
-            
-        return projectMember != null && (projectMember.getRole() == MemberRole.PM || projectMember.getRole() == MemberRole.ADMIN);
+        // 사이트 ADMIN 또는 프로젝트 PM/ADMIN (캐시된 역할로 판단)
+        return permissionService.canManageProject(project, user.getId());
     }
 
     // 이슈 생성 (프로젝트 관리자만)
@@ -137,6 +142,7 @@ public class IssueService {
             int orderIdx = request.getOrder() != null ? request.getOrder() : 0;
             issue.setOrderIndex(orderIdx);
             issue.setColumn(column);   // 컬럼 설정
+            issue.setRankKey(RankKeys.after(issueRepository.findMaxRankKeyByColumn(column))); // 칼럼 맨 뒤
             issue.setReporter(reporterUser);  // 보고자 설정
             issue.setCreatedBy(reporterUser); // 생성자 설정
 
@@ -150,7 +156,7 @@ public class IssueService {
             Issue savedIssue = issueRepository.save(issue);
             
             // 활동 내역 저장
-            activityLogService.createActivityLog(ActivityLogRequestDTO.builder()
+            activityLogService.recordActivity(ActivityLogRequestDTO.builder()
                 .userId(reporterUser.getId())
                 .type(ActivityType.ISSUE_CREATE)
                 .title(savedIssue.getTitle())
@@ -158,6 +164,7 @@ public class IssueService {
                 .issueId(savedIssue.getId())
                 .targetPage("/projects/" + project.getId() + "/issues/" + savedIssue.getId())
                 .build());
+            eventPublisher.publishEvent(BoardChangedEvent.issueCreated(project.getId(), savedIssue.getId()));
             
             return toResponse(savedIssue);
         } catch (CustomException e) {
@@ -171,41 +178,13 @@ public class IssueService {
     public List<IssueResponse> getIssuesByProject(Long projectId) {
         Project project = projectRepository.findById(projectId)
             .orElseThrow(() -> new CustomException("프로젝트 없음"));
-            
-        // 현재 로그인한 사용자 정보 가져오기
+
+        // 현재 로그인한 사용자 정보 가져오기 (순서를 바꾼 적이 없으면 기본 순서)
         String userId = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByUserId(userId)
-            .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다."));
-            
-        // 프로젝트의 모든 이슈 가져오기
-        List<Issue> issues = issueRepository.findByProjectAndIsActiveTrue(project);
-        
-        // 사용자별 순서 정보 가져오기
-        List<UserIssueOrder> userOrders = userIssueOrderRepository.findByUserIdAndProjectOrderByOrderIndexAsc(userId, project);
-        
-        if (userOrders.isEmpty()) {
-            // 사용자별 순서가 없는 경우, 생성일자 순으로 정렬하여 새로운 순서 생성
-            int order = 0;
-            for (Issue issue : issues) {
-                UserIssueOrder userOrder = UserIssueOrder.builder()
-                    .user(user)
-                    .issue(issue)
-                    .project(project)
-                    .column(issue.getColumn())
-                    .orderIndex(order++)
-                    .build();
-                userIssueOrderRepository.save(userOrder);
-            }
-            // 새로 생성된 순서 조회
-            userOrders = userIssueOrderRepository.findByUserIdAndProjectOrderByOrderIndexAsc(userId, project);
-        }
-        
-        // 사용자별 순서대로 이슈 목록 생성
-        final List<UserIssueOrder> finalUserOrders = userOrders;
-        issues = finalUserOrders.stream()
-            .map(UserIssueOrder::getIssue)
-            .collect(Collectors.toList());
-            
+
+        // 프로젝트의 모든 이슈를 사용자 순서대로 정렬 (조회만 하고 순서 행은 만들지 않는다)
+        List<Issue> issues = sortByUserOrder(issueRepository.findByProjectAndIsActiveTrue(project), project.getId(), userId);
+
         return issues.stream().map(this::toResponse).collect(Collectors.toList());
     }
 
@@ -232,6 +211,7 @@ public class IssueService {
 
         // 상태 변경 전의 상태 저장
         IssueStatus oldStatus = issue.getStatus();
+        Long oldColumnId = issue.getColumn() != null ? issue.getColumn().getId() : null;
         String oldTitle = issue.getTitle();
         
         // 이슈 정보 업데이트
@@ -246,82 +226,56 @@ public class IssueService {
             IssueStatus newStatus = IssueStatus.valueOf(normalizedStatus);
             if (oldStatus != newStatus) {  // 상태가 실제로 변경되었는지 확인
                 issue.setStatus(newStatus);
-                
-                // 상태에 맞는 칼럼 찾기
-                List<BoardColumn> columns = columnRepository.findByProjectAndIsActiveTrueOrderByOrderIndexAsc(issue.getProject());
-                BoardColumn targetColumn = null;
-                
-                // 상태 이름과 칼럼 이름 매칭
-                String statusName = normalizedStatus;
-                if (statusName.equals("TODO")) {
-                    statusName = "To Do";
-                } else if (statusName.equals("IN_PROGRESS")) {
-                    statusName = "In Progress";
-                } else if (statusName.equals("DONE")) {
-                    statusName = "Done";
-                } else if (statusName.equals("HOLD")) {
-                    statusName = "Hold";
-                }
-                
-                for (BoardColumn col : columns) {
-                    if (col.getTitle().equals(statusName)) {
-                        targetColumn = col;
-                        break;
-                    }
-                }
-                
-                if (targetColumn == null) {
-                    throw new CustomException("상태에 해당하는 칼럼을 찾을 수 없습니다: " + statusName);
-                }
-                
-                // 이전 칼럼 저장
-                BoardColumn oldColumn = issue.getColumn();
-                
-                // 칼럼 변경
-                issue.setColumn(targetColumn);
-                
-                // 이전 칼럼에서 해당 이슈의 순서 정보 삭제
-                List<UserIssueOrder> oldOrders = userIssueOrderRepository.findByIssueAndColumn(issue, oldColumn);
-                userIssueOrderRepository.deleteAll(oldOrders);
-                
-                // 새로운 칼럼에 모든 사용자의 이슈 순서 정보 추가
-                List<ProjectMember> projectMembers = projectMemberRepository.findByProject(issue.getProject());
-                for (ProjectMember member : projectMembers) {
-                    // 해당 사용자의 새 칼럼에서의 마지막 순서 찾기
-                    List<UserIssueOrder> userOrders = userIssueOrderRepository.findByUserIdAndColumnOrderByOrderIndexDesc(
-                        member.getUser().getUserId(), 
-                        targetColumn
-                    );
-                    int newOrderIndex = userOrders.isEmpty() ? 0 : userOrders.get(0).getOrderIndex() + 1;
-                    
-                    // 새로운 순서 정보 생성
-                    UserIssueOrder newOrder = UserIssueOrder.builder()
-                        .user(member.getUser())
-                        .issue(issue)
-                        .project(issue.getProject())
-                        .column(targetColumn)
-                        .orderIndex(newOrderIndex)
-                        .createdAt(LocalDateTime.now())
-                        .updatedAt(LocalDateTime.now())
-                        .build();
-                    userIssueOrderRepository.save(newOrder);
-                }
-                
+                Long projectId = issue.getProject().getId();
+
+                // 상태에 맞는 칼럼 찾기 (프로젝트별 상태→칼럼 인덱스, 쿼리 없음)
+                StatusColumnIndex.ColumnRef target = statusColumnIndex.columnFor(projectId, newStatus)
+                    .orElseThrow(() -> new CustomException("상태에 해당하는 칼럼을 찾을 수 없습니다: " + newStatus));
+                String oldColumnTitle = oldColumnId == null ? null : statusColumnIndex.column(projectId, oldColumnId)
+                    .map(StatusColumnIndex.ColumnRef::title)
+                    .orElseGet(() -> issue.getColumn().getTitle());
+
+                moveToColumn(issue, target);
+
                 // 활동 내역 저장
-                activityLogService.createActivityLog(ActivityLogRequestDTO.builder()
+                activityLogService.recordActivity(ActivityLogRequestDTO.builder()
                     .userId(userId)
                     .type(ActivityType.ISSUE_STATUS_CHANGE)
                     .title(issue.getTitle())
                     .content(String.format("상태 변경: %s → %s, 칼럼 변경: %s → %s", 
                         oldStatus, newStatus, 
-                        oldColumn.getTitle(), targetColumn.getTitle()))
-                    .projectId(issue.getProject().getId())
+                        oldColumnTitle, target.title()))
+                    .projectId(projectId)
                     .issueId(issue.getId())
                     .statusChange(oldStatus + " -> " + newStatus)
-                    .targetPage("/projects/" + issue.getProject().getId() + "/issues/" + issue.getId())
+                    .targetPage("/projects/" + projectId + "/issues/" + issue.getId())
                     .build());
             }
         }
+        // 커스텀 상태 변경: 상태에 연결된 칼럼이 있으면 그 칼럼으로 이동 (인덱스 조회, 쿼리 없음)
+        CustomIssueStatus oldCustomStatus = issue.getCustomStatus();
+        if (request.getCustomStatusId() != null
+                && (oldCustomStatus == null || !request.getCustomStatusId().equals(oldCustomStatus.getId()))) {
+            Long projectId = issue.getProject().getId();
+            CustomIssueStatus newCustomStatus = customIssueStatusRepository.findById(request.getCustomStatusId())
+                .filter(status -> status.getProject().getId().equals(projectId) && Boolean.TRUE.equals(status.getIsActive()))
+                .orElseThrow(() -> new CustomException("커스텀 상태를 찾을 수 없습니다."));
+            issue.setCustomStatus(newCustomStatus);
+            statusColumnIndex.columnForCustomStatus(projectId, newCustomStatus.getId())
+                .ifPresent(target -> moveToColumn(issue, target));
+
+            String oldName = oldCustomStatus != null ? oldCustomStatus.getName() : String.valueOf(issue.getStatus());
+            activityLogService.recordActivity(ActivityLogRequestDTO.builder()
+                .userId(userId)
+                .type(ActivityType.ISSUE_STATUS_CHANGE)
+                .title(issue.getTitle())
+                .content(String.format("상태 변경: %s → %s", oldName, newCustomStatus.getName()))
+                .projectId(projectId)
+                .issueId(issue.getId())
+                .statusChange(oldName + " -> " + newCustomStatus.getName())
+                .targetPage("/projects/" + projectId + "/issues/" + issue.getId())
+                .build());
+        }
         if (request.getStartDate() != null) {
             issue.setStartDate(request.getStartDate());
         }
@@ -334,7 +288,7 @@ public class IssueService {
         
         // 제목이 변경된 경우
         if (request.getTitle() != null && !oldTitle.equals(issue.getTitle())) {
-            activityLogService.createActivityLog(ActivityLogRequestDTO.builder()
+            activityLogService.recordActivity(ActivityLogRequestDTO.builder()
                 .userId(userId)
                 .type(ActivityType.ISSUE_UPDATE)
                 .title(issue.getTitle())
@@ -354,10 +308,29 @@ public class IssueService {
         
         issue.setUpdatedBy(user);
         Issue saved = issueRepository.save(issue);
+        boolean moved = saved.getColumn() != null && !saved.getColumn().getId().equals(oldColumnId);
+        eventPublisher.publishEvent(moved
+            ? BoardChangedEvent.issueMoved(saved.getProject().getId(), saved.getId())
+            : BoardChangedEvent.issueSaved(saved.getProject().getId(), saved.getId()));
 
         return toResponse(saved);
     }
 
+    // 칼럼 이동: 이슈 한 행만 갱신하고, 사용자별 오버라이드는 모두 지워 새 칼럼의 기본 순서를 따르게 함
+    private void moveToColumn(Issue issue, StatusColumnIndex.ColumnRef target) {
+        if (issue.getColumn() != null && target.id().equals(issue.getColumn().getId())) {
+            return;
+        }
+        BoardColumn targetColumn = columnRepository.getReferenceById(target.id());
+
+        // 새 칼럼 맨 뒤 순위 키 (이슈를 옮기기 전에 조회해야 자기 자신이 포함되지 않음)
+        String newRankKey = RankKeys.after(issueRepository.findMaxRankKeyByColumn(targetColumn));
+
+        issue.setColumn(targetColumn);
+        issue.setRankKey(newRankKey);
+        userIssueOrderRepository.deleteOverridesByIssueId(issue.getId());
+    }
+
     // 이슈 삭제 (담당자, ADMIN, PM 가능)
     @Transactional
     public void deleteIssue(Long issueId, Long userId) {
@@ -384,6 +357,7 @@ public class IssueService {
         issue.getAttachments().clear();
 
         issueRepository.delete(issue);
+        eventPublisher.publishEvent(BoardChangedEvent.issueDeleted(issue.getProject().getId(), issueId));
     }
 
     // 이슈 우선순위 일괄 변경
@@ -393,9 +367,24 @@ public class IssueService {
             throw new CustomException("업데이트할 이슈 목록이 비어있습니다.");
         }
 
+        // 요청한 이슈를 한 번에 조회 (같은 이슈가 여러 번 오면 마지막 순서를 따른다)
+        Map<Long, IssueOrderUpdateRequest> requestsByIssueId = new LinkedHashMap<>();
+        for (IssueOrderUpdateRequest req : orderList) {
+            if (req.getIssueId() == null) {
+                throw new CustomException("이슈를 찾을 수 없습니다.");
+            }
+            requestsByIssueId.put(req.getIssueId(), req);
+        }
+        Map<Long, Issue> issuesById = new HashMap<>();
+        for (Issue issue : issueRepository.findAllWithProjectAndColumnByIdIn(requestsByIssueId.keySet())) {
+            issuesById.put(issue.getId(), issue);
+        }
+        if (issuesById.size() != requestsByIssueId.size()) {
+            throw new CustomException("이슈를 찾을 수 없습니다.");
+        }
+
         // 첫 번째 이슈로 프로젝트 정보 가져오기
-        Issue firstIssue = issueRepository.findById(orderList.get(0).getIssueId())
-            .orElseThrow(() -> new CustomException("이슈를 찾을 수 없습니다."));
+        Issue firstIssue = issuesById.get(orderList.get(0).getIssueId());
         Project project = firstIssue.getProject();
 
         // 사용자 찾기
@@ -403,17 +392,17 @@ public class IssueService {
             .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다."));
 
         // 프로젝트 멤버인지 확인
-        ProjectMember projectMember = projectMemberRepository.findByProjectAndUser(project, user)
+        MemberRole projectRole = permissionService.getProjectRole(project.getId(), user.getId())
             .orElseThrow(() -> new CustomException("프로젝트 멤버가 아닙니다."));
 
         // 모든 이슈가 같은 칼럼에 속하는지 확인
         BoardColumn firstColumn = firstIssue.getColumn();
         boolean isSameColumn = true;
-        
-        for (IssueOrderUpdateRequest req : orderList) {
-            Issue issue = issueRepository.findById(req.getIssueId())
-                .orElseThrow(() -> new CustomException("이슈를 찾을 수 없습니다."));
-            
+        boolean isAssignee = false;
+
+        for (IssueOrderUpdateRequest req : requestsByIssueId.values()) {
+            Issue issue = issuesById.get(req.getIssueId());
+
             // 같은 프로젝트 체크
             if (!issue.getProject().getId().equals(project.getId())) {
                 throw new CustomException("서로 다른 프로젝트의 이슈는 함께 순서를 변경할 수 없습니다.");
@@ -424,10 +413,14 @@ public class IssueService {
                 isSameColumn = false;
             }
 
-            // order_index 값이 음수인 경우 예외 처리
-            if (req.getOrder() < 0) {
+            // order_index 값이 없거나 음수인 경우 예외 처리
+            if (req.getOrder() == null || req.getOrder() < 0) {
                 throw new CustomException("순서 값은 0 이상이어야 합니다.");
             }
+
+            if (issue.getAssignee() != null && issue.getAssignee().getId().equals(userId)) {
+                isAssignee = true;
+            }
         }
 
         // 다른 칼럼으로 이동하는 경우 추가 권한 체크
@@ -435,27 +428,20 @@ public class IssueService {
             boolean hasPermission = false;
 
             // 1. 사이트 ADMIN 권한 체크
-            SiteMember siteMember = siteMemberRepository.findBySiteAndUser(project.getSite(), user)
+            MemberRole siteRole = permissionService.getSiteRole(project.getSite().getId(), user.getId())
                 .orElseThrow(() -> new CustomException("사이트 멤버가 아닙니다."));
-            if (siteMember.getRole() == MemberRole.ADMIN) {
+            if (siteRole == MemberRole.ADMIN) {
                 hasPermission = true;
             }
 
             // 2. 프로젝트 PM 또는 ADMIN 권한 체크
-            if (!hasPermission && (projectMember.getRole() == MemberRole.PM || projectMember.getRole() == MemberRole.ADMIN)) {
+            if (!hasPermission && (projectRole == MemberRole.PM || projectRole == MemberRole.ADMIN)) {
                 hasPermission = true;
             }
 
             // 3. 이슈 담당자 체크
-            if (!hasPermission) {
-                for (IssueOrderUpdateRequest req : orderList) {
-                    Issue issue = issueRepository.findById(req.getIssueId())
-                        .orElseThrow(() -> new CustomException("이슈를 찾을 수 없습니다."));
-                    if (issue.getAssignee() != null && issue.getAssignee().getId().equals(userId)) {
-                        hasPermission = true;
-                        break;
-                    }
-                }
+            if (!hasPermission && isAssignee) {
+                hasPermission = true;
             }
 
             if (!hasPermission) {
@@ -463,34 +449,75 @@ public class IssueService {
             }
         }
 
-        // 이슈 순서 업데이트
-        for (IssueOrderUpdateRequest req : orderList) {
-            Issue issue = issueRepository.findById(req.getIssueId())
-                .orElseThrow(() -> new CustomException("이슈를 찾을 수 없습니다."));
-            
-            try {
-                // 사용자별 순서만 업데이트 (userId로 조회)
-                UserIssueOrder userOrder = userIssueOrderRepository.findByUserIdAndIssueAndColumn(user.getUserId(), issue, issue.getColumn())
-                        .orElse(new UserIssueOrder());
-
-                // 새로운 UserIssueOrder인 경우
-                if (userOrder.getId() == null) {
-                    userOrder.setUser(user);
-                    userOrder.setIssue(issue);
-                    userOrder.setProject(project);
-                    userOrder.setColumn(issue.getColumn());
-                    userOrder.setCreatedAt(LocalDateTime.now());
+        // 사용자의 기존 순서 행도 한 번에 조회
+        Map<Long, UserIssueOrder> overridesByIssueId = new HashMap<>();
+        for (UserIssueOrder userOrder : userIssueOrderRepository.findByUserIdAndIssueIdIn(user.getId(), requestsByIssueId.keySet())) {
+            overridesByIssueId.put(userOrder.getIssue().getId(), userOrder);
+        }
+
+        // 이슈 순서 업데이트: 칼럼별로 요청한 순서를 만들기 위해 키를 바꿔야 하는 이슈에만 사용자 순위 키를 남긴다
+        Map<Long, List<IssueOrderUpdateRequest>> requestsByColumn = new LinkedHashMap<>();
+        for (IssueOrderUpdateRequest req : requestsByIssueId.values()) {
+            Issue issue = issuesById.get(req.getIssueId());
+            requestsByColumn.computeIfAbsent(issue.getColumn().getId(), id -> new ArrayList<>()).add(req);
+        }
+
+        List<UserIssueOrderBatchRepository.Row> rows = new ArrayList<>();
+        List<BoardOrderRow> changedOrders = new ArrayList<>(requestsByIssueId.size());
+        for (Map.Entry<Long, List<IssueOrderUpdateRequest>> entry : requestsByColumn.entrySet()) {
+            Long columnId = entry.getKey();
+            List<IssueOrderUpdateRequest> requests = entry.getValue();
+            requests.sort(Comparator.comparingInt(IssueOrderUpdateRequest::getOrder));
+            int size = requests.size();
+            Issue[] issues = new Issue[size];
+            UserIssueOrder[] overrides = new UserIssueOrder[size];
+            String[] ranks = new String[size];
+            for (int i = 0; i < size; i++) {
+                issues[i] = issuesById.get(requests.get(i).getIssueId());
+                overrides[i] = overridesByIssueId.get(issues[i].getId());
+                // 다른 칼럼에 남은 오래된 행의 키는 이 칼럼 순서와 무관하다
+                boolean sameColumn = overrides[i] != null && overrides[i].getColumn().getId().equals(columnId);
+                ranks[i] = sameColumn && overrides[i].getRankKey() != null
+                    ? overrides[i].getRankKey() : issues[i].getRankKey();
+            }
+
+            // 이미 요청 순서대로 놓인 가장 긴 부분열은 그대로 두고, 나머지만 앞뒤 키 사이의 새 키를 받는다
+            boolean[] keep = RankKeys.keepIncreasing(ranks);
+            String previous = null;
+            int i = 0;
+            while (i < size) {
+                if (keep[i]) {
+                    previous = ranks[i];
+                    i++;
+                    continue;
+                }
+                // 유지되는 두 키 사이에 연속으로 들어갈 이슈들을 한꺼번에 나눠 넣는다
+                int end = i;
+                while (end < size && !keep[end]) {
+                    end++;
+                }
+                String next = end < size ? ranks[end] : null;
+                String[] rankKeys = end - i > 1 ? RankKeys.between(previous, next, end - i)
+                    : new String[]{next == null ? RankKeys.after(previous)
+                        : previous == null ? RankKeys.before(next)
+                        : RankKeys.between(previous, next)};
+
+                for (int k = 0; k < rankKeys.length; k++, i++) {
+                    Long issueId = issues[i].getId();
+                    rows.add(new UserIssueOrderBatchRepository.Row(overrides[i] != null ? overrides[i].getId() : null,
+                        user.getId(), issueId, project.getId(), columnId, requests.get(i).getOrder(), rankKeys[k]));
+                    changedOrders.add(new BoardOrderRow(issueId, columnId, rankKeys[k]));
                 }
-            
-                userOrder.setOrderIndex(req.getOrder());
-                userOrder.setUpdatedAt(LocalDateTime.now());
-                
-                userIssueOrderRepository.save(userOrder);
-            } catch (Exception e) {
-                log.error("이슈 순서 업데이트 중 오류 발생: {}", e.getMessage(), e);
-                throw new CustomException("이슈 순서 업데이트에 실패했습니다: " + e.getMessage());
             }
         }
+
+        try {
+            userIssueOrderBatchRepository.saveAll(rows);
+        } catch (Exception e) {
+            log.error("이슈 순서 업데이트 중 오류 발생: {}", e.getMessage(), e);
+            throw new CustomException("이슈 순서 업데이트에 실패했습니다: " + e.getMessage());
+        }
+        eventPublisher.publishEvent(BoardChangedEvent.ordersChanged(project.getId(), user.getUserId(), changedOrders));
     }
 
     // 이슈 목록 조회 시 사용자별 순서 적용
@@ -500,32 +527,26 @@ public class IssueService {
         BoardColumn column = columnRepository.findById(columnId)
             .orElseThrow(() -> new CustomException("칼럼을 찾을 수 없습니다."));
 
-        // 사용자별 순서 정보 조회 (userId로 조회)
-        List<UserIssueOrder> userOrders = userIssueOrderRepository.findByUserIdAndColumnOrderByOrderIndexAsc(user.getUserId(), column);
-        
-        if (userOrders.isEmpty()) {
-            // 사용자별 순서가 없는 경우, 생성일자 순으로 정렬하여 새로운 순서 생성
-            List<Issue> issues = issueRepository.findByColumnAndIsActiveTrueOrderByCreatedAtAsc(column);
-            int order = 0;
-            for (Issue issue : issues) {
-                UserIssueOrder userOrder = new UserIssueOrder();
-                userOrder.setUser(user);
-                userOrder.setIssue(issue);
-                userOrder.setProject(issue.getProject());
-                userOrder.setColumn(column);
-                userOrder.setOrderIndex(order++);
-                userOrder.setCreatedAt(LocalDateTime.now());
-                userOrder.setUpdatedAt(LocalDateTime.now());
-                userIssueOrderRepository.save(userOrder);
-            }
-            // 새로 생성된 순서 조회
-            userOrders = userIssueOrderRepository.findByUserIdAndColumnOrderByOrderIndexAsc(user.getUserId(), column);
-        }
+        return sortByUserOrder(issueRepository.findByColumnAndIsActiveTrue(column), column.getProject().getId(), user.getUserId());
+    }
 
-        // 사용자별 순서 반환
-        return userOrders.stream()
-            .map(UserIssueOrder::getIssue)
-            .collect(Collectors.toList());
+    // 칼럼별로 사용자 순위 키(같은 칼럼일 때만) → 이슈 기본 순위 키 → 이슈 ID 순. 보드 읽기 모델과 같은 규칙이다.
+    private List<Issue> sortByUserOrder(List<Issue> issues, Long projectId, String userId) {
+        Map<Long, BoardOrderRow> overrides = new HashMap<>();
+        for (BoardOrderRow row : userIssueOrderRepository.findBoardOrderRows(projectId, userId)) {
+            overrides.put(row.issueId(), row);
+        }
+        Map<Long, String> ranks = new HashMap<>(issues.size() * 2);
+        for (Issue issue : issues) {
+            BoardOrderRow override = overrides.get(issue.getId());
+            boolean sameColumn = override != null && override.columnId().equals(issue.getColumn().getId());
+            ranks.put(issue.getId(), sameColumn ? override.rankKey() : issue.getRankKey());
+        }
+        List<Issue> sorted = new ArrayList<>(issues);
+        sorted.sort(Comparator.comparing((Issue issue) -> issue.getColumn().getId())
+            .thenComparing(issue -> ranks.get(issue.getId()), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Issue::getId));
+        return sorted;
     }
 
     private IssueResponse toResponse(Issue issue) {
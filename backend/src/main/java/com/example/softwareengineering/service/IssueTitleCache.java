@@ -0,0 +1,78 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.cache.TtlLruCache;
+import com.example.softwareengineering.event.BoardChangedEvent;
+import com.example.softwareengineering.repository.IssueRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 활동 내역 피드에 붙는 이슈 제목 캐시.
+ * 한 페이지의 이슈 ID를 모아 캐시에 없는 것만 한 번의 쿼리로 읽고,
+ * 이슈가 수정/이동/삭제되어 커밋되면 해당 이슈만, 보드 전체가 바뀌면(BOARD_RESET) 모두 제거한다.
+ * 조회와 제거가 겹치면 읽은 제목은 캐시에 넣지 않는다 (TtlLruCache.getAllOrLoad).
+ */
+@Service
+@RequiredArgsConstructor
+public class IssueTitleCache {
+    // IN 절 하나에 넣을 최대 ID 수
+    private static final int MAX_IDS_PER_QUERY = 1000;
+
+    private final IssueRepository issueRepository;
+
+    @Value("${activity.issue-title-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${activity.issue-title-cache.ttl-ms:600000}")
+    private long ttlMs;
+
+    private TtlLruCache<Long, String> titles;
+
+    @PostConstruct
+    public void init() {
+        this.titles = new TtlLruCache<>(maxSize, ttlMs);
+    }
+
+    // 이슈 ID → 제목 (없는 이슈는 결과에 빠진다)
+    public Map<Long, String> titles(Collection<Long> issueIds) {
+        return titles.getAllOrLoad(issueIds, this::load);
+    }
+
+    private Map<Long, String> load(Set<Long> missing) {
+        Map<Long, String> loaded = new HashMap<>();
+        List<Long> ids = new ArrayList<>(missing);
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_QUERY) {
+            List<Long> chunk = ids.subList(from, Math.min(from + MAX_IDS_PER_QUERY, ids.size()));
+            for (Object[] row : issueRepository.findTitlesByIdIn(chunk)) {
+                if (row[1] != null) {
+                    loaded.put((Long) row[0], (String) row[1]);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        // 일괄 가져오기 등 전체 다시 읽기: 어떤 이슈가 바뀌었는지 모르므로 모두 비운다 (드물게 발생)
+        if (event.type() == BoardChangedEvent.Type.BOARD_RESET) {
+            titles.clear();
+            return;
+        }
+        // 수정/이동/삭제 (새 이슈와 순서 변경은 캐시된 제목과 무관)
+        if (event.issueId() != null && event.type() != BoardChangedEvent.Type.ISSUE_CREATED) {
+            titles.remove(event.issueId());
+        }
+    }
+}
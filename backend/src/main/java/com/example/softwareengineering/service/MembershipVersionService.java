@@ -0,0 +1,81 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.entity.Site;
+import com.example.softwareengineering.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 멤버십 버전 관리.
+ * JWT에 담긴 역할 클레임이 아직 유효한지 메모리에서 판단하고,
+ * 사이트 멤버십이 바뀌면 버전을 올려 기존 토큰이 DB 조회로 돌아가도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MembershipVersionService {
+    private final UserRepository userRepository;
+    private final ConcurrentHashMap<Long, CachedVersion> versions = new ConcurrentHashMap<>();
+
+    // 다른 노드에서 올린 버전을 반영하기 위한 캐시 유지 시간
+    @Value("${jwt.membership-version.ttl-ms:30000}")
+    private long ttlMs;
+
+    private record CachedVersion(long version, long loadedAt) {}
+
+    public long getVersion(Long userId) {
+        long now = System.currentTimeMillis();
+        CachedVersion cached = versions.get(userId);
+        if (cached != null && now - cached.loadedAt() < ttlMs) {
+            return cached.version();
+        }
+        long version = userRepository.findMembershipVersionById(userId).orElse(-1L);
+        versions.put(userId, new CachedVersion(version, now));
+        return version;
+    }
+
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        return userId != null && getVersion(userId) == tokenVersion;
+    }
+
+    @Transactional
+    public void bump(Long userId) {
+        userRepository.incrementMembershipVersion(userId);
+        evictAfterCommit(userId);
+    }
+
+    // 사이트 삭제처럼 여러 멤버의 권한이 한 번에 바뀌는 경우
+    @Transactional
+    public void bumpSiteMembers(Site site) {
+        userRepository.incrementMembershipVersionBySite(site);
+        versions.clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    versions.clear();
+                }
+            });
+        }
+    }
+
+    private void evictAfterCommit(Long userId) {
+        versions.remove(userId);
+        // 커밋 전에 다른 요청이 이전 값을 다시 캐시했을 수 있으므로 커밋 후 한 번 더 제거
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    versions.remove(userId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.cache.TtlLruCache;
+import com.example.softwareengineering.entity.MemberRole;
+import com.example.softwareengineering.entity.Project;
+import com.example.softwareengineering.event.MembershipChangedEvent;
+import com.example.softwareengineering.repository.ProjectMemberRepository;
+import com.example.softwareengineering.repository.SiteMemberRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+/**
+ * 사이트/프로젝트 역할 조회 및 권한 판단.
+ * (사용자, 사이트), (사용자, 프로젝트) 역할을 메모리에 캐시하고
+ * 멤버십 변경 이벤트가 커밋되면 해당 항목만 제거한다.
+ * 커밋 전에 시작된 조회가 제거 뒤에 끝나도 그 결과는 캐시에 들어가지 않는다 (TtlLruCache.getOrLoad).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PermissionService {
+    private final SiteMemberRepository siteMemberRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+
+    @Value("${permission.cache.max-size:20000}")
+    private int maxSize;
+
+    @Value("${permission.cache.ttl-ms:300000}")
+    private long ttlMs;
+
+    private TtlLruCache<RoleKey, Optional<MemberRole>> roles;
+
+    private record RoleKey(MembershipChangedEvent.Scope scope, Long scopeId, Long userId) {}
+
+    @PostConstruct
+    public void init() {
+        this.roles = new TtlLruCache<>(maxSize, ttlMs);
+    }
+
+    public Optional<MemberRole> getSiteRole(Long siteId, Long userId) {
+        if (siteId == null || userId == null) {
+            return Optional.empty();
+        }
+        return roles.getOrLoad(new RoleKey(MembershipChangedEvent.Scope.SITE, siteId, userId),
+            key -> siteMemberRepository.findRoleBySiteIdAndUserId(siteId, userId));
+    }
+
+    public Optional<MemberRole> getProjectRole(Long projectId, Long userId) {
+        if (projectId == null || userId == null) {
+            return Optional.empty();
+        }
+        return roles.getOrLoad(new RoleKey(MembershipChangedEvent.Scope.PROJECT, projectId, userId),
+            key -> projectMemberRepository.findRoleByProjectIdAndUserId(projectId, userId));
+    }
+
+    public boolean isSiteAdmin(Long siteId, Long userId) {
+        return getSiteRole(siteId, userId).orElse(null) == MemberRole.ADMIN;
+    }
+
+    // 사이트 ADMIN 이거나 프로젝트 PM/ADMIN 인지
+    public boolean canManageProject(Project project, Long userId) {
+        if (isSiteAdmin(project.getSite().getId(), userId)) {
+            return true;
+        }
+        MemberRole projectRole = getProjectRole(project.getId(), userId).orElse(null);
+        return projectRole == MemberRole.PM || projectRole == MemberRole.ADMIN;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        if (event.userId() != null) {
+            roles.remove(new RoleKey(event.scope(), event.scopeId(), event.userId()));
+        } else {
+            roles.removeIf(key -> key.scope() == event.scope() && key.scopeId().equals(event.scopeId()));
+        }
+        log.debug("권한 캐시 무효화: {}", event);
+    }
+}
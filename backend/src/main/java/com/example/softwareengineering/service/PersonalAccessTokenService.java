@@ -0,0 +1,243 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.cache.TtlLruCache;
+import com.example.softwareengineering.entity.PersonalAccessToken;
+import com.example.softwareengineering.entity.TokenAccess;
+import com.example.softwareengineering.entity.TokenScope;
+import com.example.softwareengineering.entity.User;
+import com.example.softwareengineering.exception.CustomException;
+import com.example.softwareengineering.repository.PersonalAccessTokenRepository;
+import com.example.softwareengineering.repository.ProjectRepository;
+import com.example.softwareengineering.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 자동화 클라이언트(CI 봇 등)용 개인 API 토큰 관리.
+ * 토큰은 SHA-256 값으로만 저장하며, 인증 시에는 메모리의 해시→주체 맵에서 바로 찾아
+ * JWT 파싱과 사용자/사이트 멤버 조회를 거치지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PersonalAccessTokenService {
+    public static final String TOKEN_PREFIX = "pat_";
+
+    private static final Pattern SITE_PATH = Pattern.compile("^/api/sites/(\\d+)(/.*)?$");
+    private static final Pattern PROJECT_PATH = Pattern.compile("^/api/projects/(\\d+)(/.*)?$");
+
+    private final PersonalAccessTokenRepository tokenRepository;
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final PermissionService permissionService;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    // 프로젝트가 속한 사이트는 바뀌지 않으므로 만료 없이 보관
+    private final ConcurrentHashMap<Long, Long> projectSiteIds = new ConcurrentHashMap<>();
+
+    // 다른 서버에서 폐기한 토큰이 반영되는 최대 시간
+    @Value("${pat.principal-cache.ttl-ms:300000}")
+    private long principalTtlMs;
+
+    // 존재하지 않는 토큰으로 DB를 반복 조회하지 않도록 잠시 기억
+    @Value("${pat.unknown-cache.ttl-ms:60000}")
+    private long unknownTtlMs;
+
+    private TtlLruCache<String, TokenPrincipal> principals;
+    private TtlLruCache<String, Boolean> unknownHashes;
+
+    public record TokenPrincipal(Long tokenId, Long userId, String loginId,
+                                 TokenScope scope, Long scopeId, TokenAccess access,
+                                 LocalDateTime expiresAt) {}
+
+    public record CreatedToken(String token, PersonalAccessToken entity) {}
+
+    @PostConstruct
+    public void init() {
+        this.principals = new TtlLruCache<>(10000, principalTtlMs);
+        this.unknownHashes = new TtlLruCache<>(10000, unknownTtlMs);
+    }
+
+    @Transactional
+    public CreatedToken createToken(String loginId, String name, TokenScope scope, Long scopeId,
+                                    TokenAccess access, Integer expiresInDays) {
+        if (name == null || name.isBlank()) {
+            throw new CustomException("토큰 이름을 입력해주세요.");
+        }
+        if (scope == null || scopeId == null || access == null) {
+            throw new CustomException("토큰 범위와 권한을 지정해주세요.");
+        }
+        User user = userRepository.findByUserId(loginId)
+            .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다."));
+        if (!isMember(user.getId(), scope, scopeId)) {
+            throw new CustomException("해당 범위의 멤버만 토큰을 발급할 수 있습니다.");
+        }
+
+        byte[] random = new byte[32];
+        secureRandom.nextBytes(random);
+        String rawToken = TOKEN_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+
+        PersonalAccessToken token = PersonalAccessToken.builder()
+            .user(user)
+            .name(name)
+            .tokenHash(hash(rawToken))
+            .tokenPrefix(rawToken.substring(0, 8))
+            .scopeType(scope)
+            .scopeId(scopeId)
+            .access(access)
+            .createdAt(LocalDateTime.now())
+            .expiresAt(expiresInDays != null ? LocalDateTime.now().plusDays(expiresInDays) : null)
+            .build();
+        token = tokenRepository.save(token);
+
+        log.info("개인 API 토큰 발급: user={}, scope={}:{}, access={}", user.getId(), scope, scopeId, access);
+        return new CreatedToken(rawToken, token);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getTokens(String loginId) {
+        User user = userRepository.findByUserId(loginId)
+            .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다."));
+        return tokenRepository.findByUserOrderByCreatedAtDesc(user).stream()
+            .map(this::toMap)
+            .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public void revokeToken(String loginId, Long tokenId) {
+        PersonalAccessToken token = tokenRepository.findById(tokenId)
+            .orElseThrow(() -> new CustomException("토큰을 찾을 수 없습니다."));
+        if (!token.getUser().getUserId().equals(loginId)) {
+            throw new CustomException("본인의 토큰만 폐기할 수 있습니다.");
+        }
+        token.setRevoked(true);
+        tokenRepository.save(token);
+        principals.remove(token.getTokenHash());
+        log.info("개인 API 토큰 폐기: token={}", tokenId);
+    }
+
+    /**
+     * 토큰 원문으로 주체를 찾는다. 메모리에 없을 때만 DB를 한 번 조회한다.
+     * 폐기/만료되었거나 발급자가 더 이상 해당 범위의 멤버가 아니면 null.
+     */
+    public TokenPrincipal authenticate(String rawToken) {
+        if (rawToken == null || !rawToken.startsWith(TOKEN_PREFIX)) {
+            return null;
+        }
+        String tokenHash = hash(rawToken);
+        TokenPrincipal principal = principals.get(tokenHash);
+        if (principal == null) {
+            if (unknownHashes.get(tokenHash) != null) {
+                return null;
+            }
+            principal = tokenRepository.findActiveByTokenHash(tokenHash)
+                .map(token -> new TokenPrincipal(token.getId(), token.getUser().getId(), token.getUser().getUserId(),
+                    token.getScopeType(), token.getScopeId(), token.getAccess(), token.getExpiresAt()))
+                .orElse(null);
+            if (principal == null) {
+                unknownHashes.put(tokenHash, Boolean.TRUE);
+                return null;
+            }
+            principals.put(tokenHash, principal);
+        }
+
+        if (principal.expiresAt() != null && principal.expiresAt().isBefore(LocalDateTime.now())) {
+            principals.remove(tokenHash);
+            return null;
+        }
+        // 멤버십은 PermissionService 캐시로 확인 (탈퇴/사이트 삭제 시 즉시 무효)
+        if (!isMember(principal.userId(), principal.scope(), principal.scopeId())) {
+            return null;
+        }
+        return principal;
+    }
+
+    // 읽기 토큰은 조회 메서드만, 경로의 사이트/프로젝트가 토큰 범위 안에 있어야 허용
+    public boolean permits(TokenPrincipal principal, String method, String path) {
+        boolean readOnlyMethod = "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+        if (!readOnlyMethod && principal.access() != TokenAccess.WRITE) {
+            return false;
+        }
+
+        Matcher projectMatcher = PROJECT_PATH.matcher(path);
+        if (projectMatcher.matches()) {
+            Long projectId = Long.valueOf(projectMatcher.group(1));
+            if (principal.scope() == TokenScope.PROJECT) {
+                return principal.scopeId().equals(projectId);
+            }
+            Long siteId = getProjectSiteId(projectId);
+            return siteId != null && principal.scopeId().equals(siteId);
+        }
+
+        Matcher siteMatcher = SITE_PATH.matcher(path);
+        if (siteMatcher.matches()) {
+            return principal.scope() == TokenScope.SITE
+                && principal.scopeId().equals(Long.valueOf(siteMatcher.group(1)));
+        }
+
+        // 범위를 알 수 없는 경로(토큰 관리 등)는 허용하지 않음
+        return false;
+    }
+
+    private Long getProjectSiteId(Long projectId) {
+        Long siteId = projectSiteIds.get(projectId);
+        if (siteId == null) {
+            siteId = projectRepository.findSiteIdById(projectId).orElse(null);
+            if (siteId != null) {
+                projectSiteIds.put(projectId, siteId);
+            }
+        }
+        return siteId;
+    }
+
+    private boolean isMember(Long userId, TokenScope scope, Long scopeId) {
+        if (scope == TokenScope.SITE) {
+            return permissionService.getSiteRole(scopeId, userId).isPresent();
+        }
+        Long siteId = getProjectSiteId(scopeId);
+        return permissionService.getProjectRole(scopeId, userId).isPresent()
+            || (siteId != null && permissionService.isSiteAdmin(siteId, userId));
+    }
+
+    private Map<String, Object> toMap(PersonalAccessToken token) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", token.getId());
+        map.put("name", token.getName());
+        map.put("prefix", token.getTokenPrefix());
+        map.put("scope", token.getScopeType().name());
+        map.put("scopeId", token.getScopeId());
+        map.put("access", token.getAccess().name());
+        map.put("createdAt", token.getCreatedAt());
+        map.put("expiresAt", token.getExpiresAt());
+        map.put("revoked", token.isRevoked());
+        return map;
+    }
+
+    static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -3,16 +3,15 @@ package com.example.softwareengineering.service;
 import com.example.softwareengineering.dto.MembershipInviteRequest;
 import com.example.softwareengineering.entity.Project;
 import com.example.softwareengineering.entity.ProjectMember;
-import com.example.softwareengineering.entity.Site;
-import com.example.softwareengineering.entity.SiteMember;
 import com.example.softwareengineering.entity.User;
 import com.example.softwareengineering.entity.MemberRole;
+import com.example.softwareengineering.event.MembershipChangedEvent;
 import com.example.softwareengineering.exception.CustomException;
 import com.example.softwareengineering.repository.ProjectMemberRepository;
 import com.example.softwareengineering.repository.ProjectRepository;
-import com.example.softwareengineering.repository.SiteMemberRepository;
 import com.example.softwareengineering.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,7 +29,9 @@ public class ProjectMemberService {
     @Autowired
     private UserRepository userRepository;
     @Autowired
-    private SiteMemberRepository siteMemberRepository;
+    private PermissionService permissionService;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     // ADMIN이 프로젝트에 PM 초대
     public String invitePm(MembershipInviteRequest request) {
@@ -42,9 +43,7 @@ public class ProjectMemberService {
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         User inviter = userRepository.findById(inviterId).orElseThrow(() -> new CustomException("초대자 없음"));
         // ADMIN 권한 체크 (사이트 기준)
-        Site site = project.getSite();
-        SiteMember inviterSiteMember = siteMemberRepository.findBySiteAndUser(site, inviter).orElse(null);
-        if (inviterSiteMember == null || inviterSiteMember.getRole() != MemberRole.ADMIN) {
+        if (!permissionService.isSiteAdmin(project.getSite().getId(), inviter.getId())) {
             return "ADMIN만 PM을 초대할 수 있습니다.";
         }
         if (projectMemberRepository.existsByProjectAndUser(project, user)) {
@@ -55,6 +54,7 @@ public class ProjectMemberService {
         member.setUser(user);
         member.setRole(MemberRole.PM);
         projectMemberRepository.save(member);
+        eventPublisher.publishEvent(MembershipChangedEvent.project(project.getId(), user.getId()));
         return "PM이 초대되었습니다.";
     }
 
@@ -67,11 +67,8 @@ public class ProjectMemberService {
         User user = userRepository.findByEmailOrUserId(userId, userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         User inviter = userRepository.findById(inviterId).orElseThrow(() -> new CustomException("초대자 없음"));
-        ProjectMember inviterProjectMember = projectMemberRepository.findByProjectAndUser(project, inviter).orElse(null);
-        Site site = project.getSite();
-        SiteMember inviterSiteMember = siteMemberRepository.findBySiteAndUser(site, inviter).orElse(null);
-        boolean isAdmin = inviterSiteMember != null && inviterSiteMember.getRole() == MemberRole.ADMIN;
-        boolean isPm = inviterProjectMember != null && inviterProjectMember.getRole() == MemberRole.PM;
+        boolean isAdmin = permissionService.isSiteAdmin(project.getSite().getId(), inviter.getId());
+        boolean isPm = permissionService.getProjectRole(project.getId(), inviter.getId()).orElse(null) == MemberRole.PM;
         if (!isAdmin && !isPm) {
             return "ADMIN 또는 PM만 멤버를 초대할 수 있습니다.";
         }
@@ -83,6 +80,7 @@ public class ProjectMemberService {
         member.setUser(user);
         member.setRole(MemberRole.MEMBER);
         projectMemberRepository.save(member);
+        eventPublisher.publishEvent(MembershipChangedEvent.project(project.getId(), user.getId()));
         return "멤버가 초대되었습니다.";
     }
 
@@ -92,11 +90,8 @@ public class ProjectMemberService {
         User user = userRepository.findByEmailOrUserId(userId, userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         User changer = userRepository.findById(changerId).orElseThrow(() -> new CustomException("변경자 없음"));
-        ProjectMember changerMember = projectMemberRepository.findByProjectAndUser(project, changer).orElse(null);
-        Site site = project.getSite();
-        SiteMember changerSiteMember = siteMemberRepository.findBySiteAndUser(site, changer).orElse(null);
-        boolean isAdmin = changerSiteMember != null && changerSiteMember.getRole() == MemberRole.ADMIN;
-        boolean isPm = changerMember != null && changerMember.getRole() == MemberRole.PM;
+        boolean isAdmin = permissionService.isSiteAdmin(project.getSite().getId(), changer.getId());
+        boolean isPm = permissionService.getProjectRole(project.getId(), changer.getId()).orElse(null) == MemberRole.PM;
         if (!isAdmin && !isPm) {
             return "ADMIN 또는 PM만 역할을 변경할 수 있습니다.";
         }
@@ -107,6 +102,7 @@ public class ProjectMemberService {
         }
         member.setRole(newRole);
         projectMemberRepository.save(member);
+        eventPublisher.publishEvent(MembershipChangedEvent.project(project.getId(), user.getId()));
         return "역할이 변경되었습니다.";
     }
 
@@ -116,11 +112,8 @@ public class ProjectMemberService {
         User user = userRepository.findByEmailOrUserId(userId, userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         User remover = userRepository.findById(removerId).orElseThrow(() -> new CustomException("삭제자 없음"));
-        ProjectMember removerMember = projectMemberRepository.findByProjectAndUser(project, remover).orElse(null);
-        Site site = project.getSite();
-        SiteMember removerSiteMember = siteMemberRepository.findBySiteAndUser(site, remover).orElse(null);
-        boolean isAdmin = removerSiteMember != null && removerSiteMember.getRole() == MemberRole.ADMIN;
-        boolean isPm = removerMember != null && removerMember.getRole() == MemberRole.PM;
+        boolean isAdmin = permissionService.isSiteAdmin(project.getSite().getId(), remover.getId());
+        boolean isPm = permissionService.getProjectRole(project.getId(), remover.getId()).orElse(null) == MemberRole.PM;
         if (!isAdmin && !isPm) {
             return "ADMIN 또는 PM만 멤버를 삭제할 수 있습니다.";
         }
@@ -130,6 +123,7 @@ public class ProjectMemberService {
             return "PM은 MEMBER만 삭제할 수 있습니다.";
         }
         projectMemberRepository.delete(member);
+        eventPublisher.publishEvent(MembershipChangedEvent.project(project.getId(), user.getId()));
         return "멤버가 삭제되었습니다.";
     }
 
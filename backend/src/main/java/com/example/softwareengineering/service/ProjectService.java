@@ -2,8 +2,12 @@ package com.example.softwareengineering.service;
 
 import com.example.softwareengineering.entity.*;
 import com.example.softwareengineering.repository.*;
+import com.example.softwareengineering.dto.ActivityLogRequestDTO;
 import com.example.softwareengineering.dto.ProjectDTO;
+import com.example.softwareengineering.event.BoardChangedEvent;
+import com.example.softwareengineering.event.MembershipChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.extern.slf4j.Slf4j;
@@ -29,14 +33,16 @@ public class ProjectService {
     private final IssueRepository issueRepository;
     private final BoardColumnRepository boardColumnRepository;
     private final RecentProjectVisitRepository recentProjectVisitRepository;
-    private final RecentWorkRepository recentWorkRepository;
     private final ActivityLogRepository activityLogRepository;
-    private final CommentRepository commentRepository;
     private final NotificationRepository notificationRepository;
     private final UserIssueOrderRepository userIssueOrderRepository;
     private final IssueCommentRepository issueCommentRepository;
     private final IssueFileRepository issueFileRepository;
     private final InvitationRepository invitationRepository;
+    private final PermissionService permissionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ActivityLogService activityLogService;
+    private final IssueTitleCache issueTitleCache;
 
     @Transactional
     public ProjectDTO createProject(Long siteId, String name, String key, boolean isPrivate, Long creatorId, String creatorRole) {
@@ -101,7 +107,8 @@ public class ProjectService {
                     .role(projectRole)
                     .build();
             
-            projectMemberRepository.save(creatorMember);
+            List<ProjectMember> members = new ArrayList<>();
+            members.add(creatorMember);
 
             // 9. 사이트의 모든 ADMIN을 프로젝트 ADMIN으로 자동 등록
             List<SiteMember> siteAdmins = siteMemberRepository.findBySiteAndRole(site, MemberRole.ADMIN);
@@ -117,8 +124,10 @@ public class ProjectService {
                         .role(MemberRole.ADMIN)
                         .build();
                 
-                projectMemberRepository.save(adminMember);
+                members.add(adminMember);
             }
+            // 멤버를 한 번에 저장 (INSERT 배치)
+            projectMemberRepository.saveAll(members);
 
             // 10. 기본 칼럼 생성
             boardService.initializeDefaultColumns(project);
@@ -153,7 +162,6 @@ public class ProjectService {
             // 5. 최근 방문 기록 삭제
             log.debug("최근 방문 기록 삭제 시작");
             recentProjectVisitRepository.deleteByProjectId(projectId);
-            recentWorkRepository.deleteByProjectId(projectId);
 
             // 6. 알림 삭제
             log.debug("알림 삭제 시작");
@@ -181,6 +189,8 @@ public class ProjectService {
             // 9. 프로젝트 멤버 삭제
             log.debug("프로젝트 멤버 삭제 시작");
             projectMemberRepository.deleteByProject(project);
+            eventPublisher.publishEvent(MembershipChangedEvent.project(projectId, null));
+            eventPublisher.publishEvent(BoardChangedEvent.boardReset(projectId));
 
             // 10. 프로젝트 삭제
             log.debug("프로젝트 삭제 시작");
@@ -197,17 +207,17 @@ public class ProjectService {
         boolean hasDeletePermission = false;
         
         // 1. 사이트 ADMIN 권한 확인
-        SiteMember siteMember = siteMemberRepository.findBySiteAndUser(project.getSite(), user)
+        MemberRole siteRole = permissionService.getSiteRole(project.getSite().getId(), user.getId())
                 .orElseThrow(() -> new IllegalArgumentException("사이트 멤버가 아닙니다."));
 
-        if (siteMember.getRole() == MemberRole.ADMIN) {
+        if (siteRole == MemberRole.ADMIN) {
             hasDeletePermission = true;
         } else {
             // 2. 프로젝트 ADMIN/PM 권한 확인
-            ProjectMember projectMember = projectMemberRepository.findByProjectAndUser(project, user)
+            MemberRole projectRole = permissionService.getProjectRole(project.getId(), user.getId())
                     .orElseThrow(() -> new IllegalArgumentException("프로젝트 멤버가 아닙니다."));
             
-            if (projectMember.getRole() == MemberRole.ADMIN || projectMember.getRole() == MemberRole.PM) {
+            if (projectRole == MemberRole.ADMIN || projectRole == MemberRole.PM) {
                 hasDeletePermission = true;
             }
         }
@@ -252,25 +262,12 @@ public class ProjectService {
 
     public List<Map<String, Object>> getRecentWorks(Long siteId, Long userId) {
         // 1. 사이트 존재 확인
-        Site site = siteRepository.findById(siteId)
-                .orElseThrow(() -> new IllegalArgumentException("사이트를 찾을 수 없습니다."));
-        
-        // 2. 최근 작업 조회 - 현재 로그인한 사용자의 작업만 조회
-        List<RecentWork> recentWorks = recentWorkRepository.findByUserAndSite(userId, siteId);
-        
-        // 3. 응답 데이터 변환
-        return recentWorks.stream()
-                .map(work -> {
-                    Map<String, Object> workMap = new HashMap<>();
-                    workMap.put("id", work.getId());
-                    workMap.put("description", work.getFormattedDescription());
-                    workMap.put("projectName", work.getProject().getName());
-                    workMap.put("updatedAt", work.getCreatedAt().format(
-                        java.time.format.DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm")
-                    ));
-                    return workMap;
-                })
-                .collect(Collectors.toList());
+        if (!siteRepository.existsById(siteId)) {
+            throw new IllegalArgumentException("사이트를 찾을 수 없습니다.");
+        }
+
+        // 2. 최근 작업 - 현재 로그인한 사용자의 활동 내역에서 만든다
+        return activityLogService.getRecentWorks(userId, siteId);
     }
 
     // 프로젝트 방문 기록 저장
@@ -290,124 +287,30 @@ public class ProjectService {
         recentProjectVisitRepository.save(visit);
     }
 
-    // 작업 기록 저장
-    @Transactional
-    public void recordWork(Long projectId, Long userId, Long issueId, RecentWork.ActionType actionType) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다."));
-        
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        Issue issue = issueRepository.findById(issueId)
-                .orElseThrow(() -> new IllegalArgumentException("이슈를 찾을 수 없습니다."));
-
-        RecentWork work = RecentWork.builder()
-                .project(project)
-                .user(user)
-                .issue(issue)
-                .actionType(actionType)
-                .build();
-
-        recentWorkRepository.save(work);
-    }
-
     // 페이지 이동 기록
-    @Transactional
     public void recordPageMove(Long projectId, Long userId, String pageName) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다."));
-        
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        // RecentWork 생성
-        RecentWork work = RecentWork.builder()
-                .project(project)
-                .user(user)
-                .actionType(RecentWork.ActionType.PAGE_MOVE)
-                .activityType(RecentWork.ActivityType.PAGE_NAVIGATION)
-                .pageName(pageName)
-                .build();
-
-        recentWorkRepository.save(work);
-
-        // ActivityLog 생성
-        ActivityLog activityLog = new ActivityLog();
-        activityLog.setUser(user);
-        activityLog.setProject(project);
-        activityLog.setType(ActivityType.PAGE_NAVIGATION);
-        activityLog.setTitle("페이지 이동");
-        activityLog.setTargetPage(pageName);
-
-        activityLogRepository.save(activityLog);
+        activityLogService.recordActivity(ActivityLogRequestDTO.builder()
+                .userId(userId)
+                .type(ActivityType.PAGE_NAVIGATION)
+                .title("페이지 이동")
+                .projectId(projectId)
+                .targetPage(pageName)
+                .build());
     }
 
-    // 이슈 활동 기록
-    @Transactional
-    public void recordIssueActivity(Long projectId, Long userId, Long issueId, 
-                                  RecentWork.ActionType actionType, 
-                                  String previousStatus, String newStatus) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다."));
-        
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        Issue issue = issueRepository.findById(issueId)
-                .orElseThrow(() -> new IllegalArgumentException("이슈를 찾을 수 없습니다."));
-
-        // RecentWork 생성
-        RecentWork work = RecentWork.builder()
-                .project(project)
-                .user(user)
-                .issue(issue)
-                .actionType(actionType)
-                .activityType(RecentWork.ActivityType.ISSUE)
-                .previousStatus(previousStatus)
-                .newStatus(newStatus)
-                .build();
-
-        recentWorkRepository.save(work);
-
-        // ActivityLog 생성
-        ActivityLog activityLog = new ActivityLog();
-        activityLog.setUser(user);
-        activityLog.setProject(project);
-        activityLog.setType(ActivityType.ISSUE_STATUS_CHANGE);
-        activityLog.setTitle(String.format("[%s] %s", newStatus, issue.getTitle()));
-        activityLog.setContent(String.format("이슈 상태가 '%s'에서 '%s'로 변경되었습니다.", previousStatus, newStatus));
-        activityLog.setIssueId(issueId);
-        activityLog.setStatusChange(String.format("%s -> %s", previousStatus, newStatus));
-
-        activityLogRepository.save(activityLog);
-    }
-
-    // 댓글 활동 기록
-    @Transactional
-    public void recordCommentActivity(Long projectId, Long userId, String content, 
-                                    RecentWork.ActionType actionType) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다."));
-        
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        RecentWork work = RecentWork.builder()
-                .project(project)
-                .user(user)
-                .actionType(actionType)
-                .activityType(RecentWork.ActivityType.COMMENT)
-                .content(content)
-                .build();
-
-        recentWorkRepository.save(work);
-    }
-
-    // 만료된 활동 내역 삭제
-    @Transactional
-    public void deleteExpiredRecords() {
-        recentWorkRepository.deleteExpiredRecords(LocalDateTime.now());
+    // 이슈 상태 변경 기록
+    public void recordIssueActivity(Long projectId, Long userId, Long issueId,
+                                    String previousStatus, String newStatus) {
+        String issueTitle = issueTitleCache.titles(List.of(issueId)).get(issueId);
+        activityLogService.recordActivity(ActivityLogRequestDTO.builder()
+                .userId(userId)
+                .type(ActivityType.ISSUE_STATUS_CHANGE)
+                .title(String.format("[%s] %s", newStatus, issueTitle != null ? issueTitle : "이슈"))
+                .content(String.format("이슈 상태가 '%s'에서 '%s'로 변경되었습니다.", previousStatus, newStatus))
+                .projectId(projectId)
+                .issueId(issueId)
+                .statusChange(String.format("%s -> %s", previousStatus, newStatus))
+                .build());
     }
 
     public List<Map<String, Object>> getUnresolvedIssues(Long siteId, Long userId) {
@@ -439,107 +342,38 @@ public class ProjectService {
     }
 
     // 이슈 수정 활동 기록
-    @Transactional
     public void recordIssueUpdateActivity(Long projectId, Long userId, Long issueId, String title) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다."));
-        
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        Issue issue = issueRepository.findById(issueId)
-                .orElseThrow(() -> new IllegalArgumentException("이슈를 찾을 수 없습니다."));
-
-        // RecentWork 생성
-        RecentWork work = RecentWork.builder()
-                .project(project)
-                .user(user)
-                .issue(issue)
-                .actionType(RecentWork.ActionType.UPDATE)
-                .activityType(RecentWork.ActivityType.ISSUE)
-                .build();
-
-        recentWorkRepository.save(work);
-
-        // ActivityLog 생성
-        ActivityLog activityLog = new ActivityLog();
-        activityLog.setUser(user);
-        activityLog.setProject(project);
-        activityLog.setType(ActivityType.ISSUE_UPDATE);
-        activityLog.setTitle(title);
-        activityLog.setContent("이슈가 수정되었습니다.");
-        activityLog.setIssueId(issueId);
-
-        activityLogRepository.save(activityLog);
+        activityLogService.recordActivity(ActivityLogRequestDTO.builder()
+                .userId(userId)
+                .type(ActivityType.ISSUE_UPDATE)
+                .title(title)
+                .content("이슈가 수정되었습니다.")
+                .projectId(projectId)
+                .issueId(issueId)
+                .build());
     }
 
     // 댓글 작성 활동 기록
-    @Transactional
     public void recordCommentCreateActivity(Long projectId, Long userId, Long commentId, String content) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다."));
-        
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
-
-        // RecentWork 생성
-        RecentWork work = RecentWork.builder()
-                .project(project)
-                .user(user)
-                .actionType(RecentWork.ActionType.CREATE)
-                .activityType(RecentWork.ActivityType.COMMENT)
+        activityLogService.recordActivity(ActivityLogRequestDTO.builder()
+                .userId(userId)
+                .type(ActivityType.COMMENT_CREATE)
+                .title("새 댓글")
                 .content(content)
-                .build();
-
-        recentWorkRepository.save(work);
-
-        // ActivityLog 생성
-        ActivityLog activityLog = new ActivityLog();
-        activityLog.setUser(user);
-        activityLog.setProject(project);
-        activityLog.setType(ActivityType.COMMENT_CREATE);
-        activityLog.setTitle("새 댓글");
-        activityLog.setContent(content);
-        activityLog.setCommentId(commentId);
-
-        activityLogRepository.save(activityLog);
+                .projectId(projectId)
+                .commentId(commentId)
+                .build());
     }
 
     // 댓글 수정 활동 기록
-    @Transactional
     public void recordCommentUpdateActivity(Long projectId, Long userId, Long commentId, String content) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다."));
-        
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
-
-        // RecentWork 생성
-        RecentWork work = RecentWork.builder()
-                .project(project)
-                .user(user)
-                .actionType(RecentWork.ActionType.UPDATE)
-                .activityType(RecentWork.ActivityType.COMMENT)
+        activityLogService.recordActivity(ActivityLogRequestDTO.builder()
+                .userId(userId)
+                .type(ActivityType.COMMENT_UPDATE)
+                .title("댓글 수정")
                 .content(content)
-                .build();
-
-        recentWorkRepository.save(work);
-
-        // ActivityLog 생성
-        ActivityLog activityLog = new ActivityLog();
-        activityLog.setUser(user);
-        activityLog.setProject(project);
-        activityLog.setType(ActivityType.COMMENT_UPDATE);
-        activityLog.setTitle("댓글 수정");
-        activityLog.setContent(content);
-        activityLog.setCommentId(commentId);
-
-        activityLogRepository.save(activityLog);
+                .projectId(projectId)
+                .commentId(commentId)
+                .build());
     }
 } 
\ No newline at end of file
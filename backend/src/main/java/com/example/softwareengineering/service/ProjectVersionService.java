@@ -0,0 +1,69 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.event.MembershipChangedEvent;
+import com.example.softwareengineering.event.ProjectChangedEvent;
+import com.example.softwareengineering.repository.ProjectRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 프로젝트별 단조 증가 변경 버전 (project.board_version). 폴링 조회의 ETag로 쓰인다.
+ * 버전은 커밋(및 보드 읽기 모델 반영) 이후에만 올라가므로, 조회 전에 읽은 버전보다 응답 내용이 오래될 일은 없다.
+ * 버전을 DB에 두므로 쓰기를 받지 않은 노드나 재시작한 노드도 같은 버전을 본다.
+ */
+@Service
+public class ProjectVersionService {
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ProjectVersionService(ProjectRepository projectRepository, PlatformTransactionManager transactionManager) {
+        this.projectRepository = projectRepository;
+        // 커밋 이후 리스너에서 호출되므로 끝난 트랜잭션에 참여하지 않도록 독립된 트랜잭션으로 올린다
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public long currentVersion(Long projectId) {
+        return projectRepository.findBoardVersionById(projectId).orElse(0L);
+    }
+
+    // 올린 값은 행 잠금이 풀리기 전에 같은 트랜잭션에서 읽으므로 다른 노드와 같은 버전을 받지 않는다
+    public long bump(Long projectId) {
+        Long version = transactionTemplate.execute(status -> {
+            projectRepository.incrementBoardVersion(projectId);
+            return projectRepository.findBoardVersionById(projectId).orElse(0L);
+        });
+        return version != null ? version : 0L;
+    }
+
+    // 모든 사용자에게 같은 내용인 조회용 (칼럼, 멤버, 커스텀 상태)
+    public String etag(Long projectId, String resource) {
+        return "W/\"" + resource + "-" + projectId + "-" + currentVersion(projectId) + "\"";
+    }
+
+    // 사용자별 순서가 반영되는 조회용 (보드, 이슈 목록). 해시가 겹쳐 다른 사용자의 응답과 같은 ETag가 되지 않도록
+    // 로그인 ID를 그대로 넣고, 따옴표 등 ETag에 쓸 수 없는 문자만 인코딩한다
+    public String etag(Long projectId, String resource, String userId) {
+        return "W/\"" + resource + "-" + projectId + "-" + currentVersion(projectId)
+            + "-" + URLEncoder.encode(userId, StandardCharsets.UTF_8) + "\"";
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        if (event.scope() == MembershipChangedEvent.Scope.PROJECT) {
+            bump(event.scopeId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        bump(event.projectId());
+    }
+}
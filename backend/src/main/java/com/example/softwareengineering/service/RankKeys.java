@@ -0,0 +1,205 @@
+package com.example.softwareengineering.service;
+
+/**
+ * 칼럼 내 카드 순서를 나타내는 문자열 순위 키 (사전순 비교, 0-9a-z 36진수).
+ * 기본 키는 5자리 위치 번호 + 'i' 형태이며, 두 키 사이에는 언제나 새 키를 만들 수 있어
+ * 카드 하나를 옮길 때 그 카드의 키만 바꾸면 된다. 만들어지는 키는 '0'으로 끝나지 않는다.
+ */
+public final class RankKeys {
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    private static final int WIDTH = 5;
+    private static final char SUFFIX = 'i';
+    private static final long MAX_POSITION = pow(BASE, WIDTH) - 1;
+    // 여러 키를 나눠 줄 때 쓰는 최대 자리 수 (36^12 < Long.MAX_VALUE)
+    private static final int MAX_SPREAD_LENGTH = 12;
+
+    private RankKeys() {
+    }
+
+    /** position번째(1부터) 기본 키. DB 마이그레이션의 LPAD(CONV(n, 10, 36), 5, '0') + 'i'와 같은 형식. */
+    public static String initial(long position) {
+        if (position < 1 || position > MAX_POSITION) {
+            throw new IllegalArgumentException("순위 위치 범위를 벗어났습니다: " + position);
+        }
+        return pad(position) + SUFFIX;
+    }
+
+    /** key 다음에 올 키. 보통은 위치 번호를 1 올려 키 길이가 늘어나지 않게 한다. */
+    public static String after(String key) {
+        if (key == null) {
+            return initial(1);
+        }
+        Long position = position(key);
+        if (position != null && position < MAX_POSITION) {
+            return initial(position + 1);
+        }
+        return between(key, null);
+    }
+
+    /** key 앞에 올 키. */
+    public static String before(String key) {
+        if (key == null) {
+            return initial(1);
+        }
+        Long position = position(key);
+        if (position != null && position > 1) {
+            return initial(position - 1);
+        }
+        return between(null, key);
+    }
+
+    /**
+     * lo와 hi 사이의 키 (lo < 결과 < hi). null은 각각 처음/끝을 뜻한다.
+     */
+    public static String between(String lo, String hi) {
+        if (lo != null && hi != null && lo.compareTo(hi) >= 0) {
+            throw new IllegalArgumentException("순위 키 범위가 올바르지 않습니다: " + lo + " >= " + hi);
+        }
+        String low = lo == null ? "" : lo;
+        StringBuilder result = new StringBuilder();
+        boolean upperOpen = hi == null;
+        for (int i = 0; ; i++) {
+            int l = i < low.length() ? digit(low.charAt(i)) : 0;
+            int h = upperOpen ? BASE : (i < hi.length() ? digit(hi.charAt(i)) : 0);
+            if (h - l > 1) {
+                result.append(DIGITS.charAt((l + h) / 2));
+                return result.toString();
+            }
+            result.append(DIGITS.charAt(l));
+            if (h - l == 1) {
+                // 이 자리에서 이미 hi보다 작아졌으므로 뒤 자리는 제한이 없다
+                upperOpen = true;
+            }
+        }
+    }
+
+    /**
+     * lo와 hi 사이에 고르게 벌어진 count개의 증가하는 키. 같은 틈에 between을 거듭 쓰면 키가 한 자리씩 길어지므로
+     * 연속한 여러 카드를 한 틈에 넣을 때는 이 방법으로 가장 짧은 자리 수에서 한꺼번에 나눠 준다.
+     */
+    public static String[] between(String lo, String hi, int count) {
+        if (lo != null && hi != null && lo.compareTo(hi) >= 0) {
+            throw new IllegalArgumentException("순위 키 범위가 올바르지 않습니다: " + lo + " >= " + hi);
+        }
+        if (count == 1) {
+            return new String[]{between(lo, hi)};
+        }
+        for (int length = 1; length <= MAX_SPREAD_LENGTH; length++) {
+            // length 자리로 자른 값 사이의 정수는 모두 lo보다 크고 hi보다 작다
+            long low = lo == null ? 0 : prefix(lo, length);
+            long high = hi == null ? pow(BASE, length) : prefix(hi, length);
+            long available = high - low - 1;
+            if (available < count) {
+                continue;
+            }
+            long step = (available + 1) / (count + 1);
+            String[] keys = new String[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = trimZeros(digits(low + step * (i + 1), length));
+            }
+            return keys;
+        }
+        throw new IllegalArgumentException("순위 키 사이에 넣을 수 있는 키가 부족합니다: " + count);
+    }
+
+    /**
+     * 주어진 순서에서 키가 이미 증가하는 가장 긴 부분열을 표시한다 (null 키는 제외).
+     * 표시된 항목은 키를 그대로 두고 나머지만 새 키를 받으면 되므로 순서 변경 시 쓰는 행 수가 최소가 된다.
+     */
+    public static boolean[] keepIncreasing(String[] keys) {
+        int n = keys.length;
+        int[] tails = new int[n];      // 길이 k+1 부분열의 마지막 인덱스
+        int[] previous = new int[n];
+        int length = 0;
+        for (int i = 0; i < n; i++) {
+            previous[i] = -1;
+            if (keys[i] == null) {
+                continue;
+            }
+            int lo = 0;
+            int hi = length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[tails[mid]].compareTo(keys[i]) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            previous[i] = lo > 0 ? tails[lo - 1] : -1;
+            tails[lo] = i;
+            if (lo == length) {
+                length++;
+            }
+        }
+        boolean[] keep = new boolean[n];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+            keep[i] = true;
+        }
+        return keep;
+    }
+
+    // 키 앞 5자리를 위치 번호로 해석 (형식이 다르면 null)
+    private static Long position(String key) {
+        if (key.length() < WIDTH) {
+            return null;
+        }
+        long value = 0;
+        for (int i = 0; i < WIDTH; i++) {
+            int d = DIGITS.indexOf(key.charAt(i));
+            if (d < 0) {
+                return null;
+            }
+            value = value * BASE + d;
+        }
+        return value == 0 ? null : value;
+    }
+
+    private static String pad(long value) {
+        return digits(value, WIDTH);
+    }
+
+    private static String digits(long value, int length) {
+        char[] chars = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            chars[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        return new String(chars);
+    }
+
+    // 키 앞 length자리를 정수로 (짧으면 뒤를 0으로 채운 것으로 본다)
+    private static long prefix(String key, int length) {
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            value = value * BASE + (i < key.length() ? digit(key.charAt(i)) : 0);
+        }
+        return value;
+    }
+
+    // 끝의 0은 값에 영향이 없으므로 떼어 키가 '0'으로 끝나지 않게 한다
+    private static String trimZeros(String key) {
+        int end = key.length();
+        while (end > 0 && key.charAt(end - 1) == '0') {
+            end--;
+        }
+        return key.substring(0, end);
+    }
+
+    private static int digit(char c) {
+        int d = DIGITS.indexOf(c);
+        if (d < 0) {
+            throw new IllegalArgumentException("순위 키에 허용되지 않는 문자입니다: " + c);
+        }
+        return d;
+    }
+
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+}
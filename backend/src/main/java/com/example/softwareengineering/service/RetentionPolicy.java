@@ -0,0 +1,26 @@
+package com.example.softwareengineering.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 테이블 하나의 보존 정책: timeColumn 값이 (지금 - retention) 이전인 행을 지운다.
+ * partitioned 정책은 시간 구간 파티션이 있으면 파티션을 통째로 DROP 하므로 보존 기준을 날짜 경계에 맞춘다.
+ */
+public record RetentionPolicy(String table, String timeColumn, Duration retention, boolean partitioned) {
+
+    // 생성/기록 시각 기준으로 일정 기간 보관
+    public static RetentionPolicy keep(String table, String timeColumn, Duration retention) {
+        return new RetentionPolicy(table, timeColumn, retention, false);
+    }
+
+    // 시간 구간 파티션(RANGE COLUMNS(timeColumn))으로 관리될 수 있는 테이블
+    public static RetentionPolicy partitioned(String table, String timeColumn, Duration retention) {
+        return new RetentionPolicy(table, timeColumn, retention, true);
+    }
+
+    public LocalDateTime cutoff(LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(retention);
+        return partitioned ? cutoff.toLocalDate().atStartOfDay() : cutoff;
+    }
+}
@@ -2,9 +2,11 @@ package com.example.softwareengineering.service;
 
 import com.example.softwareengineering.dto.MembershipInviteRequest;
 import com.example.softwareengineering.entity.*;
+import com.example.softwareengineering.event.MembershipChangedEvent;
 import com.example.softwareengineering.exception.CustomException;
 import com.example.softwareengineering.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +16,9 @@ public class SiteMemberService {
     private final SiteMemberRepository siteMemberRepository;
     private final SiteRepository siteRepository;
     private final UserRepository userRepository;
+    private final MembershipVersionService membershipVersionService;
+    private final PermissionService permissionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void addAdminToSite(Long siteId, Long userId) {
@@ -29,6 +34,8 @@ public class SiteMemberService {
                     .role(MemberRole.ADMIN)
                     .build();
             siteMemberRepository.save(member);
+            membershipVersionService.bump(user.getId());
+            eventPublisher.publishEvent(MembershipChangedEvent.site(site.getId(), user.getId()));
         }
     }
 
@@ -49,10 +56,10 @@ public class SiteMemberService {
 
         User inviter = userRepository.findById(inviterId)
                 .orElseThrow(() -> new CustomException("초대자를 찾을 수 없습니다."));
-        SiteMember inviterMember = siteMemberRepository.findBySiteAndUser(site, inviter)
+        MemberRole inviterRole = permissionService.getSiteRole(site.getId(), inviter.getId())
                 .orElseThrow(() -> new CustomException("초대자가 사이트 멤버가 아닙니다."));
 
-        if (inviterMember.getRole() != MemberRole.ADMIN) {
+        if (inviterRole != MemberRole.ADMIN) {
             return "ADMIN만 초대할 수 있습니다.";
         }
 
@@ -66,6 +73,8 @@ public class SiteMemberService {
                 .role(MemberRole.valueOf(roleStr))
                 .build();
         siteMemberRepository.save(member);
+        membershipVersionService.bump(user.getId());
+        eventPublisher.publishEvent(MembershipChangedEvent.site(site.getId(), user.getId()));
 
         return "멤버가 초대되었습니다.";
     }
@@ -82,10 +91,10 @@ public class SiteMemberService {
 
         User changer = userRepository.findById(changerId)
                 .orElseThrow(() -> new CustomException("변경자를 찾을 수 없습니다."));
-        SiteMember changerMember = siteMemberRepository.findBySiteAndUser(site, changer)
+        MemberRole changerRole = permissionService.getSiteRole(site.getId(), changer.getId())
                 .orElseThrow(() -> new CustomException("변경자가 사이트 멤버가 아닙니다."));
 
-        if (changerMember.getRole() != MemberRole.ADMIN) {
+        if (changerRole != MemberRole.ADMIN) {
             return "ADMIN만 역할을 변경할 수 있습니다.";
         }
 
@@ -93,6 +102,8 @@ public class SiteMemberService {
                 .orElseThrow(() -> new CustomException("해당 사용자는 멤버가 아닙니다."));
         member.setRole(newRole);
         siteMemberRepository.save(member);
+        membershipVersionService.bump(user.getId());
+        eventPublisher.publishEvent(MembershipChangedEvent.site(site.getId(), user.getId()));
 
         return "역할이 변경되었습니다.";
     }
@@ -109,16 +120,18 @@ public class SiteMemberService {
 
         User remover = userRepository.findById(removerId)
                 .orElseThrow(() -> new CustomException("삭제자를 찾을 수 없습니다."));
-        SiteMember removerMember = siteMemberRepository.findBySiteAndUser(site, remover)
+        MemberRole removerRole = permissionService.getSiteRole(site.getId(), remover.getId())
                 .orElseThrow(() -> new CustomException("삭제자가 사이트 멤버가 아닙니다."));
 
-        if (removerMember.getRole() != MemberRole.ADMIN) {
+        if (removerRole != MemberRole.ADMIN) {
             return "ADMIN만 멤버를 삭제할 수 있습니다.";
         }
 
         SiteMember member = siteMemberRepository.findBySiteAndUser(site, user)
                 .orElseThrow(() -> new CustomException("해당 사용자는 멤버가 아닙니다."));
         siteMemberRepository.delete(member);
+        membershipVersionService.bump(user.getId());
+        eventPublisher.publishEvent(MembershipChangedEvent.site(site.getId(), user.getId()));
 
         return "멤버가 삭제되었습니다.";
     }
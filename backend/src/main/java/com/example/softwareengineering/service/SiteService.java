@@ -6,8 +6,11 @@ import com.example.softwareengineering.entity.SiteMember;
 import com.example.softwareengineering.entity.MemberRole;
 import com.example.softwareengineering.entity.Project;
 import com.example.softwareengineering.entity.RecentSiteVisit;
+import com.example.softwareengineering.event.BoardChangedEvent;
+import com.example.softwareengineering.event.MembershipChangedEvent;
 import com.example.softwareengineering.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,6 +40,8 @@ public class SiteService {
     private final IssueFileRepository issueFileRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserIssueOrderRepository userIssueOrderRepository;
+    private final MembershipVersionService membershipVersionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Site createSite(String name, User owner) {
@@ -79,6 +84,7 @@ public class SiteService {
         
         siteMemberRepository.save(member);
         site.addMember(member);
+        membershipVersionService.bump(owner.getId());
 
         return site;
     }
@@ -160,13 +166,17 @@ public class SiteService {
                 // 7-3. 프로젝트 멤버 삭제
                 log.debug("프로젝트 {} 의 멤버 삭제", project.getId());
                 projectMemberRepository.deleteByProject(project);
+                eventPublisher.publishEvent(MembershipChangedEvent.project(project.getId(), null));
+                eventPublisher.publishEvent(BoardChangedEvent.boardReset(project.getId()));
             }
 
             // 8. 프로젝트 삭제
             projectRepository.deleteBySite(site);
 
-            // 9. 사이트 멤버 삭제
+            // 9. 사이트 멤버 삭제 (멤버들의 토큰 역할 클레임 무효화 후)
+            membershipVersionService.bumpSiteMembers(site);
             siteMemberRepository.deleteBySite(site);
+            eventPublisher.publishEvent(MembershipChangedEvent.site(siteId, null));
 
             // 10. 사이트 삭제
             siteRepository.delete(site);
@@ -0,0 +1,109 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.cache.TtlLruCache;
+import com.example.softwareengineering.dto.StatusColumnRow;
+import com.example.softwareengineering.entity.IssueStatus;
+import com.example.softwareengineering.event.BoardChangedEvent;
+import com.example.softwareengineering.event.ProjectChangedEvent;
+import com.example.softwareengineering.repository.BoardColumnRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 프로젝트별 이슈 상태 → 보드 칼럼 인덱스.
+ * 칼럼에 지정된 상태(BoardColumn.status)와 커스텀 상태의 칼럼을 한 번 읽어 메모리에 두고,
+ * 칼럼 구성(BOARD_RESET)이나 커스텀 상태가 바뀌어 커밋되면 해당 프로젝트만 제거한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatusColumnIndex {
+    // 상태가 지정되지 않은 기존 칼럼은 기본 칼럼 이름으로 찾는다
+    private static final Map<String, IssueStatus> DEFAULT_TITLES = Map.of(
+        "To Do", IssueStatus.TODO,
+        "In Progress", IssueStatus.IN_PROGRESS,
+        "Done", IssueStatus.DONE,
+        "Hold", IssueStatus.HOLD);
+
+    private final BoardColumnRepository columnRepository;
+
+    @Value("${board.status-index.max-projects:1000}")
+    private int maxProjects;
+
+    @Value("${board.status-index.ttl-ms:600000}")
+    private long ttlMs;
+
+    private TtlLruCache<Long, ProjectIndex> indexes;
+
+    public record ColumnRef(Long id, String title) {}
+
+    private record ProjectIndex(Map<IssueStatus, ColumnRef> byStatus, Map<Long, ColumnRef> byCustomStatus,
+                                Map<Long, ColumnRef> byId) {}
+
+    @PostConstruct
+    public void init() {
+        this.indexes = new TtlLruCache<>(maxProjects, ttlMs);
+    }
+
+    public Optional<ColumnRef> columnFor(Long projectId, IssueStatus status) {
+        return Optional.ofNullable(index(projectId).byStatus().get(status));
+    }
+
+    public Optional<ColumnRef> columnForCustomStatus(Long projectId, Long customStatusId) {
+        return Optional.ofNullable(index(projectId).byCustomStatus().get(customStatusId));
+    }
+
+    public Optional<ColumnRef> column(Long projectId, Long columnId) {
+        return Optional.ofNullable(index(projectId).byId().get(columnId));
+    }
+
+    private ProjectIndex index(Long projectId) {
+        return indexes.getOrLoad(projectId, this::load);
+    }
+
+    private ProjectIndex load(Long projectId) {
+        Map<IssueStatus, ColumnRef> byStatus = new EnumMap<>(IssueStatus.class);
+        Map<IssueStatus, ColumnRef> byTitle = new EnumMap<>(IssueStatus.class);
+        Map<Long, ColumnRef> byCustomStatus = new HashMap<>();
+        Map<Long, ColumnRef> byId = new HashMap<>();
+        // 칼럼 순서대로 오므로 같은 상태가 여러 칼럼에 있으면 앞 칼럼이 쓰인다
+        for (StatusColumnRow row : columnRepository.findStatusColumnRows(projectId)) {
+            ColumnRef column = byId.computeIfAbsent(row.columnId(), id -> new ColumnRef(id, row.title()));
+            if (row.status() != null) {
+                byStatus.putIfAbsent(row.status(), column);
+            }
+            IssueStatus titleStatus = DEFAULT_TITLES.get(row.title());
+            if (titleStatus != null) {
+                byTitle.putIfAbsent(titleStatus, column);
+            }
+            if (row.customStatusId() != null) {
+                byCustomStatus.put(row.customStatusId(), column);
+            }
+        }
+        byTitle.forEach(byStatus::putIfAbsent);
+        log.debug("상태→칼럼 인덱스 적재: projectId={}, statuses={}", projectId, byStatus.keySet());
+        return new ProjectIndex(byStatus, byCustomStatus, byId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.type() == BoardChangedEvent.Type.BOARD_RESET) {
+            indexes.remove(event.projectId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        indexes.remove(event.projectId());
+    }
+}
@@ -5,15 +5,10 @@ import com.example.softwareengineering.dto.SubIssueResponse;
 import com.example.softwareengineering.entity.Issue;
 import com.example.softwareengineering.entity.SubIssue;
 import com.example.softwareengineering.entity.User;
-import com.example.softwareengineering.entity.SiteMember;
-import com.example.softwareengineering.entity.ProjectMember;
-import com.example.softwareengineering.entity.MemberRole;
 import com.example.softwareengineering.exception.CustomException;
 import com.example.softwareengineering.repository.IssueRepository;
 import com.example.softwareengineering.repository.SubIssueRepository;
 import com.example.softwareengineering.repository.UserRepository;
-import com.example.softwareengineering.repository.SiteMemberRepository;
-import com.example.softwareengineering.repository.ProjectMemberRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -29,25 +24,11 @@ public class SubIssueService {
     @Autowired
     private UserRepository userRepository;
     @Autowired
-    private SiteMemberRepository siteMemberRepository;
-    @Autowired
-    private ProjectMemberRepository projectMemberRepository;
+    private PermissionService permissionService;
 
     private boolean checkPermission(Issue issue, Long userId) {
-        // 1. 사이트 ADMIN 권한 체크 (최우선)
-        SiteMember siteMember = siteMemberRepository.findBySiteAndUser(issue.getProject().getSite(), 
-            userRepository.findById(userId).orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다.")))
-            .orElse(null);
-        if (siteMember != null && siteMember.getRole() == MemberRole.ADMIN) {
-            return true;
-        }
-        
-        // 2. 프로젝트 ADMIN/PM 권한 체크
-        ProjectMember projectMember = projectMemberRepository.findByProjectAndUser(issue.getProject(), 
-            userRepository.findById(userId).orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다.")))
-            .orElse(null);
-        if (projectMember != null && 
-            (projectMember.getRole() == MemberRole.ADMIN || projectMember.getRole() == MemberRole.PM)) {
+        // 1. 사이트 ADMIN, 프로젝트 ADMIN/PM 권한 체크
+        if (permissionService.canManageProject(issue.getProject(), userId)) {
             return true;
         }
         
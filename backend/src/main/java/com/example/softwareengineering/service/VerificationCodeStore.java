@@ -0,0 +1,39 @@
+package com.example.softwareengineering.service;
+
+import java.security.MessageDigest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 이메일 인증번호 저장소.
+ * 단일 서버는 메모리 구현(verification.code-store=memory),
+ * 여러 서버가 인증번호를 공유해야 하면 DB 구현(verification.code-store=database)을 사용한다.
+ */
+public interface VerificationCodeStore {
+
+    enum Purpose {
+        ID_FIND,
+        PASSWORD_RESET
+    }
+
+    record StoredCode(String code, LocalDateTime createdAt, LocalDateTime expiresAt) {
+        public boolean isExpired(LocalDateTime now) {
+            return !expiresAt.isAfter(now);
+        }
+
+        // 응답 시간으로 코드를 추측하지 못하도록 고정 시간 비교
+        public boolean matches(String candidate) {
+            return candidate != null && MessageDigest.isEqual(
+                code.getBytes(StandardCharsets.UTF_8), candidate.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    void save(Purpose purpose, String email, String code, Duration ttl);
+
+    // 만료되지 않은 인증번호만 반환
+    Optional<StoredCode> find(Purpose purpose, String email);
+
+    void remove(Purpose purpose, String email);
+}
@@ -0,0 +1,11 @@
+-- 활동 내역 피드를 (timestamp, id) 키셋으로 페이지 조회하기 위한 복합 인덱스
+-- 커서 위치에서 바로 시작하므로 깊은 페이지도 첫 페이지와 같은 비용으로 읽는다.
+
+CREATE INDEX idx_activity_log_user_time ON activity_logs (user_id, timestamp, id);
+CREATE INDEX idx_activity_log_project_time ON activity_logs (project_id, timestamp, id);
+CREATE INDEX idx_activity_log_time ON activity_logs (timestamp, id);
+
+-- 앞부분이 같은 단일 칼럼 인덱스는 복합 인덱스가 대신한다 (외래 키도 복합 인덱스를 사용)
+DROP INDEX idx_activity_log_user ON activity_logs;
+DROP INDEX idx_activity_log_project ON activity_logs;
+DROP INDEX idx_activity_log_timestamp ON activity_logs;
@@ -0,0 +1,40 @@
+-- activity_logs / activities 를 시간 구간 RANGE COLUMNS 파티션 테이블로 전환 (activity.retention.mode=partition 과 함께 사용)
+-- 보존 기간이 지난 구간은 DELETE 대신 ALTER TABLE ... DROP PARTITION 으로 지운다.
+-- MySQL 파티션 테이블은 외래 키를 가질 수 없고, 기본 키에 파티션 칼럼이 포함되어야 한다.
+-- 기존 행은 모두 p_initial(오늘 이전)에 들어가고, 이후 구간 파티션은 ActivityRetentionService가 미리 만든다.
+
+-- 1. activity_logs
+SET @fks = (SELECT GROUP_CONCAT(CONCAT('DROP FOREIGN KEY ', CONSTRAINT_NAME))
+            FROM information_schema.TABLE_CONSTRAINTS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'activity_logs' AND CONSTRAINT_TYPE = 'FOREIGN KEY');
+SET @sql = IF(@fks IS NULL, 'DO 0', CONCAT('ALTER TABLE activity_logs ', @fks));
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+ALTER TABLE activity_logs DROP PRIMARY KEY, ADD PRIMARY KEY (id, timestamp);
+
+SET @sql = CONCAT('ALTER TABLE activity_logs PARTITION BY RANGE COLUMNS(timestamp) (',
+                  'PARTITION p_initial VALUES LESS THAN (''', CURDATE(), ' 00:00:00''), ',
+                  'PARTITION pmax VALUES LESS THAN (MAXVALUE))');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 2. activities
+SET @fks = (SELECT GROUP_CONCAT(CONCAT('DROP FOREIGN KEY ', CONSTRAINT_NAME))
+            FROM information_schema.TABLE_CONSTRAINTS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'activities' AND CONSTRAINT_TYPE = 'FOREIGN KEY');
+SET @sql = IF(@fks IS NULL, 'DO 0', CONCAT('ALTER TABLE activities ', @fks));
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+ALTER TABLE activities DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at);
+
+SET @sql = CONCAT('ALTER TABLE activities PARTITION BY RANGE COLUMNS(created_at) (',
+                  'PARTITION p_initial VALUES LESS THAN (''', CURDATE(), ' 00:00:00''), ',
+                  'PARTITION pmax VALUES LESS THAN (MAXVALUE))');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
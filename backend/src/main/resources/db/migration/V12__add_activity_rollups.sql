@@ -0,0 +1,24 @@
+-- 대시보드용 (날짜, 사이트, 프로젝트, 사용자, 유형)별 활동 건수 집계
+-- 프로젝트와 무관한 활동은 site_id, project_id 를 0으로 둔다 (NULL은 유니크 키로 묶이지 않음)
+
+CREATE TABLE activity_rollups (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    activity_date DATE NOT NULL,
+    site_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    type VARCHAR(30) NOT NULL,
+    activity_count BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_activity_rollup UNIQUE (activity_date, site_id, project_id, user_id, type)
+);
+
+CREATE INDEX idx_activity_rollup_site_date ON activity_rollups (site_id, activity_date);
+CREATE INDEX idx_activity_rollup_project_date ON activity_rollups (project_id, activity_date);
+
+-- 남아 있는 활동 내역으로 초기 집계를 채운다 (이후는 애플리케이션이 증분으로 더함)
+INSERT INTO activity_rollups (activity_date, site_id, project_id, user_id, type, activity_count)
+SELECT DATE(a.timestamp), COALESCE(p.site_id, 0), COALESCE(a.project_id, 0), a.user_id, a.type, COUNT(*)
+FROM activity_logs a
+LEFT JOIN project p ON p.id = a.project_id
+GROUP BY DATE(a.timestamp), COALESCE(p.site_id, 0), COALESCE(a.project_id, 0), a.user_id, a.type;
@@ -0,0 +1,32 @@
+-- activity_logs 를 유일한 활동 이벤트 저장소로 사용한다.
+-- 사용자별 활동(activities)과 최근 작업(recent_works)은 activity_logs 에서 만들어 보여주므로 따로 쓰지 않는다.
+-- recent_works 는 같은 행동에 대해 activity_logs 와 함께 쓰이던 사본이므로 옮기지 않고,
+-- activities 의 행만 activity_logs 로 옮긴다 (ID는 activity_logs_seq 가 나눠 준 범위 뒤에서 시작).
+
+SET @base = (SELECT GREATEST(COALESCE((SELECT MAX(id) FROM activity_logs), 0),
+                             COALESCE((SELECT MAX(next_val) FROM activity_logs_seq), 0)));
+
+-- 상태 변경은 activities.content 에 "상태:제목" 으로 들어 있으므로 상태는 status_change, 제목은 content 로 나눈다
+INSERT INTO activity_logs (id, user_id, type, title, content, status_change, target_page, timestamp)
+SELECT @base + ROW_NUMBER() OVER (ORDER BY a.id), a.user_id, a.type,
+       LEFT(IF(a.type = 'ISSUE_STATUS_CHANGE' AND LOCATE(':', a.content) > 0,
+               SUBSTRING(a.content, LOCATE(':', a.content) + 1), a.content), 255),
+       IF(a.type = 'ISSUE_STATUS_CHANGE' AND LOCATE(':', a.content) > 0,
+          SUBSTRING(a.content, LOCATE(':', a.content) + 1), a.content),
+       IF(a.type = 'ISSUE_STATUS_CHANGE' AND LOCATE(':', a.content) > 0,
+          SUBSTRING_INDEX(a.content, ':', 1), NULL),
+       a.target_url, a.created_at
+FROM activities a;
+
+-- 옮긴 행도 집계에 더한다 (프로젝트와 무관한 활동)
+INSERT INTO activity_rollups (activity_date, site_id, project_id, user_id, type, activity_count)
+SELECT DATE(a.created_at), 0, 0, a.user_id, a.type, COUNT(*)
+FROM activities a
+GROUP BY DATE(a.created_at), a.user_id, a.type
+ON DUPLICATE KEY UPDATE activity_count = activity_count + VALUES(activity_count);
+
+UPDATE activity_logs_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM activity_logs));
+
+DROP TABLE activities;
+DROP TABLE recent_works;
+DROP TABLE IF EXISTS recent_works_seq;
@@ -0,0 +1,3 @@
+-- 프로젝트별 변경 버전 (폴링 ETag, 보드 델타 동기화)
+-- 노드마다 메모리에 두던 버전을 DB로 옮겨, 쓰기를 받지 않은 노드도 같은 버전을 본다
+ALTER TABLE project ADD COLUMN board_version BIGINT DEFAULT 0;
@@ -0,0 +1 @@
+ALTER TABLE users ADD COLUMN membership_version BIGINT DEFAULT 0;
@@ -0,0 +1,9 @@
+CREATE TABLE verification_codes (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    code_key VARCHAR(255) NOT NULL,
+    code VARCHAR(10) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    UNIQUE KEY unique_code_key (code_key),
+    INDEX idx_verification_codes_expires_at (expires_at)
+);
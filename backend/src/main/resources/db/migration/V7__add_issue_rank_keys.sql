@@ -0,0 +1,34 @@
+-- 칼럼 내 순서를 문자열 순위 키로 전환
+-- 키 형식: 5자리 36진수 위치 번호 + 'i' (RankKeys.initial 과 동일)
+
+-- 1. 이슈 기본 순위 키 (모든 사용자가 공유)
+ALTER TABLE issues ADD COLUMN rank_key VARCHAR(64) COLLATE utf8mb4_bin NULL;
+
+UPDATE issues i
+JOIN (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY column_id ORDER BY order_index, id) AS rn
+    FROM issues
+) r ON r.id = i.id
+SET i.rank_key = CONCAT(LPAD(LOWER(CONV(r.rn, 10, 36)), 5, '0'), 'i');
+
+CREATE INDEX idx_issues_column_rank ON issues (column_id, rank_key);
+
+-- 2. 사용자별 순위 키 오버라이드
+ALTER TABLE user_issue_orders ADD COLUMN rank_key VARCHAR(64) COLLATE utf8mb4_bin NULL;
+
+-- 이슈의 현재 칼럼이 아닌 칼럼에 남은 순서 행은 더 이상 쓰이지 않음
+DELETE uo FROM user_issue_orders uo
+JOIN issues i ON i.id = uo.issue_id
+WHERE uo.column_id <> i.column_id;
+
+UPDATE user_issue_orders uo
+JOIN (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY user_id, column_id ORDER BY order_index, issue_id) AS rn
+    FROM user_issue_orders
+) r ON r.id = uo.id
+SET uo.rank_key = CONCAT(LPAD(LOWER(CONV(r.rn, 10, 36)), 5, '0'), 'i');
+
+-- 기본 순서와 같은 위치인 행은 오버라이드가 필요 없으므로 삭제 (직접 순서를 바꾼 사용자의 행만 남음)
+DELETE uo FROM user_issue_orders uo
+JOIN issues i ON i.id = uo.issue_id
+WHERE uo.rank_key = i.rank_key;
@@ -0,0 +1,21 @@
+-- 이슈 상태 ↔ 보드 칼럼 명시적 매핑 (칼럼 이름을 바꿔도 상태 변경 시 올바른 칼럼으로 이동)
+
+-- 1. 칼럼이 대응하는 기본 상태
+ALTER TABLE board_columns ADD COLUMN status VARCHAR(20) NULL;
+
+-- 기존 기본 칼럼은 이름으로 상태를 채운다
+UPDATE board_columns
+SET status = CASE title
+    WHEN 'To Do' THEN 'TODO'
+    WHEN 'In Progress' THEN 'IN_PROGRESS'
+    WHEN 'Done' THEN 'DONE'
+    WHEN 'Hold' THEN 'HOLD'
+END
+WHERE status IS NULL;
+
+CREATE INDEX idx_board_columns_project_status ON board_columns (project_id, status);
+
+-- 2. 커스텀 상태가 대응하는 칼럼
+ALTER TABLE custom_issue_statuses ADD COLUMN column_id BIGINT NULL;
+ALTER TABLE custom_issue_statuses
+    ADD CONSTRAINT fk_custom_issue_statuses_column FOREIGN KEY (column_id) REFERENCES board_columns(id);
@@ -0,0 +1,24 @@
+-- 대량 저장 엔티티의 ID를 풀링 시퀀스로 전환 (IDENTITY는 Hibernate INSERT 배치를 막는다)
+-- MySQL에는 시퀀스가 없어 Hibernate가 단일 행 테이블(next_val)을 시퀀스로 쓴다.
+-- 풀링 최적화기는 next_val - 49 부터 50개씩 ID를 나눠 주므로 기존 최대 ID + 50에서 시작한다.
+-- (IdSequenceInitializer도 기동 시 같은 보정을 수행한다)
+
+CREATE TABLE IF NOT EXISTS issues_seq (next_val BIGINT);
+INSERT INTO issues_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM issues_seq);
+UPDATE issues_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM issues));
+
+CREATE TABLE IF NOT EXISTS activity_logs_seq (next_val BIGINT);
+INSERT INTO activity_logs_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM activity_logs_seq);
+UPDATE activity_logs_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM activity_logs));
+
+CREATE TABLE IF NOT EXISTS notifications_seq (next_val BIGINT);
+INSERT INTO notifications_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM notifications_seq);
+UPDATE notifications_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM notifications));
+
+CREATE TABLE IF NOT EXISTS recent_works_seq (next_val BIGINT);
+INSERT INTO recent_works_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM recent_works_seq);
+UPDATE recent_works_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM recent_works));
+
+CREATE TABLE IF NOT EXISTS project_members_seq (next_val BIGINT);
+INSERT INTO project_members_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM project_members_seq);
+UPDATE project_members_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM project_members));
@@ -0,0 +1,73 @@
+package com.example.softwareengineering.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 로딩 도중 제거가 일어나면 (예: 멤버 제거 커밋 후 무효화) 낡은 값을 캐시에 다시 넣지 않는지 확인.
+ */
+class TtlLruCacheTest {
+
+    @Test
+    void cachesLoadedValue() {
+        TtlLruCache<Long, String> cache = new TtlLruCache<>(10, 60_000);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("v1", cache.getOrLoad(1L, key -> "v" + loads.incrementAndGet()));
+        assertEquals("v1", cache.getOrLoad(1L, key -> "v" + loads.incrementAndGet()));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void loadRacingWithEvictionIsNotCached() {
+        TtlLruCache<Long, String> cache = new TtlLruCache<>(10, 60_000);
+
+        // DB에서 이전 값을 읽은 뒤, 결과를 넣기 전에 무효화가 끝난 경우
+        String stale = cache.getOrLoad(1L, key -> {
+            cache.remove(key);
+            return "MEMBER";
+        });
+
+        assertEquals("MEMBER", stale, "호출한 쪽은 읽은 값을 그대로 받는다");
+        assertNull(cache.get(1L), "낡은 값은 캐시에 남지 않아야 합니다.");
+        assertEquals("NONE", cache.getOrLoad(1L, key -> "NONE"));
+        assertEquals("NONE", cache.get(1L));
+    }
+
+    @Test
+    void bulkEvictionAlsoDiscardsInFlightLoads() {
+        TtlLruCache<Long, String> cache = new TtlLruCache<>(10, 60_000);
+
+        cache.getOrLoad(1L, key -> {
+            cache.removeIf(other -> other > 100);
+            return "old";
+        });
+
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void batchLoadRacingWithClearIsNotCached() {
+        TtlLruCache<Long, String> cache = new TtlLruCache<>(10, 60_000);
+        cache.put(1L, "cached");
+
+        // 1번은 캐시에서, 2번은 읽는 도중 전체 비우기(BOARD_RESET)가 끝난 경우
+        Map<Long, String> result = cache.getAllOrLoad(List.of(1L, 2L), missing -> {
+            assertEquals(Set.of(2L), missing);
+            cache.clear();
+            return Map.of(2L, "old");
+        });
+
+        assertEquals(Map.of(1L, "cached", 2L, "old"), result);
+        assertNull(cache.get(2L));
+        assertEquals(Map.of(2L, "new"), cache.getAllOrLoad(List.of(2L), missing -> Map.of(2L, "new")));
+        assertEquals("new", cache.get(2L));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.softwareengineering.repository;
+
+import com.example.softwareengineering.entity.*;
+import com.example.softwareengineering.support.H2DataJpaTest;
+import com.example.softwareengineering.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 대량 INSERT의 SQL 왕복 수 비교: IDENTITY 키(행마다 왕복) / 풀링 시퀀스 + 배치 끔 / 풀링 시퀀스 + JDBC 배치.
+ * IDENTITY 기준은 아직 IDENTITY를 쓰는 UserIssueOrder, 나머지는 풀링 시퀀스로 바꾼 Notification으로 센다.
+ */
+@H2DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+    "spring.jpa.properties.hibernate.order_inserts=true"
+})
+class BulkInsertBenchmarkTest {
+    private static final int ROWS = 2000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void pooledIdsWithBatchingCutRoundTrips() {
+        TestFixtures fixtures = new TestFixtures(entityManager);
+        User user = fixtures.user("bulk");
+        Project project = fixtures.project(user, "bulk", "BLK");
+        BoardColumn column = fixtures.column(project, "To Do", 1);
+        Issue issue = fixtures.issue(column, user, "bulk", null);
+
+        // 시퀀스 첫 할당은 세지 않도록 미리 한 번
+        count(200, 50, i -> persistNotification(user, i));
+
+        long identity = count(ROWS, 50, i -> entityManager.persist(UserIssueOrder.builder()
+            .user(user).issue(issue).project(project).column(column).orderIndex(i).build()));
+        long pooledUnbatched = count(ROWS, 1, i -> persistNotification(user, i));
+        long pooledBatched = count(ROWS, 50, i -> persistNotification(user, i));
+
+        // IDENTITY는 키를 받기 위해 행마다 즉시 INSERT
+        assertEquals(ROWS, identity);
+        assertTrue(pooledUnbatched >= ROWS, "배치를 끄면 행마다 INSERT");
+        // 배치 50개당 INSERT 한 번 + 시퀀스 할당 50개당 한 번
+        assertTrue(pooledBatched <= 2 * (ROWS / 50) + 2, "풀링 시퀀스 + 배치는 50행당 왕복 두 번 이하: " + pooledBatched);
+    }
+
+    private void persistNotification(User user, int i) {
+        entityManager.persist(Notification.builder().user(user).type(NotificationType.COMMENT)
+            .content("notification " + i).targetUrl("/notifications/" + i).build());
+    }
+
+    private long count(int rows, int batchSize, IntConsumer insert) {
+        entityManager.flush();
+        entityManager.clear();
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(batchSize);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        for (int i = 0; i < rows; i++) {
+            insert.accept(i);
+        }
+        entityManager.flush();
+
+        long statements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        return statements;
+    }
+}
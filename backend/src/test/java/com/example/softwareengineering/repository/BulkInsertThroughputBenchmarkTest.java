@@ -0,0 +1,88 @@
+package com.example.softwareengineering.repository;
+
+import com.example.softwareengineering.entity.*;
+import com.example.softwareengineering.support.H2DataJpaTest;
+import com.example.softwareengineering.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 대량 INSERT 처리량 비교 (./gradlew benchmark 로 실행).
+ * 기존 경로(IDENTITY 키, 행마다 왕복)는 UserIssueOrder로, 변경 경로(풀링 시퀀스 + JDBC 배치)는 Notification으로
+ * 같은 행 수를 넣고 rows/sec를 출력한다. 라운드마다 측정해 가장 좋은 값을 쓴다.
+ * 인메모리 H2라 네트워크 왕복 비용이 없으므로 실제 DB에서는 차이가 더 벌어진다.
+ */
+@Tag("benchmark")
+@H2DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+    "spring.jpa.properties.hibernate.order_inserts=true",
+    "spring.jpa.properties.hibernate.generate_statistics=false"
+})
+class BulkInsertThroughputBenchmarkTest {
+    private static final int ROWS = 20_000;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void rowsPerSecond() {
+        TestFixtures fixtures = new TestFixtures(entityManager);
+        User user = fixtures.user("bulk");
+        Project project = fixtures.project(user, "bulk", "BLK");
+        BoardColumn column = fixtures.column(project, "To Do", 1);
+        Issue issue = fixtures.issue(column, user, "bulk", null);
+
+        // 워밍업 (JIT, 시퀀스 첫 할당)
+        measure(2000, 50, i -> persistOrder(user, issue, project, column, i));
+        measure(2000, 50, i -> persistNotification(user, i));
+
+        double identity = 0;
+        double pooledBatched = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            identity = Math.max(identity, measure(ROWS, 50, i -> persistOrder(user, issue, project, column, i)));
+            pooledBatched = Math.max(pooledBatched, measure(ROWS, 50, i -> persistNotification(user, i)));
+        }
+
+        System.out.printf("bulk insert %d rows: identity=%.0f rows/sec, pooled+batch50=%.0f rows/sec (x%.1f)%n",
+            ROWS, identity, pooledBatched, pooledBatched / identity);
+        assertTrue(pooledBatched > identity, "풀링 시퀀스 + 배치가 IDENTITY보다 빨라야 합니다.");
+    }
+
+    private void persistOrder(User user, Issue issue, Project project, BoardColumn column, int i) {
+        entityManager.persist(UserIssueOrder.builder()
+            .user(user).issue(issue).project(project).column(column).orderIndex(i).build());
+    }
+
+    private void persistNotification(User user, int i) {
+        entityManager.persist(Notification.builder().user(user).type(NotificationType.COMMENT)
+            .content("notification " + i).targetUrl("/notifications/" + i).build());
+    }
+
+    private double measure(int rows, int batchSize, IntConsumer insert) {
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+        long started = System.nanoTime();
+        for (int i = 0; i < rows; i++) {
+            insert.accept(i);
+            // 영속성 컨텍스트가 커지는 비용은 두 경로 모두 배치 크기마다 비워 빼낸다
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        long elapsedNanos = System.nanoTime() - started;
+        entityManager.clear();
+        return rows / (elapsedNanos / 1_000_000_000.0);
+    }
+}
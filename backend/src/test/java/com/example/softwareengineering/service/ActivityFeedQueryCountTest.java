@@ -0,0 +1,131 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.dto.ActivityDto;
+import com.example.softwareengineering.dto.ActivityFeedPage;
+import com.example.softwareengineering.entity.*;
+import com.example.softwareengineering.support.H2DataJpaTest;
+import com.example.softwareengineering.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 활동 내역 피드의 쿼리 수가 페이지 크기, 페이지 깊이와 무관한지 확인한다.
+ * (ID 키셋 조회 + 본문 일괄 조회 + 이슈 제목 일괄 조회, 다시 읽으면 제목은 캐시에서)
+ */
+@H2DataJpaTest
+@Import({ActivityLogService.class, ActivityService.class, IssueTitleCache.class, DataRetentionService.class,
+    ActivityRollupService.class})
+class ActivityFeedQueryCountTest {
+    private static final int ISSUES = 100;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ActivityLogService activityLogService;
+
+    @Autowired
+    private ActivityService activityService;
+
+    @Test
+    void feedQueriesDoNotScaleWithPageSize() {
+        Site site = createFeed();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        ActivityFeedPage page = activityLogService.getSiteMembersActivities(site.getId(), null, ISSUES);
+        long firstRead = statistics.getPrepareStatementCount();
+
+        assertEquals(ISSUES, page.items().size());
+        assertNull(page.nextCursor());
+        assertTrue(page.items().stream().allMatch(dto -> dto.getIssueName() != null && dto.getIssueName().startsWith("issue ")));
+        assertEquals(3, firstRead, "ID 조회 + 본문 조회 + 이슈 제목 일괄 조회");
+
+        entityManager.clear();
+        statistics.clear();
+        activityLogService.getSiteMembersActivities(site.getId(), null, ISSUES);
+        assertEquals(2, statistics.getPrepareStatementCount(), "이슈 제목은 캐시에서");
+    }
+
+    @Test
+    void keysetPagesWalkWholeFeedAtConstantCost() {
+        Site site = createFeed();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            entityManager.clear();
+            statistics.clear();
+            ActivityFeedPage page = activityLogService.getSiteMembersActivities(site.getId(), cursor, 10);
+            assertTrue(statistics.getPrepareStatementCount() <= 3, "페이지 깊이와 무관: " + statistics.getPrepareStatementCount());
+            page.items().forEach(dto -> seen.add(dto.getId()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(ISSUES / 10, pages);
+        assertEquals(ISSUES, seen.size());
+        assertEquals(ISSUES, new HashSet<>(seen).size(), "페이지 사이에 중복/누락 없음");
+    }
+
+    @Test
+    void recentWorksAndUserActivitiesAreProjectedFromSameRows() {
+        Site site = createFeed();
+        Long userId = entityManager.createQuery("SELECT u.id FROM User u WHERE u.userId = 'feed'", Long.class)
+            .getSingleResult();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        List<Map<String, Object>> recentWorks = activityLogService.getRecentWorks(userId, site.getId());
+        assertEquals(50, recentWorks.size());
+        assertEquals("이슈 생성 - issue " + (ISSUES - 1), recentWorks.get(0).get("description"));
+        assertEquals(3, statistics.getPrepareStatementCount(), "ID 조회 + 본문 조회 + 이슈 제목 일괄 조회");
+
+        entityManager.clear();
+        statistics.clear();
+        Page<ActivityDto> activities = activityService.getActivities(userId, PageRequest.of(1, 20));
+        assertEquals(ISSUES, activities.getTotalElements());
+        assertEquals(20, activities.getContent().size());
+        assertEquals("issue " + (ISSUES - 21), activities.getContent().get(0).getContent());
+        assertTrue(statistics.getPrepareStatementCount() <= 3, "ID 조회 + 건수 + 본문 조회 (이슈 제목은 캐시에서)");
+    }
+
+    private Site createFeed() {
+        TestFixtures fixtures = new TestFixtures(entityManager);
+        User user = fixtures.user("feed");
+        Project project = fixtures.project(user, "feed", "FED");
+        BoardColumn column = fixtures.column(project, "To Do", 1);
+        for (int i = 0; i < ISSUES; i++) {
+            Issue issue = fixtures.issue(column, user, "issue " + i, null);
+            ActivityLog activityLog = new ActivityLog();
+            activityLog.setUser(user);
+            activityLog.setProject(project);
+            activityLog.setType(ActivityType.ISSUE_CREATE);
+            activityLog.setTitle(issue.getTitle());
+            activityLog.setIssueId(issue.getId());
+            entityManager.persist(activityLog);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return project.getSite();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.dto.ActivityContributorCount;
+import com.example.softwareengineering.dto.ActivityDailyCount;
+import com.example.softwareengineering.dto.ActivityTypeDailyCount;
+import com.example.softwareengineering.entity.ActivityType;
+import com.example.softwareengineering.entity.Project;
+import com.example.softwareengineering.entity.Site;
+import com.example.softwareengineering.entity.User;
+import com.example.softwareengineering.event.ActivityRecordedEvent;
+import com.example.softwareengineering.support.H2DataJpaTest;
+import com.example.softwareengineering.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 메모리 카운터를 여러 번 반영해도 같은 (날짜, 프로젝트, 사용자, 유형) 행에 더해지고,
+ * 조회는 집계 행만으로 원본 활동 건수와 같은 값을 돌려주는지 확인한다.
+ */
+@H2DataJpaTest
+@Import(ActivityRollupService.class)
+class ActivityRollupServiceTest {
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ActivityRollupService activityRollupService;
+
+    @Test
+    void repeatedFlushesMergeIntoSameRows() {
+        TestFixtures fixtures = new TestFixtures(entityManager);
+        User alice = fixtures.user("alice");
+        User bob = fixtures.user("bob");
+        Project project = fixtures.project(alice, "rollup", "ROL");
+        Site site = project.getSite();
+        entityManager.flush();
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            activityRollupService.count(event(alice, project, ActivityType.ISSUE_CREATE, now));
+        }
+        activityRollupService.count(event(bob, project, ActivityType.ISSUE_CREATE, now.minusDays(1)));
+        activityRollupService.flush();
+        for (int i = 0; i < 3; i++) {
+            activityRollupService.count(event(alice, project, ActivityType.ISSUE_CREATE, now));
+        }
+        activityRollupService.count(event(bob, project, ActivityType.COMMENT_CREATE, now));
+        activityRollupService.count(event(bob, null, ActivityType.COMMENT_CREATE, now));
+        activityRollupService.flush();
+
+        assertEquals(4, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM activity_rollups", Long.class),
+            "반영 횟수와 무관하게 (날짜, 프로젝트, 사용자, 유형)당 한 행");
+        assertEquals(11, jdbcTemplate.queryForObject("SELECT SUM(activity_count) FROM activity_rollups", Long.class));
+
+        List<ActivityDailyCount> siteDaily = activityRollupService.getSiteDailyCounts(site.getId(), 7);
+        assertEquals(2, siteDaily.size());
+        assertEquals(1L, siteDaily.get(0).count());
+        assertEquals(9L, siteDaily.get(1).count());
+
+        List<ActivityTypeDailyCount> projectDaily = activityRollupService.getProjectDailyCounts(project.getId(), 1);
+        assertEquals(2, projectDaily.size(), "오늘의 유형별 건수만");
+
+        List<ActivityContributorCount> top = activityRollupService.getSiteTopContributors(site.getId(), 30, 1);
+        assertEquals(1, top.size());
+        assertEquals("alice", top.get(0).userName());
+        assertEquals(8L, top.get(0).count());
+    }
+
+    private static ActivityRecordedEvent event(User user, Project project, ActivityType type, LocalDateTime timestamp) {
+        return new ActivityRecordedEvent(user.getId(), type, "activity", null,
+            project != null ? project.getId() : null, null, null, null, null, timestamp);
+    }
+}
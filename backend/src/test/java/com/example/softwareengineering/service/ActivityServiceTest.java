@@ -0,0 +1,61 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.dto.ActivityDto;
+import com.example.softwareengineering.entity.ActivityLog;
+import com.example.softwareengineering.entity.ActivityType;
+import com.example.softwareengineering.entity.User;
+import com.example.softwareengineering.support.H2DataJpaTest;
+import com.example.softwareengineering.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * activities 에서 옮겨 온 상태 변경 행도 "상태:제목" 형식으로 보이는지 확인.
+ */
+@H2DataJpaTest
+@Import({ActivityLogService.class, ActivityService.class, IssueTitleCache.class, DataRetentionService.class,
+    ActivityRollupService.class})
+class ActivityServiceTest {
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ActivityService activityService;
+
+    @Test
+    void migratedStatusChangeRowsKeepLegacyFormat() {
+        User user = new TestFixtures(entityManager).user("legacy");
+        LocalDateTime now = LocalDateTime.now();
+        // V13 이 나눠 넣은 행: 상태는 status_change, 제목은 content
+        persist(user, "로그인 화면", "DONE", now.minusMinutes(2));
+        // 상태가 content 에 그대로 남은 행 (status_change 없음)
+        persist(user, "IN_PROGRESS:회원가입", null, now.minusMinutes(1));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ActivityDto> activities = activityService.getActivities(user.getId(), PageRequest.of(0, 10)).getContent();
+
+        assertEquals(2, activities.size());
+        assertEquals("IN_PROGRESS:회원가입", activities.get(0).getContent());
+        assertEquals("DONE:로그인 화면", activities.get(1).getContent());
+    }
+
+    private void persist(User user, String content, String statusChange, LocalDateTime timestamp) {
+        ActivityLog activityLog = new ActivityLog();
+        activityLog.setUser(user);
+        activityLog.setType(ActivityType.ISSUE_STATUS_CHANGE);
+        activityLog.setTitle(content);
+        activityLog.setContent(content);
+        activityLog.setStatusChange(statusChange);
+        activityLog.setTimestamp(timestamp);
+        entityManager.persist(activityLog);
+    }
+}
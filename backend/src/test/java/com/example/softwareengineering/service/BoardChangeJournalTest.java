@@ -0,0 +1,151 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.dto.BoardOrderRow;
+import com.example.softwareengineering.event.BoardChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 델타 동기화 기록: 기록으로 알 수 없는 구간(상한 초과, 보드 초기화, 기록 없음)은 전체 보드를 요구하고,
+ * 그 밖에는 since 이후 변경만 기록 순서대로 돌려주는지 확인한다.
+ */
+class BoardChangeJournalTest {
+    private static final Long PROJECT = 1L;
+    private static final long START = 100;
+
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    private ProjectVersionService projectVersionService;
+
+    @BeforeEach
+    void setUp() {
+        projectVersionService = mock(ProjectVersionService.class);
+        when(projectVersionService.currentVersion(anyLong()))
+            .thenAnswer(call -> versions.getOrDefault(call.<Long>getArgument(0), START));
+        when(projectVersionService.bump(anyLong()))
+            .thenAnswer(call -> versions.merge(call.<Long>getArgument(0), START + 1, (old, one) -> old + 1));
+    }
+
+    @Test
+    void withoutJournalOnlyCurrentVersionIsKnown() {
+        BoardChangeJournal journal = new BoardChangeJournal(projectVersionService, 10, 10);
+
+        assertFalse(journal.changesSince(PROJECT, START, "kim").full());
+        assertTrue(journal.changesSince(PROJECT, START - 1, "kim").full());
+    }
+
+    @Test
+    void overflowForcesFullSnapshotForOlderVersions() {
+        BoardChangeJournal journal = new BoardChangeJournal(projectVersionService, 10, 3);
+        long first = journal.record(BoardChangedEvent.issueSaved(PROJECT, 1L));
+        long second = journal.record(BoardChangedEvent.issueSaved(PROJECT, 2L));
+        journal.record(BoardChangedEvent.issueSaved(PROJECT, 3L));
+        journal.record(BoardChangedEvent.issueSaved(PROJECT, 4L));
+        long last = journal.record(BoardChangedEvent.issueSaved(PROJECT, 5L));
+
+        // 1, 2번 기록이 밀려났으므로 그 이전 버전에서는 델타를 만들 수 없다
+        BoardChangeJournal.Changes gap = journal.changesSince(PROJECT, first, "kim");
+        assertTrue(gap.full());
+        assertEquals(last, gap.version());
+        assertTrue(journal.changesSince(PROJECT, START, "kim").full());
+
+        BoardChangeJournal.Changes delta = journal.changesSince(PROJECT, second, "kim");
+        assertFalse(delta.full());
+        assertEquals(List.of(3L, 4L, 5L), List.copyOf(delta.changedIssueIds()));
+    }
+
+    @Test
+    void boardResetDropsEarlierHistory() {
+        BoardChangeJournal journal = new BoardChangeJournal(projectVersionService, 10, 10);
+        long saved = journal.record(BoardChangedEvent.issueSaved(PROJECT, 1L));
+        long reset = journal.record(BoardChangedEvent.boardReset(PROJECT));
+
+        assertTrue(journal.changesSince(PROJECT, saved, "kim").full());
+        BoardChangeJournal.Changes none = journal.changesSince(PROJECT, reset, "kim");
+        assertFalse(none.full());
+        assertTrue(none.changedIssueIds().isEmpty());
+        assertEquals(reset, none.version());
+    }
+
+    @Test
+    void unknownFutureVersionForcesFullSnapshot() {
+        BoardChangeJournal journal = new BoardChangeJournal(projectVersionService, 10, 10);
+        long version = journal.record(BoardChangedEvent.issueSaved(PROJECT, 1L));
+
+        // 다른 서버나 재시작 전 버전처럼 현재보다 큰 버전
+        assertTrue(journal.changesSince(PROJECT, version + 1, "kim").full());
+    }
+
+    @Test
+    void versionBumpedByAnotherNodeForcesFullSnapshot() {
+        BoardChangeJournal journal = new BoardChangeJournal(projectVersionService, 10, 10);
+        long before = journal.record(BoardChangedEvent.issueSaved(PROJECT, 1L));
+
+        // 다른 노드의 변경으로 DB 버전만 올라간 상태
+        versions.merge(PROJECT, 1L, Long::sum);
+        assertTrue(journal.changesSince(PROJECT, before, "kim").full());
+
+        // 이 노드의 다음 변경부터는 다시 델타로 응답할 수 있다
+        long next = journal.record(BoardChangedEvent.issueSaved(PROJECT, 2L));
+        assertEquals(before + 2, next);
+        assertTrue(journal.changesSince(PROJECT, before, "kim").full());
+        BoardChangeJournal.Changes delta = journal.changesSince(PROJECT, next - 1, "kim");
+        assertFalse(delta.full());
+        assertEquals(List.of(2L), List.copyOf(delta.changedIssueIds()));
+    }
+
+    @Test
+    void evictedProjectJournalForcesFullSnapshot() {
+        BoardChangeJournal journal = new BoardChangeJournal(projectVersionService, 1, 10);
+        long before = journal.record(BoardChangedEvent.issueSaved(PROJECT, 1L));
+        journal.record(BoardChangedEvent.issueSaved(PROJECT, 2L));
+        journal.record(BoardChangedEvent.issueSaved(2L, 3L));
+
+        assertTrue(journal.changesSince(PROJECT, before, "kim").full());
+    }
+
+    @Test
+    void changesAreReturnedInRecordedOrderAfterSince() {
+        BoardChangeJournal journal = new BoardChangeJournal(projectVersionService, 10, 10);
+        long since = journal.record(BoardChangedEvent.issueSaved(PROJECT, 9L));
+        long created = journal.record(BoardChangedEvent.issueCreated(PROJECT, 3L));
+        long moved = journal.record(BoardChangedEvent.issueMoved(PROJECT, 1L));
+        long saved = journal.record(BoardChangedEvent.issueSaved(PROJECT, 2L));
+        journal.record(BoardChangedEvent.issueSaved(PROJECT, 3L));
+        journal.record(BoardChangedEvent.issueSaved(PROJECT, 4L));
+        long deleted = journal.record(BoardChangedEvent.issueDeleted(PROJECT, 4L));
+        journal.record(BoardChangedEvent.ordersChanged(PROJECT, "kim",
+            List.of(new BoardOrderRow(5L, 10L, "00001i"), new BoardOrderRow(6L, 10L, "00002i"))));
+        long last = journal.record(BoardChangedEvent.ordersChanged(PROJECT, "lee",
+            List.of(new BoardOrderRow(7L, 10L, "00001i"))));
+
+        // 버전은 기록 순서대로 1씩 증가
+        assertEquals(List.of(since + 1, since + 2, since + 3), List.of(created, moved, saved));
+        assertEquals(since + 8, last);
+
+        BoardChangeJournal.Changes changes = journal.changesSince(PROJECT, since, "kim");
+        assertFalse(changes.full());
+        assertEquals(last, changes.version());
+        // since 이전 변경(9번)은 빠지고, 같은 이슈가 여러 번 바뀌어도 처음 바뀐 순서로 한 번만
+        assertEquals(List.of(3L, 1L, 2L), List.copyOf(changes.changedIssueIds()));
+        // 삭제된 이슈는 변경 목록이 아니라 삭제 목록에만
+        assertEquals(List.of(4L), List.copyOf(changes.deletedIssueIds()));
+        // 칼럼 이동 + 본인의 순서 변경만 (다른 사용자의 순서 변경 7번은 제외)
+        assertEquals(List.of(1L, 5L, 6L), List.copyOf(changes.reorderedIssueIds()));
+
+        BoardChangeJournal.Changes later = journal.changesSince(PROJECT, deleted, "lee");
+        assertTrue(later.changedIssueIds().isEmpty());
+        assertEquals(List.of(7L), List.copyOf(later.reorderedIssueIds()));
+        assertTrue(journal.changesSince(PROJECT, last, "kim").reorderedIssueIds().isEmpty());
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.event.BoardChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 서버 한 대의 SSE 구독자 수용량 측정 (./gradlew benchmark 로 실행).
+ * 기본 설정(구독자 5000, 전송 스레드 4)으로 구독자를 채운 뒤 프로젝트마다 변경을 발행해
+ * 구독자당 메모리, 발행 → 전체 전달 시간과 초당 전달 건수를 출력한다.
+ */
+@Tag("benchmark")
+class BoardEventHubBenchmarkTest {
+    private static final int SUBSCRIBERS = 5000;
+    private static final int PROJECTS = 50;
+    private static final int EVENTS_PER_PROJECT = 40;
+
+    @Test
+    void subscriberCapacity() throws Exception {
+        AtomicLong delivered = new AtomicLong();
+        BoardEventHub hub = new BoardEventHub(new ObjectMapper(), SUBSCRIBERS, 64, 1_800_000, 15_000, 4, 2000) {
+            @Override
+            SseEmitter newEmitter(long timeout) {
+                return new SseEmitter(timeout) {
+                    @Override
+                    public void send(SseEventBuilder builder) {
+                        builder.build(); // 직렬화된 메시지를 응답에 쓰는 비용만 남김
+                        delivered.incrementAndGet();
+                    }
+                };
+            }
+        };
+        try {
+            Runtime runtime = Runtime.getRuntime();
+            System.gc();
+            long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+            for (int i = 0; i < SUBSCRIBERS; i++) {
+                hub.subscribe((long) (i % PROJECTS), "user-" + i, 0);
+            }
+            awaitDelivered(delivered, SUBSCRIBERS);
+            System.gc();
+            long heapPerSubscriber = (runtime.totalMemory() - runtime.freeMemory() - heapBefore) / SUBSCRIBERS;
+
+            delivered.set(0);
+            long expected = (long) SUBSCRIBERS * EVENTS_PER_PROJECT;
+            long startedAt = System.nanoTime();
+            for (int version = 1; version <= EVENTS_PER_PROJECT; version++) {
+                for (long projectId = 0; projectId < PROJECTS; projectId++) {
+                    hub.publish(BoardChangedEvent.issueSaved(projectId, (long) version), version);
+                }
+            }
+            awaitDelivered(delivered, expected);
+            long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+            System.out.printf("SSE capacity: subscribers=%d, heap/subscriber=%dB, delivered=%d in %dms (%d events/s), slowDisconnects=%s%n",
+                SUBSCRIBERS, heapPerSubscriber, expected, elapsedMs, expected * 1000 / elapsedMs,
+                hub.getStats().get("slowDisconnects"));
+            assertEquals(SUBSCRIBERS, hub.getStats().get("subscribers"), "정상 구독자는 끊기지 않아야 합니다.");
+        } finally {
+            hub.shutdown();
+        }
+    }
+
+    private static void awaitDelivered(AtomicLong delivered, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (delivered.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(delivered.get() >= expected, "전달 완료: " + delivered.get() + "/" + expected);
+    }
+}
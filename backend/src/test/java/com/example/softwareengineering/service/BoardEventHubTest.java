@@ -0,0 +1,77 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.event.BoardChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 전송이 막힌 구독자 하나가 전송 스레드를 잡고 있어도 다른 프로젝트 구독자는 계속 이벤트를 받는지 확인.
+ */
+class BoardEventHubTest {
+    private static final long STALLED_PROJECT = 1L;
+    private static final long OTHER_PROJECT = 2L;
+
+    private final CountDownLatch unblock = new CountDownLatch(1);
+    private final AtomicInteger delivered = new AtomicInteger();
+    private final CountDownLatch otherReceivedTwo = new CountDownLatch(2);
+    private BoardEventHub hub;
+
+    @AfterEach
+    void tearDown() {
+        unblock.countDown();
+        hub.shutdown();
+    }
+
+    @Test
+    void stalledSubscriberDoesNotHoldUpOtherProjects() throws Exception {
+        // 전송 스레드 1개, 전송 한 번 최대 200ms
+        hub = new BoardEventHub(new ObjectMapper(), 100, 64, 60_000, 60_000, 1, 200) {
+            private final AtomicInteger created = new AtomicInteger();
+
+            @Override
+            SseEmitter newEmitter(long timeout) {
+                boolean stalled = created.incrementAndGet() == 1;
+                return new SseEmitter(timeout) {
+                    @Override
+                    public void send(SseEventBuilder builder) {
+                        if (stalled) {
+                            // 읽지 않는 클라이언트: 소켓 버퍼가 차서 쓰기가 풀리지 않음
+                            awaitQuietly(unblock);
+                            return;
+                        }
+                        delivered.incrementAndGet();
+                        otherReceivedTwo.countDown();
+                    }
+                };
+            }
+        };
+
+        hub.subscribe(STALLED_PROJECT, "slow", 0);
+        hub.subscribe(OTHER_PROJECT, "fast", 0);
+        hub.publish(BoardChangedEvent.issueSaved(OTHER_PROJECT, 10L), 1);
+
+        assertTrue(otherReceivedTwo.await(5, TimeUnit.SECONDS), "막힌 구독자와 무관하게 connected + 변경 이벤트를 받아야 합니다.");
+        assertEquals(2, delivered.get());
+        Map<String, Object> stats = hub.getStats();
+        assertEquals(1L, stats.get("stalledSends"));
+        assertEquals(1, stats.get("subscribers"), "막힌 구독자는 끊긴다");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.dto.BoardSnapshot;
+import com.example.softwareengineering.entity.*;
+import com.example.softwareengineering.repository.ProjectRepository;
+import com.example.softwareengineering.support.H2DataJpaTest;
+import com.example.softwareengineering.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 보드 조회가 이슈 수와 관계없이 같은 수의 SQL만 실행하고, 메모리에 올라간 뒤에는 프로젝트 버전만 확인하고 응답하는지 확인.
+ */
+@H2DataJpaTest
+@Import({BoardService.class, BoardReadModel.class, BoardChangeJournal.class, BoardEventHub.class, ProjectVersionService.class, JacksonAutoConfiguration.class})
+class BoardServiceQueryCountTest {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void boardSnapshotRunsConstantNumberOfStatements() {
+        long smallBoard = countStatements(createBoard("small", "SML", 3));
+        long largeBoard = countStatements(createBoard("large", "LRG", 120));
+
+        assertEquals(smallBoard, largeBoard);
+        assertEquals(4, largeBoard, "프로젝트 버전 확인 + 칼럼, 이슈, 사용자 순서 조회 세 번이어야 합니다.");
+    }
+
+    @Test
+    void hotBoardIsServedFromMemory() {
+        Long projectId = createBoard("hot", "HOT", 40);
+        long cold = countStatements(projectId);
+        long warm = countStatements(projectId);
+
+        assertEquals(4, cold);
+        assertEquals(1, warm, "메모리에 올라간 보드는 프로젝트 버전 확인만 하고 응답해야 합니다.");
+    }
+
+    @Test
+    void boardWrittenByAnotherNodeIsReloaded() {
+        Long projectId = createBoard("shared", "SHR", 4);
+        boardService.getBoardSnapshot(projectId, "viewer");
+
+        // 다른 노드가 이슈를 고치고 프로젝트 버전을 올린 경우 (이 노드에는 이벤트가 오지 않음)
+        entityManager.createQuery("UPDATE Issue i SET i.title = 'renamed' WHERE i.project.id = :projectId")
+            .setParameter("projectId", projectId).executeUpdate();
+        projectRepository.incrementBoardVersion(projectId);
+        entityManager.clear();
+
+        BoardSnapshot snapshot = boardService.getBoardSnapshot(projectId, "viewer");
+        assertTrue(snapshot.columns().stream().flatMap(column -> column.issues().stream())
+            .allMatch(card -> card.title().equals("renamed")), "DB 버전이 앞서 있으면 보드를 다시 읽어야 합니다.");
+        assertEquals(1, countStatements(projectId));
+    }
+
+    private long countStatements(Long projectId) {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        boardService.getBoardSnapshot(projectId, "viewer");
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Long createBoard(String name, String key, int issueCount) {
+        TestFixtures fixtures = new TestFixtures(entityManager);
+        User viewer = entityManager.createQuery("SELECT u FROM User u WHERE u.userId = 'viewer'", User.class)
+            .getResultStream().findFirst().orElseGet(() -> fixtures.user("viewer"));
+        User assignee = fixtures.user(key.toLowerCase() + "-assignee");
+        Project project = fixtures.project(viewer, name, key);
+
+        List<String> titles = List.of("To Do", "In Progress", "Done", "Hold");
+        BoardColumn[] columns = new BoardColumn[titles.size()];
+        for (int i = 0; i < titles.size(); i++) {
+            columns[i] = fixtures.column(project, titles.get(i), i + 1);
+        }
+
+        for (int i = 0; i < issueCount; i++) {
+            BoardColumn column = columns[i % columns.length];
+            Issue issue = fixtures.issue(column, viewer, "issue-" + i, RankKeys.initial(i + 1));
+            issue.setAssignee(i % 2 == 0 ? assignee : null);
+            // 일부 이슈만 사용자 순서를 가짐
+            if (i % 3 == 0) {
+                entityManager.persist(UserIssueOrder.builder().user(viewer).issue(issue).project(project)
+                    .column(column).orderIndex(issueCount - i).rankKey(RankKeys.initial(issueCount - i)).build());
+            }
+        }
+        return project.getId();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.entity.ActivityLog;
+import com.example.softwareengineering.entity.ActivityType;
+import com.example.softwareengineering.entity.EmailVerification;
+import com.example.softwareengineering.entity.PasswordResetToken;
+import com.example.softwareengineering.entity.User;
+import com.example.softwareengineering.support.H2DataJpaTest;
+import com.example.softwareengineering.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 파티션 정보가 없는 DB(H2)에서는 partition 모드여도 ID 구간 단위 삭제로 보존 기간을 적용하고,
+ * 만료 시각 칼럼을 가진 테이블도 같은 정책 방식으로 정리되는지 확인한다.
+ */
+@H2DataJpaTest(properties = {
+    "activity.retention.mode=partition",
+    "activity.retention.days=30",
+    "retention.email-verification.days=7",
+    "retention.password-reset-token.days=0",
+    "retention.chunk-size=7",
+    "retention.duty-cycle=1",
+    "retention.business-duty-cycle=1"
+})
+@Import(DataRetentionService.class)
+class DataRetentionServiceTest {
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataRetentionService dataRetentionService;
+
+    @Test
+    void fallsBackToIdRangeChunksWithoutPartitions() {
+        User user = new TestFixtures(entityManager).user("retention");
+        for (int i = 0; i < 25; i++) {
+            ActivityLog activityLog = new ActivityLog();
+            activityLog.setUser(user);
+            activityLog.setType(ActivityType.ISSUE_CREATE);
+            activityLog.setTitle("activity " + i);
+            // 20건은 보존 기간이 지난 항목
+            activityLog.setTimestamp(i < 20 ? LocalDateTime.now().minusDays(40) : LocalDateTime.now());
+            entityManager.persist(activityLog);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(20, dataRetentionService.purge("activity_logs"));
+        assertEquals(5, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM activity_logs", Long.class));
+
+        Map<String, Object> progress = dataRetentionService.status().get(0);
+        assertEquals("activity_logs", progress.get("table"));
+        assertEquals(20L, progress.get("deletedRows"));
+        assertEquals(3L, progress.get("chunks"), "ID 폭 7 구간 3개");
+        assertEquals(true, progress.get("completed"));
+    }
+
+    @Test
+    void purgesExpiredVerificationAndResetTokens() {
+        User user = new TestFixtures(entityManager).user("tokens");
+        for (int i = 0; i < 10; i++) {
+            EmailVerification verification = new EmailVerification();
+            verification.setEmail("user" + i + "@example.com");
+            verification.setToken("verify-" + i);
+            verification.setCreatedAt(i < 6 ? LocalDateTime.now().minusDays(8) : LocalDateTime.now());
+            entityManager.persist(verification);
+
+            PasswordResetToken token = new PasswordResetToken();
+            token.setUser(user);
+            token.setToken("reset-" + i);
+            token.setExpiryDate(i < 4 ? LocalDateTime.now().minusMinutes(1) : LocalDateTime.now().plusHours(1));
+            entityManager.persist(token);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        dataRetentionService.applyRetention();
+
+        assertEquals(4, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM email_verification", Long.class));
+        assertEquals(6, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM password_reset_token", Long.class));
+        assertTrue(dataRetentionService.status().stream().allMatch(progress -> progress.get("error") == null));
+    }
+}
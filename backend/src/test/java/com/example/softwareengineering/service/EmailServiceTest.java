@@ -0,0 +1,19 @@
+package com.example.softwareengineering.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 인증번호 메일의 유효 시간 안내 문구가 설정(verification.code.ttl-minutes)을 따르는지 확인.
+ */
+class EmailServiceTest {
+
+    @Test
+    void formatsConfiguredTtl() {
+        assertEquals("1시간", EmailService.formatTtl(60));
+        assertEquals("10분", EmailService.formatTtl(10));
+        assertEquals("1시간 30분", EmailService.formatTtl(90));
+        assertEquals("24시간", EmailService.formatTtl(1440));
+    }
+}
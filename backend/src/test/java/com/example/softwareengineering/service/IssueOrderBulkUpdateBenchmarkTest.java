@@ -0,0 +1,205 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.dto.IssueOrderUpdateRequest;
+import com.example.softwareengineering.entity.*;
+import com.example.softwareengineering.repository.UserIssueOrderBatchRepository;
+import com.example.softwareengineering.support.H2DataJpaTest;
+import com.example.softwareengineering.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이슈 순서 일괄 변경이 카드 수와 관계없이 같은 수의 SQL 왕복만 실행하고, 요청한 순서대로 보이는지 확인.
+ */
+@H2DataJpaTest
+@Import({IssueService.class, StatusColumnIndex.class, UserIssueOrderBatchRepository.class, IssueOrderBulkUpdateBenchmarkTest.StatementCounterConfig.class})
+class IssueOrderBulkUpdateBenchmarkTest {
+
+    private static final AtomicLong EXECUTED = new AtomicLong();
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private ProjectService projectService;
+
+    @MockBean
+    private ActivityLogService activityLogService;
+
+    @MockBean
+    private PermissionService permissionService;
+
+    @Test
+    void reorderRunsConstantNumberOfStatements() {
+        when(permissionService.getProjectRole(anyLong(), anyLong())).thenReturn(Optional.of(MemberRole.MEMBER));
+
+        Board small = createBoard("small", "SML", 5);
+        Board large = createBoard("large", "LRG", 500);
+
+        // 맨 아래 카드를 맨 위로: 기존 행이 없으므로 조회 3번 + INSERT 배치 1번
+        long smallDrag = measure(small, moveLastToTop(small.issueIds()));
+        long largeDrag = measure(large, moveLastToTop(large.issueIds()));
+        assertEquals(smallDrag, largeDrag);
+        assertEquals(4, largeDrag);
+
+        // 전체 뒤집기: 499장이 한 틈에 새 키를 받아도 INSERT 배치 1번
+        List<Long> reversed = new ArrayList<>(moveLastToTop(large.issueIds()));
+        Collections.reverse(reversed);
+        assertEquals(4, measure(large, reversed));
+
+        // 반복 드래그도 같은 수
+        for (int round = 0; round < 5; round++) {
+            List<Long> order = new ArrayList<>(reversed);
+            order.add(round * 97 % order.size(), order.remove(order.size() - 1 - round));
+            assertEquals(4, measure(large, order), "기존 행만 갱신하면 조회 3번 + UPDATE 배치 1번");
+            reversed = order;
+        }
+    }
+
+    private long measure(Board board, List<Long> order) {
+        List<IssueOrderUpdateRequest> requests = new ArrayList<>(order.size());
+        for (int i = 0; i < order.size(); i++) {
+            IssueOrderUpdateRequest request = new IssueOrderUpdateRequest();
+            request.setIssueId(order.get(i));
+            request.setOrder(i);
+            requests.add(request);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        EXECUTED.set(0);
+
+        issueService.updateIssueOrders(requests, board.userId());
+        long statements = EXECUTED.get();
+
+        entityManager.clear();
+        assertEquals(order, effectiveOrder(board), "요청한 순서대로 보여야 합니다.");
+        return statements;
+    }
+
+    // 보드 읽기 모델과 같은 규칙: 같은 칼럼의 사용자 키 → 이슈 기본 키 → 이슈 ID
+    private List<Long> effectiveOrder(Board board) {
+        Map<Long, String> overrides = new HashMap<>();
+        entityManager.createQuery(
+                "SELECT uo.issue.id, uo.rankKey FROM UserIssueOrder uo WHERE uo.user.id = :userId AND uo.column = uo.issue.column",
+                Object[].class)
+            .setParameter("userId", board.userId())
+            .getResultList()
+            .forEach(row -> overrides.put((Long) row[0], (String) row[1]));
+        List<Object[]> issues = entityManager.createQuery(
+                "SELECT i.id, i.rankKey FROM Issue i WHERE i.project.id = :projectId ORDER BY i.id", Object[].class)
+            .setParameter("projectId", board.projectId())
+            .getResultList();
+        return issues.stream()
+            .sorted(Comparator.comparing((Object[] row) -> overrides.getOrDefault((Long) row[0], (String) row[1])))
+            .map(row -> (Long) row[0])
+            .toList();
+    }
+
+    private static List<Long> moveLastToTop(List<Long> issueIds) {
+        List<Long> order = new ArrayList<>(issueIds);
+        order.add(0, order.remove(order.size() - 1));
+        return order;
+    }
+
+    private record Board(Long projectId, Long userId, List<Long> issueIds) {
+    }
+
+    private Board createBoard(String name, String key, int issueCount) {
+        TestFixtures fixtures = new TestFixtures(entityManager);
+        User user = fixtures.user(key.toLowerCase());
+        Project project = fixtures.project(user, name, key);
+        BoardColumn column = fixtures.column(project, "To Do", 1);
+
+        List<Long> issueIds = new ArrayList<>(issueCount);
+        for (int i = 0; i < issueCount; i++) {
+            issueIds.add(fixtures.issue(column, user, "issue-" + i, RankKeys.initial(i + 1)).getId());
+        }
+        return new Board(project.getId(), user.getId(), issueIds);
+    }
+
+    /**
+     * 커넥션에서 실행되는 SQL 왕복 수를 센다 (배치는 executeBatch 한 번으로 센다).
+     */
+    @TestConfiguration
+    static class StatementCounterConfig {
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource) || bean instanceof DelegatingDataSource) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return countingConnection(super.getConnection());
+                        }
+                    };
+                }
+            };
+        }
+
+        private static Connection countingConnection(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof PreparedStatement statement) {
+                        return countingStatement(statement, PreparedStatement.class);
+                    }
+                    if (result instanceof Statement statement) {
+                        return countingStatement(statement, Statement.class);
+                    }
+                    return result;
+                });
+        }
+
+        private static <T extends Statement> Object countingStatement(T statement, Class<T> type) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("execute")) {
+                        EXECUTED.incrementAndGet();
+                    }
+                    return invoke(statement, method, args);
+                });
+        }
+
+        private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
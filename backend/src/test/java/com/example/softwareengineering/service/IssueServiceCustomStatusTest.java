@@ -0,0 +1,80 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.dto.IssueUpdateRequest;
+import com.example.softwareengineering.entity.*;
+import com.example.softwareengineering.repository.UserIssueOrderBatchRepository;
+import com.example.softwareengineering.support.H2DataJpaTest;
+import com.example.softwareengineering.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * 커스텀 상태를 바꾸면 그 상태에 연결된 칼럼(custom_issue_statuses.column_id)으로 이슈가 옮겨지는지 확인.
+ */
+@H2DataJpaTest
+@Import({IssueService.class, StatusColumnIndex.class, UserIssueOrderBatchRepository.class})
+class IssueServiceCustomStatusTest {
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private ProjectService projectService;
+
+    @MockBean
+    private ActivityLogService activityLogService;
+
+    @MockBean
+    private PermissionService permissionService;
+
+    @Test
+    void customStatusMovesIssueToMappedColumn() {
+        when(permissionService.canManageProject(any(), anyLong())).thenReturn(true);
+
+        TestFixtures fixtures = new TestFixtures(entityManager);
+        User user = fixtures.user("custom");
+        Project project = fixtures.project(user, "custom", "CUS");
+        BoardColumn todo = fixtures.column(project, "To Do", 1);
+        BoardColumn review = fixtures.column(project, "Review", 2);
+        Issue issue = fixtures.issue(todo, user, "issue", RankKeys.initial(1));
+        CustomIssueStatus inReview = CustomIssueStatus.builder().name("In Review").project(project)
+            .orderIndex(1).column(review).build();
+        entityManager.persist(inReview);
+        CustomIssueStatus unmapped = CustomIssueStatus.builder().name("Blocked").project(project)
+            .orderIndex(2).build();
+        entityManager.persist(unmapped);
+        entityManager.flush();
+        entityManager.clear();
+
+        issueService.updateIssue(issue.getId(), customStatus(inReview.getId()), user.getId());
+        entityManager.flush();
+        entityManager.clear();
+        Issue moved = entityManager.find(Issue.class, issue.getId());
+        assertEquals(review.getId(), moved.getColumn().getId());
+        assertEquals(inReview.getId(), moved.getCustomStatus().getId());
+
+        // 칼럼이 없는 상태는 칼럼을 그대로 둔다
+        issueService.updateIssue(issue.getId(), customStatus(unmapped.getId()), user.getId());
+        entityManager.flush();
+        entityManager.clear();
+        Issue kept = entityManager.find(Issue.class, issue.getId());
+        assertEquals(review.getId(), kept.getColumn().getId());
+        assertEquals(unmapped.getId(), kept.getCustomStatus().getId());
+    }
+
+    private static IssueUpdateRequest customStatus(Long customStatusId) {
+        IssueUpdateRequest request = new IssueUpdateRequest();
+        request.setCustomStatusId(customStatusId);
+        return request;
+    }
+}
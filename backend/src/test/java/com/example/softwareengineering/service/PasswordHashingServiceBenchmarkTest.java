@@ -0,0 +1,103 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.exception.ServiceBusyException;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 로그인 폭주 중 보드 조회 지연 비교 (./gradlew benchmark 로 실행).
+ * 커넥션 풀(Hikari 10개)을 세마포어로 흉내 내고,
+ * 트랜잭션 안에서 BCrypt를 기다릴 때(커넥션 점유)와 조회/저장 사이에서 커넥션 없이 해시할 때
+ * 보드 조회 p95 지연을 측정한다.
+ */
+@Tag("benchmark")
+class PasswordHashingServiceBenchmarkTest {
+    private static final int POOL_SIZE = 10;
+    private static final int REQUEST_THREADS = 40;
+    private static final int LOGINS = 64;
+    private static final int BOARD_READS = 40;
+    private static final String PASSWORD = "password1234";
+
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(10);
+    private final String hash = encoder.encode(PASSWORD);
+
+    @Test
+    void boardReadLatencyDuringLoginStorm() throws Exception {
+        long heldP95 = runStorm((pool, hashing) -> {
+            // 기존: 트랜잭션이 커넥션을 잡은 채로 해시 결과를 기다림
+            withConnection(pool, 1, () -> hashing.matches(PASSWORD, hash));
+        });
+        long releasedP95 = runStorm((pool, hashing) -> {
+            // 변경: 사용자 조회 → 커넥션 반납 → 해시 → 짧은 UPDATE
+            withConnection(pool, 1, () -> null);
+            hashing.matches(PASSWORD, hash);
+            withConnection(pool, 1, () -> null);
+        });
+
+        System.out.printf("board read p95 during login storm: connection held=%dms, released=%dms%n",
+            heldP95, releasedP95);
+        assertTrue(releasedP95 < heldP95, "해시 중 커넥션을 놓으면 보드 조회 지연이 더 작아야 합니다.");
+    }
+
+    private interface Login {
+        void run(Semaphore pool, PasswordHashingService hashing) throws Exception;
+    }
+
+    private long runStorm(Login login) throws Exception {
+        Semaphore pool = new Semaphore(POOL_SIZE, true);
+        PasswordHashingService hashing = new PasswordHashingService(encoder, 10, 2, 32, 5000);
+        ExecutorService requestPool = Executors.newFixedThreadPool(REQUEST_THREADS);
+        try {
+            for (int i = 0; i < LOGINS; i++) {
+                requestPool.submit(() -> {
+                    try {
+                        login.run(pool, hashing);
+                    } catch (ServiceBusyException ignored) {
+                        // 포화 시 503 거절
+                    }
+                    return null;
+                });
+            }
+            List<Future<Long>> reads = new ArrayList<>();
+            for (int i = 0; i < BOARD_READS; i++) {
+                long submittedAt = System.nanoTime();
+                reads.add(requestPool.submit(() -> {
+                    withConnection(pool, 2, () -> null); // 보드 조회 한 건
+                    return (System.nanoTime() - submittedAt) / 1_000_000;
+                }));
+                Thread.sleep(5);
+            }
+            List<Long> latencies = new ArrayList<>();
+            for (Future<Long> read : reads) {
+                latencies.add(read.get());
+            }
+            Collections.sort(latencies);
+            return latencies.get((int) Math.ceil(latencies.size() * 0.95) - 1);
+        } finally {
+            requestPool.shutdownNow();
+            hashing.shutdown();
+        }
+    }
+
+    private static <T> T withConnection(Semaphore pool, long queryMs, Callable<T> work) throws Exception {
+        pool.acquire();
+        try {
+            Thread.sleep(queryMs);
+            return work.call();
+        } finally {
+            pool.release();
+        }
+    }
+}
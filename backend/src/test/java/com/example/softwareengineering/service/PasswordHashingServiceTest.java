@@ -0,0 +1,83 @@
+package com.example.softwareengineering.service;
+
+import com.example.softwareengineering.exception.GlobalExceptionHandler;
+import com.example.softwareengineering.exception.ServiceBusyException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 해시 실행기의 작업 스레드와 대기열이 모두 차면 다음 요청은 기다리지 않고 503(Retry-After)으로 거절된다.
+ */
+class PasswordHashingServiceTest {
+    private static final int WORKERS = 2;
+    private static final int QUEUE_CAPACITY = 2;
+
+    @Test
+    void rejectsWithServiceBusyWhenWorkersAndQueueAreFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordHashingService hashingService =
+            new PasswordHashingService(new BlockingEncoder(release), 10, WORKERS, QUEUE_CAPACITY, 10_000);
+        ExecutorService callers = Executors.newFixedThreadPool(WORKERS + QUEUE_CAPACITY);
+        try {
+            List<Future<String>> pending = new ArrayList<>();
+            for (int i = 0; i < WORKERS + QUEUE_CAPACITY; i++) {
+                pending.add(callers.submit(() -> hashingService.encode("password")));
+            }
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (hashingService.getActiveCount() < WORKERS || hashingService.getQueueSize() < QUEUE_CAPACITY) {
+                assertTrue(System.currentTimeMillis() < deadline, "작업 스레드와 대기열이 차지 않았습니다.");
+                Thread.sleep(10);
+            }
+
+            ServiceBusyException busy = assertThrows(ServiceBusyException.class, () -> hashingService.encode("password"));
+            assertEquals(1, hashingService.getRejectedCount());
+
+            ResponseEntity<Map<String, Object>> response = new GlobalExceptionHandler().handleServiceBusyException(busy);
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+            assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+
+            release.countDown();
+            for (Future<String> future : pending) {
+                assertEquals("hashed", future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+            hashingService.shutdown();
+        }
+    }
+
+    // 풀려날 때까지 작업 스레드를 붙잡아 두는 인코더
+    private record BlockingEncoder(CountDownLatch release) implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed";
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
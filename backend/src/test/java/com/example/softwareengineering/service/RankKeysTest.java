@@ -0,0 +1,155 @@
+package com.example.softwareengineering.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 순위 키 생성 규칙: 항상 lo < 결과 < hi 이고, '0'으로 끝나지 않으며, 위치 번호를 다 쓰면 더 긴 키로 넘어간다.
+ */
+class RankKeysTest {
+
+    @Test
+    void afterAndBeforeStepThePositionNumber() {
+        assertEquals("00001i", RankKeys.initial(1));
+        assertEquals("00001i", RankKeys.after(null));
+        assertEquals("00001i", RankKeys.before(null));
+        assertEquals("0000ai", RankKeys.after("00009i"));
+        assertEquals("00009i", RankKeys.before("0000ai"));
+        // 위치 번호 뒤에 붙은 자리는 무시하고 다음 위치로
+        assertEquals("00003i", RankKeys.after("00002ir"));
+    }
+
+    @Test
+    void afterAndBeforeFallBackToLongerKeysAtTheEnds() {
+        String last = RankKeys.initial(36L * 36 * 36 * 36 * 36 - 1);
+        assertEquals("zzzzzi", last);
+        String next = RankKeys.after(last);
+        assertOrdered(last, next, null);
+
+        String first = RankKeys.initial(1);
+        String previous = RankKeys.before(first);
+        assertOrdered(null, previous, first);
+        assertOrdered(null, RankKeys.before(previous), previous);
+
+        assertThrows(IllegalArgumentException.class, () -> RankKeys.initial(0));
+        assertThrows(IllegalArgumentException.class, () -> RankKeys.initial(36L * 36 * 36 * 36 * 36));
+    }
+
+    @Test
+    void betweenWithEmptyBounds() {
+        assertEquals("i", RankKeys.between(null, null));
+        assertOrdered(null, RankKeys.between(null, "00001i"), "00001i");
+        assertOrdered("zzzzzi", RankKeys.between("zzzzzi", null), null);
+    }
+
+    @Test
+    void betweenAdjacentKeys() {
+        assertEquals("ai", RankKeys.between("a", "b"));
+        // 한 자리 차이만 나는 키 사이에는 한 자리 더 긴 키
+        assertEquals("a0i", RankKeys.between("a", "a1"));
+        assertOrdered("00001i", RankKeys.between("00001i", "00002i"), "00002i");
+        assertOrdered("00001i", RankKeys.between("00001i", "00001i1"), "00001i1");
+    }
+
+    @Test
+    void betweenRejectsEqualOrReversedBounds() {
+        assertThrows(IllegalArgumentException.class, () -> RankKeys.between("00002i", "00002i"));
+        assertThrows(IllegalArgumentException.class, () -> RankKeys.between("00003i", "00002i"));
+        assertThrows(IllegalArgumentException.class, () -> RankKeys.between("00003i", "00002i", 3));
+    }
+
+    @Test
+    void repeatedInsertsIntoTheSameGapStayOrdered() {
+        String lo = "00001i";
+        String hi = "00002i";
+        List<String> appended = new ArrayList<>();
+        // 항상 바로 앞 카드 뒤(= hi 바로 앞)에 넣기: 키가 조금씩 길어지지만 순서는 유지된다
+        String previous = lo;
+        for (int i = 0; i < 200; i++) {
+            String key = RankKeys.between(previous, hi);
+            assertOrdered(previous, key, hi);
+            appended.add(key);
+            previous = key;
+        }
+        // 항상 lo 바로 뒤에 넣기
+        List<String> prepended = new ArrayList<>();
+        String next = hi;
+        for (int i = 0; i < 200; i++) {
+            String key = RankKeys.between(lo, next);
+            assertOrdered(lo, key, next);
+            prepended.add(key);
+            next = key;
+        }
+        assertEquals(appended.size(), new HashSet<>(appended).size(), "같은 틈에 넣은 키는 모두 달라야 합니다.");
+        assertEquals(prepended.size(), new HashSet<>(prepended).size(), "같은 틈에 넣은 키는 모두 달라야 합니다.");
+    }
+
+    @Test
+    void betweenSpreadsManyKeysInOneGap() {
+        String[] keys = RankKeys.between("00001i", "00002i", 100);
+        assertEquals(100, keys.length);
+        String previous = "00001i";
+        for (String key : keys) {
+            assertOrdered(previous, key, "00002i");
+            // 한 틈에 거듭 between을 쓰는 것과 달리 가장 짧은 자리 수에서 나눠 준다
+            assertTrue(key.length() <= 7, key);
+            previous = key;
+        }
+
+        String[] open = RankKeys.between(null, null, 3);
+        assertOrdered(null, open[0], open[1]);
+        assertOrdered(open[0], open[1], open[2]);
+        assertArrayEquals(new String[]{RankKeys.between("a", "b")}, RankKeys.between("a", "b", 1));
+    }
+
+    @Test
+    void betweenWithCountFailsWhenTheGapOverflows() {
+        // 최대 자리 수(12)까지 늘려도 끝 키 뒤에 두 개를 넣을 자리가 없다
+        String end = "zzzzzzzzzzzz";
+        assertThrows(IllegalArgumentException.class, () -> RankKeys.between(end, null, 2));
+        // 한 개는 길이 제한 없이 between으로 만든다
+        assertOrdered(end, RankKeys.between(end, null, 1)[0], null);
+    }
+
+    @Test
+    void keepIncreasingMarksLongestIncreasingRun() {
+        assertArrayEquals(new boolean[]{false, true, true, true},
+            RankKeys.keepIncreasing(new String[]{"b", "a", "c", "d"}));
+        // 카드 하나를 맨 앞으로 옮긴 경우: 옮긴 카드만 새 키를 받는다
+        assertArrayEquals(new boolean[]{false, true, true, true},
+            RankKeys.keepIncreasing(new String[]{"00004i", "00001i", "00002i", "00003i"}));
+        assertArrayEquals(new boolean[]{true, true, true},
+            RankKeys.keepIncreasing(new String[]{"00001i", "00002i", "00003i"}));
+        assertArrayEquals(new boolean[0], RankKeys.keepIncreasing(new String[0]));
+    }
+
+    @Test
+    void keepIncreasingSkipsNullAndDuplicateKeys() {
+        assertArrayEquals(new boolean[]{true, false, true},
+            RankKeys.keepIncreasing(new String[]{"a", null, "b"}));
+        assertArrayEquals(new boolean[]{false, false},
+            RankKeys.keepIncreasing(new String[]{null, null}));
+        // 같은 키는 순서를 정하지 못하므로 하나만 유지
+        boolean[] keep = RankKeys.keepIncreasing(new String[]{"a", "a"});
+        assertTrue(keep[0] ^ keep[1]);
+    }
+
+    private static void assertOrdered(String lo, String key, String hi) {
+        assertFalse(key.endsWith("0"), "키는 '0'으로 끝나지 않아야 합니다: " + key);
+        if (lo != null) {
+            assertTrue(lo.compareTo(key) < 0, lo + " < " + key);
+        }
+        if (hi != null) {
+            assertTrue(key.compareTo(hi) < 0, key + " < " + hi);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.softwareengineering.support;
+
+import com.example.softwareengineering.entity.BoardColumn;
+import com.example.softwareengineering.entity.Issue;
+import com.example.softwareengineering.entity.IssueStatus;
+import com.example.softwareengineering.entity.Project;
+import com.example.softwareengineering.entity.Site;
+import com.example.softwareengineering.entity.User;
+import jakarta.persistence.EntityManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테스트 공통 데이터(사용자, 사이트/프로젝트, 칼럼, 이슈)를 만들어 바로 저장한다.
+ */
+public class TestFixtures {
+    private final EntityManager entityManager;
+
+    public TestFixtures(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public User user(String userId) {
+        User user = User.builder().email(userId + "@example.com").password("x").userId(userId).build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    // 같은 이름의 사이트를 함께 만든다 (project.getSite())
+    public Project project(User owner, String name, String key) {
+        Site site = Site.builder().name(name).owner(owner).createdAt(LocalDateTime.now()).build();
+        entityManager.persist(site);
+        Project project = Project.builder().name(name).key(key).site(site)
+            .createdAt(LocalDateTime.now()).createdBy(owner).build();
+        entityManager.persist(project);
+        return project;
+    }
+
+    public BoardColumn column(Project project, String title, int orderIndex) {
+        BoardColumn column = BoardColumn.builder().title(title).project(project).orderIndex(orderIndex).isActive(true).build();
+        entityManager.persist(column);
+        return column;
+    }
+
+    public Issue issue(BoardColumn column, User reporter, String title, String rankKey) {
+        Issue issue = Issue.builder().title(title).project(column.getProject()).column(column)
+            .reporter(reporter).createdBy(reporter).status(IssueStatus.TODO).rankKey(rankKey).build();
+        entityManager.persist(issue);
+        return issue;
+    }
+}